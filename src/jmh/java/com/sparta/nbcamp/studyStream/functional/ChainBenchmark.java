@@ -0,0 +1,103 @@
+package com.sparta.nbcamp.studyStream.functional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 길이 stages 의 andThen 체인: Function(boxed) / IntUnaryOperator / IntChain(fused) / IntChain.boxed() 비교.
+ * 단계는 +i, *3, ^i 를 번갈아 쓴다. 연속된 +, * 는 합쳐지므로 IntChain 은 단계 수가 약 2/3 로 준다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChainBenchmark {
+
+    @Param({"4", "16", "64"})
+    int stages;
+
+    @Param({"100000"})
+    int size;
+
+    int[] values;
+    int[] result;
+    Integer[] boxedResult;
+    Function<Integer, Integer> function;
+    IntUnaryOperator operator;
+    IntChain chain;
+    Function<Integer, Integer> boxedChain;
+
+    @Setup
+    public void setUp() {
+        values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = 1000 + i;
+        }
+        result = new int[size];
+        boxedResult = new Integer[size];
+
+        function = Function.identity();
+        operator = IntUnaryOperator.identity();
+        chain = IntChain.identity();
+        for (int i = 0; i < stages; i++) {
+            int operand = i + 1;
+            switch (i % 3) {
+                case 0 -> {
+                    function = function.andThen(x -> x + operand);
+                    operator = operator.andThen(x -> x + operand);
+                    chain = chain.add(operand);
+                }
+                case 1 -> {
+                    function = function.andThen(x -> x * 3);
+                    operator = operator.andThen(x -> x * 3);
+                    chain = chain.multiply(3);
+                }
+                default -> {
+                    function = function.andThen(x -> x ^ operand);
+                    operator = operator.andThen(x -> x ^ operand);
+                    chain = chain.xor(operand);
+                }
+            }
+        }
+        boxedChain = chain.boxed();
+    }
+
+    @Benchmark
+    public Integer[] functionAndThen() {
+        for (int i = 0; i < size; i++) {
+            boxedResult[i] = function.apply(values[i]);
+        }
+        return boxedResult;
+    }
+
+    @Benchmark
+    public int[] intUnaryOperatorAndThen() {
+        for (int i = 0; i < size; i++) {
+            result[i] = operator.applyAsInt(values[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int[] fusedChain() {
+        chain.applyAll(values, result);
+        return result;
+    }
+
+    @Benchmark
+    public Integer[] fusedChainBoxed() {
+        for (int i = 0; i < size; i++) {
+            boxedResult[i] = boxedChain.apply(values[i]);
+        }
+        return boxedResult;
+    }
+}
@@ -0,0 +1,58 @@
+package com.sparta.nbcamp.studyStream.functional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Foo(boxed) vs IntFoo(primitive). gc 프로파일러의 gc.alloc.rate.norm 으로 요소당 할당량을 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FooBenchmark {
+
+    @Param({"1000", "1000000"})
+    int size;
+
+    int[] numbers1;
+    int[] numbers2;
+    int[] result;
+    Integer[] boxedResult;
+
+    final Foo foo = (number1, number2) -> number1 + number2;
+    final IntFoo intFoo = (number1, number2) -> number1 + number2;
+
+    @Setup
+    public void setUp() {
+        numbers1 = new int[size];
+        numbers2 = new int[size];
+        result = new int[size];
+        boxedResult = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            numbers1[i] = 1000 + i;
+            numbers2[i] = 2000 + i;
+        }
+    }
+
+    @Benchmark
+    public Integer[] boxedFoo() {
+        for (int i = 0; i < size; i++) {
+            boxedResult[i] = foo.operate(numbers1[i], numbers2[i]);
+        }
+        return boxedResult;
+    }
+
+    @Benchmark
+    public int[] intFooOperateAll() {
+        intFoo.operateAll(numbers1, numbers2, result);
+        return result;
+    }
+}
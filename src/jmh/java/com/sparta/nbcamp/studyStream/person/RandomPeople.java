@@ -0,0 +1,37 @@
+package com.sparta.nbcamp.studyStream.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 Person 데이터 생성기. 같은 seed면 항상 같은 데이터를 만든다.
+ */
+public final class RandomPeople {
+    public static final long SEED = 20240627L;
+
+    private static final String[] NAMES = {
+            "Kim", "Lee", "Hong", "Park", "Kang", "Han", "Ko", "Koo", "Jeong", "Hwang",
+            "Son", "Na", "Jang", "Min", "Choi", "Yoon", "Lim", "Shin", "Oh", "Seo"
+    };
+    private static final Mbti[] MBTI = Mbti.values();
+    private static final Gender[] GENDERS = Gender.values();
+
+    private RandomPeople() {
+    }
+
+    public static List<Person> generate(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Person> people = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            people.add(new Person(
+                    (long) i + 1,
+                    NAMES[random.nextInt(NAMES.length)],
+                    random.nextInt(10, 70),
+                    MBTI[random.nextInt(MBTI.length)].name(),
+                    GENDERS[random.nextInt(GENDERS.length)]
+            ));
+        }
+        return people;
+    }
+}
@@ -0,0 +1,87 @@
+package com.sparta.nbcamp.studyStream.person.aggregate;
+
+import com.sparta.nbcamp.studyStream.person.Gender;
+import com.sparta.nbcamp.studyStream.person.Mbti;
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.RandomPeople;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * 병렬 그룹핑 확장성 : groupingBy / groupingByConcurrent / DenseGrouping(배열 병합) / DenseGrouping(CONCURRENT 스트라이프).
+ * parallelism 을 바꿔 가며 코어 수에 따른 처리량을 비교한다. (코어 수보다 큰 값은 의미가 없다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+public class DenseGroupingBenchmark {
+
+    @Param({"1000000"})
+    int size;
+
+    @Param({"1", "2", "4", "8", "16"})
+    int parallelism;
+
+    List<Person> people;
+    ForkJoinPool pool;
+    DenseKey<Person, Mbti> mbti;
+    DenseKey<Person, Gender> gender;
+
+    @Setup
+    public void setUp() {
+        people = RandomPeople.generate(size);
+        pool = new ForkJoinPool(parallelism);
+        mbti = DenseKey.mbti();
+        gender = DenseKey.gender();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Map<String, Long> mbtiGroupingBy() {
+        return pool.submit(() -> people.parallelStream()
+                .collect(Collectors.groupingBy(Person::getMbti, Collectors.counting()))).join();
+    }
+
+    @Benchmark
+    public Map<String, Long> mbtiGroupingByConcurrent() {
+        return pool.submit(() -> people.parallelStream()
+                .collect(Collectors.groupingByConcurrent(Person::getMbti, Collectors.counting()))).join();
+    }
+
+    @Benchmark
+    public Map<Mbti, Long> mbtiDense() {
+        return pool.submit(() -> people.parallelStream().collect(DenseGrouping.counting(mbti))).join();
+    }
+
+    @Benchmark
+    public Map<Mbti, Long> mbtiDenseConcurrent() {
+        return pool.submit(() -> people.parallelStream().collect(DenseGrouping.countingConcurrent(mbti))).join();
+    }
+
+    @Benchmark
+    public Map<Gender, Double> genderAverageGroupingBy() {
+        return pool.submit(() -> people.parallelStream()
+                .collect(Collectors.groupingBy(Person::getGender, Collectors.averagingInt(Person::getAge)))).join();
+    }
+
+    @Benchmark
+    public Map<Gender, Double> genderAverageDense() {
+        return pool.submit(() -> people.parallelStream()
+                .collect(DenseGrouping.averaging(gender, Person::getAge))).join();
+    }
+}
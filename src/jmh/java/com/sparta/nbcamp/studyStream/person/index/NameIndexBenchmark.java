@@ -0,0 +1,57 @@
+package com.sparta.nbcamp.studyStream.person.index;
+
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import com.sparta.nbcamp.studyStream.person.RandomPeople;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대소문자 무시 이름 검색 : 행마다 toLowerCase 하는 스트림 vs NameIndex. 인덱스 생성 비용은 제외한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameIndexBenchmark {
+
+    @Param({"1000000"})
+    int size;
+
+    List<Person> people;
+    NameIndex index;
+
+    @Setup
+    public void setUp() {
+        people = RandomPeople.generate(size);
+        index = NameIndex.of(PersonTable.from(people));
+    }
+
+    @Benchmark
+    public long exactToLowerCase() {
+        return people.stream().map(Person::getName).map(String::toLowerCase).filter("kim"::equals).count();
+    }
+
+    @Benchmark
+    public long exactIndex() {
+        return index.count("KIM");
+    }
+
+    @Benchmark
+    public long prefixToLowerCase() {
+        return people.stream().filter(person -> person.getName().toLowerCase().startsWith("k")).count();
+    }
+
+    @Benchmark
+    public long prefixIndex() {
+        return index.countByPrefix("K");
+    }
+}
@@ -0,0 +1,116 @@
+package com.sparta.nbcamp.studyStream.person.kernel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 나이 열 집계: IntStream / 스칼라 커널 / 벡터 커널 비교.
+ * <p>
+ * 레인 수는 JVM이 고른 SPECIES_PREFERRED 에 따라 달라진다. AVX-512 CPU에서는 기본 실행이 512비트(16레인),
+ * {@link Avx2} 는 -XX:UseAVX=2 로 256비트(8레인)까지만 쓰게 해서 AVX-512가 없는 CPU를 흉내낸다. (x86 전용 옵션)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AgeKernelBenchmark {
+
+    @Param({"1000000"})
+    int size;
+
+    int[] ages;
+    long[] females;
+    IntColumnKernel scalar;
+    IntColumnKernel vector;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        ages = random.ints(size, 0, 100).toArray();
+        BitSet bits = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            bits.set(i, random.nextBoolean());
+        }
+        females = bits.toLongArray();
+        scalar = IntColumnKernels.scalar();
+        vector = IntColumnKernels.vector();
+    }
+
+    @Benchmark
+    public long sumIntStream() {
+        return IntStream.of(ages).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long sumScalar() {
+        return scalar.sum(ages, size);
+    }
+
+    @Benchmark
+    public long sumVector() {
+        return vector.sum(ages, size);
+    }
+
+    @Benchmark
+    public int maxIntStream() {
+        return IntStream.of(ages).max().orElse(Integer.MIN_VALUE);
+    }
+
+    @Benchmark
+    public int maxScalar() {
+        return scalar.max(ages, size);
+    }
+
+    @Benchmark
+    public int maxVector() {
+        return vector.max(ages, size);
+    }
+
+    @Benchmark
+    public long count20sIntStream() {
+        return IntStream.of(ages).filter(age -> age >= 20 && age < 30).count();
+    }
+
+    @Benchmark
+    public long count20sScalar() {
+        return scalar.countInRange(ages, size, 20, 30);
+    }
+
+    @Benchmark
+    public long count20sVector() {
+        return vector.countInRange(ages, size, 20, 30);
+    }
+
+    @Benchmark
+    public long femaleSumIntStream() {
+        return IntStream.range(0, size)
+                .filter(row -> (females[row >>> 6] & (1L << row)) != 0)
+                .mapToLong(row -> ages[row])
+                .sum();
+    }
+
+    @Benchmark
+    public long femaleSumScalar() {
+        return scalar.maskedSum(ages, size, females, false);
+    }
+
+    @Benchmark
+    public long femaleSumVector() {
+        return vector.maskedSum(ages, size, females, false);
+    }
+
+    @Fork(jvmArgsPrepend = "-XX:UseAVX=2")
+    public static class Avx2 extends AgeKernelBenchmark {
+    }
+}
@@ -0,0 +1,83 @@
+package com.sparta.nbcamp.studyStream.person.sort;
+
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.RandomPeople;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stream.sorted(Comparator) vs RadixSorter. id 는 무작위 순서로 섞어 정렬할 일이 있게 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RadixSortBenchmark {
+
+    @Param({"1000000", "10000000"})
+    int size;
+
+    List<Person> people;
+    RadixSorter sequential;
+    RadixSorter parallel;
+
+    @Setup
+    public void setUp() {
+        people = new ArrayList<>(RandomPeople.generate(size));
+        Collections.shuffle(people, new Random(42));
+        sequential = RadixSorter.sequential();
+        parallel = RadixSorter.parallel();
+    }
+
+    @Benchmark
+    public List<Person> ageSorted() {
+        return people.stream().sorted(Comparator.comparing(Person::getAge)).toList();
+    }
+
+    @Benchmark
+    public List<Person> ageSortedParallel() {
+        return people.parallelStream().sorted(Comparator.comparing(Person::getAge)).toList();
+    }
+
+    @Benchmark
+    public List<Person> ageRadix() {
+        return sequential.sortByAge(people, SortOrder.ASCENDING);
+    }
+
+    @Benchmark
+    public List<Person> ageRadixParallel() {
+        return parallel.sortByAge(people, SortOrder.ASCENDING);
+    }
+
+    @Benchmark
+    public List<Person> idDescendingSorted() {
+        return people.stream().sorted(Comparator.comparing(Person::getId).reversed()).toList();
+    }
+
+    @Benchmark
+    public List<Person> idDescendingSortedParallel() {
+        return people.parallelStream().sorted(Comparator.comparing(Person::getId).reversed()).toList();
+    }
+
+    @Benchmark
+    public List<Person> idDescendingRadix() {
+        return sequential.sortById(people, SortOrder.DESCENDING);
+    }
+
+    @Benchmark
+    public List<Person> idDescendingRadixParallel() {
+        return parallel.sortById(people, SortOrder.DESCENDING);
+    }
+}
@@ -0,0 +1,58 @@
+package com.sparta.nbcamp.studyStream.pipeline;
+
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.RandomPeople;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 단계 측정(PipelineProbe)의 오버헤드. samplingInterval 0(꺼짐)이 plain 과 거의 같아야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PipelineProbeBenchmark {
+
+    @Param({"1000000"})
+    int size;
+
+    @Param({"0", "1024", "1"})
+    int samplingInterval;
+
+    List<Person> people;
+    Predicate<Person> thirties;
+    Predicate<Person> probedThirties;
+
+    @Setup
+    public void setUp() {
+        people = RandomPeople.generate(size);
+        thirties = person -> person.getAge() >= 30 && person.getAge() < 40;
+        PipelineMetrics metrics = new PipelineMetrics(samplingInterval);
+        probedThirties = metrics.pipeline("filter30s").filter("30s", thirties);
+    }
+
+    @Benchmark
+    public long filter30sPlain() {
+        return people.stream().filter(thirties).count();
+    }
+
+    @Benchmark
+    public long filter30sProbed() {
+        return people.stream().filter(probedThirties).count();
+    }
+
+    @Benchmark
+    public long filter30sProbedParallel() {
+        return people.parallelStream().filter(probedThirties).count();
+    }
+}
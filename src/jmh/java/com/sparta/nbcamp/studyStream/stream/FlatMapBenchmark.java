@@ -0,0 +1,67 @@
+package com.sparta.nbcamp.studyStream.stream;
+
+import com.sparta.nbcamp.studyStream.person.People;
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.RandomPeople;
+import com.sparta.nbcamp.studyStream.person.parallel.ParallelPersonQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * useFlatMap 처럼 People 그룹 여러 개를 병렬로 집계할 때 flatMap vs PeopleSpliterator vs ParallelPersonQuery.
+ * 그룹 수(groups)가 코어 수보다 적을수록 flatMap 병렬 Stream의 분할이 나빠진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlatMapBenchmark {
+
+    @Param({"1000000", "10000000"})
+    int size;
+
+    @Param({"3"})
+    int groups;
+
+    List<People> peopleList;
+    final ParallelPersonQuery query = new ParallelPersonQuery();
+
+    @Setup
+    public void setUp() {
+        List<Person> people = RandomPeople.generate(size);
+        peopleList = new ArrayList<>();
+        int groupSize = (size + groups - 1) / groups;
+        for (int from = 0; from < size; from += groupSize) {
+            peopleList.add(new People(people.subList(from, Math.min(size, from + groupSize))));
+        }
+    }
+
+    @Benchmark
+    public long count30sFlatMapParallelStream() {
+        return peopleList.parallelStream()
+                .flatMap(people -> people.getPeople().stream())
+                .filter(person -> person.getAge() >= 30 && person.getAge() < 40)
+                .count();
+    }
+
+    @Benchmark
+    public long count30sSpliteratorParallelStream() {
+        return ParallelPersonQuery.stream(peopleList, true)
+                .filter(person -> person.getAge() >= 30 && person.getAge() < 40)
+                .count();
+    }
+
+    @Benchmark
+    public long count30sForkJoin() {
+        return query.count(peopleList, person -> person.getAge() >= 30 && person.getAge() < 40);
+    }
+}
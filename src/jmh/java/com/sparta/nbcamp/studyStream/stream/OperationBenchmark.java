@@ -0,0 +1,161 @@
+package com.sparta.nbcamp.studyStream.stream;
+
+import com.sparta.nbcamp.studyStream.person.Gender;
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import com.sparta.nbcamp.studyStream.person.RandomPeople;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * OperationTest의 Stream / for문 쌍을 데이터 크기별로 비교한다.
+ * <ul>
+ *     <li>useStreamFilter vs useFor : 30대 필터링</li>
+ *     <li>useStreamPeakAndMapToInt vs malePeopleAverageAge : 남성 평균 나이</li>
+ * </ul>
+ * 각 쌍마다 순차 Stream, 병렬 Stream, for문(boxed, List&lt;Person&gt;)과
+ * PersonTable 열 배열 위의 IntStream, for문(primitive)을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OperationBenchmark {
+
+    @Param({"1000", "1000000", "10000000"})
+    int size;
+
+    List<Person> people;
+    PersonTable table;
+
+    @Setup
+    public void setUp() {
+        people = RandomPeople.generate(size);
+        table = PersonTable.from(people);
+    }
+
+    // 30대 필터링 (useStreamFilter vs useFor)
+
+    @Benchmark
+    public List<Person> filter30sStream() {
+        return people.stream()
+                .filter(person -> person.getAge() >= 30 && person.getAge() < 40)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Person> filter30sParallelStream() {
+        return people.parallelStream()
+                .filter(person -> person.getAge() >= 30 && person.getAge() < 40)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Person> filter30sFor() {
+        List<Person> people30s = new ArrayList<>();
+        for (Person person : people) {
+            if (person.getAge() >= 30 && person.getAge() < 40) {
+                people30s.add(person);
+            }
+        }
+        return people30s;
+    }
+
+    @Benchmark
+    public int[] filter30sPrimitiveStream() {
+        return IntStream.range(0, table.rowCount())
+                .filter(row -> table.age(row) >= 30 && table.age(row) < 40)
+                .toArray();
+    }
+
+    @Benchmark
+    public int[] filter30sPrimitiveParallelStream() {
+        return IntStream.range(0, table.rowCount())
+                .parallel()
+                .filter(row -> table.age(row) >= 30 && table.age(row) < 40)
+                .toArray();
+    }
+
+    @Benchmark
+    public int[] filter30sPrimitiveFor() {
+        return table.filterByAge(30, 40);
+    }
+
+    // 남성 평균 나이 (useStreamPeakAndMapToInt vs malePeopleAverageAge)
+
+    @Benchmark
+    public double averageMaleAgeStream() {
+        return people.stream()
+                .filter(person -> person.getGender() == Gender.MALE)
+                .map(Person::getAge)
+                .mapToInt(Integer::intValue)
+                .average()
+                .orElse(0.0);
+    }
+
+    @Benchmark
+    public double averageMaleAgeParallelStream() {
+        return people.parallelStream()
+                .filter(person -> person.getGender() == Gender.MALE)
+                .map(Person::getAge)
+                .mapToInt(Integer::intValue)
+                .average()
+                .orElse(0.0);
+    }
+
+    @Benchmark
+    public double averageMaleAgeFor() {
+        double ageSum = 0;
+        double count = 0;
+        for (Person person : people) {
+            if (person.getGender() == Gender.MALE) {
+                ageSum += person.getAge();
+                count += 1;
+            }
+        }
+        return ageSum / count;
+    }
+
+    @Benchmark
+    public double averageMaleAgePrimitiveStream() {
+        return IntStream.range(0, table.rowCount())
+                .filter(row -> table.gender(row) == Gender.MALE)
+                .map(table::age)
+                .average()
+                .orElse(0.0);
+    }
+
+    @Benchmark
+    public double averageMaleAgePrimitiveParallelStream() {
+        return IntStream.range(0, table.rowCount())
+                .parallel()
+                .filter(row -> table.gender(row) == Gender.MALE)
+                .map(table::age)
+                .average()
+                .orElse(0.0);
+    }
+
+    @Benchmark
+    public double averageMaleAgePrimitiveFor() {
+        long ageSum = 0;
+        long count = 0;
+        for (int row = 0; row < table.rowCount(); row++) {
+            if (table.gender(row) == Gender.MALE) {
+                ageSum += table.age(row);
+                count++;
+            }
+        }
+        return (double) ageSum / count;
+    }
+}
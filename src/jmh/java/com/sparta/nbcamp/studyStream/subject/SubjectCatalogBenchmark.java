@@ -0,0 +1,83 @@
+package com.sparta.nbcamp.studyStream.subject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 과목 목록 스트림 스캔 vs SubjectCatalog (트라이 / 레벨 버킷). 카탈로그 생성 비용은 제외한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SubjectCatalogBenchmark {
+    private static final String[] WORDS = {
+            "Java", "Spring", "Boot", "JPA", "Kotlin", "Stream", "Lambda", "Test", "Docker", "Redis",
+            "Kafka", "MySQL", "React", "Network", "OS", "Algorithm"
+    };
+
+    @Param({"5000"})
+    int size;
+
+    List<Subject> subjects;
+    SubjectCatalog catalog;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        subjects = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            subjects.add(new Subject(title, random.nextInt(1, 11)));
+        }
+        catalog = SubjectCatalog.of(subjects);
+    }
+
+    @Benchmark
+    public List<Subject> prefixStream() {
+        return subjects.stream()
+                .filter(subject -> subject.getTitle().regionMatches(true, 0, "spring b", 0, 8))
+                .toList();
+    }
+
+    @Benchmark
+    public List<Subject> prefixCatalog() {
+        return catalog.findByTitlePrefix("spring b");
+    }
+
+    @Benchmark
+    public List<Subject> autocompleteStream() {
+        return subjects.stream()
+                .filter(subject -> subject.getTitle().regionMatches(true, 0, "ja", 0, 2))
+                .sorted((a, b) -> a.getTitle().compareToIgnoreCase(b.getTitle()))
+                .limit(10)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Subject> autocompleteCatalog() {
+        return catalog.autocomplete("ja", 10);
+    }
+
+    @Benchmark
+    public List<Subject> levelStream() {
+        return subjects.stream()
+                .filter(subject -> subject.getLevel() >= 3 && subject.getLevel() < 5)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Subject> levelCatalog() {
+        return catalog.findByLevel(3, 5);
+    }
+}
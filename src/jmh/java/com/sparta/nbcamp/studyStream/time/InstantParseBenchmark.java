@@ -0,0 +1,77 @@
+package com.sparta.nbcamp.studyStream.time;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타임스탬프 문자열 레코드에서 기준 시각 이후 레코드 세기.
+ * <ul>
+ *     <li>instantParse : 비교마다 Instant.parse (MethodReferenceTest.boundInstanceMethodReference2 방식)</li>
+ *     <li>fastParse : IsoInstantParser 로 epoch milli 비교</li>
+ *     <li>index : TimeIndex 이분 탐색 (인덱스 생성 비용 제외)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InstantParseBenchmark {
+
+    @Param({"100000"})
+    int size;
+
+    String[] timestamps;
+    Instant target;
+    long targetMilli;
+    TimeIndex index;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        long base = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+        timestamps = new String[size];
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = Instant.ofEpochMilli(base + random.nextLong(365L * 24 * 3600 * 1000)).toString();
+        }
+        target = Instant.parse("2024-05-27T14:26:50.000Z");
+        targetMilli = target.toEpochMilli();
+        index = TimeIndex.of(List.of(timestamps), IsoInstantParser::parseEpochMilli);
+    }
+
+    @Benchmark
+    public long instantParse() {
+        long count = 0;
+        for (String timestamp : timestamps) {
+            if (Instant.parse(timestamp).isAfter(target)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long fastParse() {
+        long count = 0;
+        for (String timestamp : timestamps) {
+            if (IsoInstantParser.parseEpochMilli(timestamp) > targetMilli) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long index() {
+        return index.countAfter(targetMilli);
+    }
+}
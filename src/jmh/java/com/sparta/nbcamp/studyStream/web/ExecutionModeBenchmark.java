@@ -0,0 +1,63 @@
+package com.sparta.nbcamp.studyStream.web;
+
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import com.sparta.nbcamp.studyStream.person.RandomPeople;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 블로킹 IO가 섞인 요청을 플랫폼 스레드 풀(Tomcat 기본값 200개) vs 가상 스레드에서 처리할 때의 처리량과 p99 지연.
+ * <p>
+ * JMH 스레드 하나가 클라이언트 하나다. 요청은 ioMillis 동안 블로킹(파일 / 네트워크 대기를 sleep으로 흉내낸다)된 뒤
+ * 테이블을 한 번 집계한다. 동시 클라이언트 수(@Threads)가 풀 크기를 넘으면 플랫폼 모드는 큐에서 기다려야 하므로
+ * 처리량이 풀 크기 / ioMillis 에서 막히고 지연이 늘어난다. SampleTime 결과의 p0.99 가 p99 지연이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(400)
+public class ExecutionModeBenchmark {
+
+    @Param({"platform", "virtual"})
+    String mode;
+
+    @Param({"200"})
+    int platformThreads;
+
+    @Param({"5"})
+    int ioMillis;
+
+    PersonTable table;
+    ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        table = PersonTable.from(RandomPeople.generate(10_000));
+        executor = QueryExecutors.create("virtual".equals(mode), platformThreads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Benchmark
+    public long request() throws InterruptedException, ExecutionException {
+        return executor.submit(() -> {
+            Thread.sleep(ioMillis);
+            return table.count(row -> table.age(row) >= 30 && table.age(row) < 40);
+        }).get();
+    }
+}
@@ -0,0 +1,34 @@
+package com.sparta.nbcamp.studyStream.functional;
+
+/**
+ * {@link IntChain} / {@link LongChain} 이 함께 쓰는 단계 연산 코드.
+ * <p>
+ * 단계 i 는 (codes[i], first[i], second[i]) 로 기록한다.
+ * <ul>
+ *     <li>AFFINE : x * first[i] + second[i]. 연속된 AFFINE 은 하나로 접힌다.</li>
+ *     <li>AND / OR / XOR : 피연산자 second[i]. 같은 연산이 연속되면 피연산자끼리 합친다.</li>
+ *     <li>SHIFT_RIGHT : 시프트 거리 second[i]. 연속되면 거리를 더하되 (비트 수 - 1)에서 멈춘다.</li>
+ *     <li>UNSIGNED_SHIFT_RIGHT : 시프트 거리 second[i]. 합치지 않는다.</li>
+ *     <li>OPAQUE : operators 배열의 번호 first[i]. 합치지 않는다.</li>
+ * </ul>
+ */
+final class ChainOps {
+    static final byte AFFINE = 0;
+    static final byte AND = 1;
+    static final byte OR = 2;
+    static final byte XOR = 3;
+    static final byte SHIFT_RIGHT = 4;
+    static final byte UNSIGNED_SHIFT_RIGHT = 5;
+    static final byte OPAQUE = 6;
+
+    private ChainOps() {
+    }
+
+    /**
+     * 산술 오른쪽 시프트 두 번을 한 번으로 합친 거리. 산술 시프트는 (비트 수 - 1)을 넘으면
+     * 부호 비트로 채워진 값((비트 수 - 1)만큼 시프트한 값)과 같으므로 거기서 멈춘다.
+     */
+    static int mergeShiftRight(long previous, int shift, int bits) {
+        return (int) Math.min(previous + shift, bits - 1);
+    }
+}
@@ -0,0 +1,40 @@
+package com.sparta.nbcamp.studyStream.functional;
+
+/**
+ * {@link Foo}의 double 특화 버전.
+ * Foo로 변환할 때 정수로 표현할 수 없는 값은 {@link ArithmeticException}을 던진다.
+ */
+@FunctionalInterface
+public interface DoubleFoo {
+    double operate(double number1, double number2);
+
+    static DoubleFoo from(Foo foo) {
+        return (number1, number2) -> foo.operate(toIntExact(number1), toIntExact(number2));
+    }
+
+    default Foo toFoo() {
+        return (number1, number2) -> toIntExact(operate(number1, number2));
+    }
+
+    /**
+     * result[i] = operate(numbers1[i], numbers2[i])
+     */
+    default void operateAll(double[] numbers1, double[] numbers2, double[] result) {
+        if (numbers1.length != numbers2.length || numbers1.length > result.length) {
+            throw new IllegalArgumentException("배열 길이가 맞지 않습니다. numbers1=" + numbers1.length
+                    + ", numbers2=" + numbers2.length + ", result=" + result.length);
+        }
+
+        for (int i = 0; i < numbers1.length; i++) {
+            result[i] = operate(numbers1[i], numbers2[i]);
+        }
+    }
+
+    private static int toIntExact(double value) {
+        int intValue = (int) value;
+        if (intValue != value) {
+            throw new ArithmeticException("정수로 변환할 수 없는 값입니다: " + value);
+        }
+        return intValue;
+    }
+}
@@ -0,0 +1,33 @@
+package com.sparta.nbcamp.studyStream.functional;
+
+/**
+ * {@link Foo}의 int 특화 버전.
+ * 인자와 결과를 기본 타입으로 주고받기 때문에 Integer 캐시(-128 ~ 127) 범위를 벗어나도 박싱이 일어나지 않는다.
+ */
+@FunctionalInterface
+public interface IntFoo {
+    int operate(int number1, int number2);
+
+    static IntFoo from(Foo foo) {
+        return (number1, number2) -> foo.operate(number1, number2);
+    }
+
+    default Foo toFoo() {
+        return (number1, number2) -> operate(number1, number2);
+    }
+
+    /**
+     * result[i] = operate(numbers1[i], numbers2[i])
+     * 요소마다 객체를 생성하지 않으므로 루프 내부에서 할당이 발생하지 않는다.
+     */
+    default void operateAll(int[] numbers1, int[] numbers2, int[] result) {
+        if (numbers1.length != numbers2.length || numbers1.length > result.length) {
+            throw new IllegalArgumentException("배열 길이가 맞지 않습니다. numbers1=" + numbers1.length
+                    + ", numbers2=" + numbers2.length + ", result=" + result.length);
+        }
+
+        for (int i = 0; i < numbers1.length; i++) {
+            result[i] = operate(numbers1[i], numbers2[i]);
+        }
+    }
+}
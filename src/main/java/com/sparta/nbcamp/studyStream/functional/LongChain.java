@@ -0,0 +1,268 @@
+package com.sparta.nbcamp.studyStream.functional;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * long 산술 연산을 이어 붙여 하나의 함수로 합치는(fuse) 불변 체인.
+ * <p>
+ * Function.andThen 으로 단계를 이으면 단계마다 인터페이스 호출과 Long 박싱이 생기고, 체인이 길어지면
+ * 호출 지점이 megamorphic 이 되어 인라인되지 않는다. LongChain은 단계를 람다가 아니라 (연산 코드, 피연산자)로 기록하고
+ * 단계를 추가할 때 합칠 수 있는 것은 바로 합친다.
+ * <ul>
+ *     <li>add / subtract / multiply / negate / shiftLeft 는 모두 a * x + b 꼴이라 연속되면 하나로 접힌다.
+ *     long 곱셈 / 덧셈은 2^64 로 나눈 나머지 연산이므로 넘쳐도 결과는 단계별 실행과 같다.</li>
+ *     <li>and / or / xor 는 같은 연산끼리, 산술 오른쪽 시프트도 연속되면 하나로 접힌다.</li>
+ *     <li>그 외 LongUnaryOperator 는 그대로 한 단계(opaque)로 남는다.</li>
+ * </ul>
+ * 실행은 단계 배열을 도는 루프 하나라 체인 길이와 상관없이 호출 지점이 하나이고 박싱이 없다.
+ * Function API가 필요하면 {@link #boxed()} 를 쓴다. 박싱은 입력 / 출력에서 한 번씩만 일어난다.
+ */
+public final class LongChain implements LongUnaryOperator {
+    private static final LongChain IDENTITY = new LongChain(new byte[0], new long[0], new long[0], new LongUnaryOperator[0]);
+
+    // 단계 i 의 연산 코드와 long 피연산자. 의미는 ChainOps 참고 (OPAQUE 의 first[i] 는 operators 배열 번호)
+    private final byte[] codes;
+    private final long[] first;
+    private final long[] second;
+    private final LongUnaryOperator[] operators;
+
+    private LongChain(byte[] codes, long[] first, long[] second, LongUnaryOperator[] operators) {
+        this.codes = codes;
+        this.first = first;
+        this.second = second;
+        this.operators = operators;
+    }
+
+    public static LongChain identity() {
+        return IDENTITY;
+    }
+
+    /**
+     * operator 가 LongChain 이면 그대로, 아니면 opaque 단계 하나짜리 체인
+     */
+    public static LongChain of(LongUnaryOperator operator) {
+        return IDENTITY.andThen(operator);
+    }
+
+    public LongChain add(long value) {
+        return affine(1, value);
+    }
+
+    public LongChain subtract(long value) {
+        return affine(1, -value);
+    }
+
+    public LongChain multiply(long value) {
+        return affine(value, 0);
+    }
+
+    public LongChain negate() {
+        return affine(-1, 0);
+    }
+
+    /**
+     * distance 는 long 시프트 연산자와 같이 하위 6비트만 쓴다.
+     */
+    public LongChain shiftLeft(int distance) {
+        return affine(1L << distance, 0);
+    }
+
+    /**
+     * distance 는 long 시프트 연산자와 같이 하위 6비트만 쓴다.
+     */
+    public LongChain shiftRight(int distance) {
+        int shift = distance & 63;
+        int last = codes.length - 1;
+        if (last >= 0 && codes[last] == ChainOps.SHIFT_RIGHT) {
+            return replaceLast(ChainOps.SHIFT_RIGHT, 0, ChainOps.mergeShiftRight(second[last], shift, Long.SIZE));
+        }
+        return shift == 0 ? this : append(ChainOps.SHIFT_RIGHT, 0, shift);
+    }
+
+    /**
+     * distance 는 long 시프트 연산자와 같이 하위 6비트만 쓴다.
+     */
+    public LongChain unsignedShiftRight(int distance) {
+        int shift = distance & 63;
+        return shift == 0 ? this : append(ChainOps.UNSIGNED_SHIFT_RIGHT, 0, shift);
+    }
+
+    public LongChain and(long mask) {
+        int last = codes.length - 1;
+        if (last >= 0 && codes[last] == ChainOps.AND) {
+            return replaceLast(ChainOps.AND, 0, second[last] & mask);
+        }
+        return mask == -1L ? this : append(ChainOps.AND, 0, mask);
+    }
+
+    public LongChain or(long mask) {
+        int last = codes.length - 1;
+        if (last >= 0 && codes[last] == ChainOps.OR) {
+            return replaceLast(ChainOps.OR, 0, second[last] | mask);
+        }
+        return mask == 0 ? this : append(ChainOps.OR, 0, mask);
+    }
+
+    public LongChain xor(long mask) {
+        int last = codes.length - 1;
+        if (last >= 0 && codes[last] == ChainOps.XOR) {
+            long merged = second[last] ^ mask;
+            return merged == 0 ? removeLast() : replaceLast(ChainOps.XOR, 0, merged);
+        }
+        return mask == 0 ? this : append(ChainOps.XOR, 0, mask);
+    }
+
+    /**
+     * after 가 LongChain 이면 단계를 하나씩 이어 붙이며 경계의 단계끼리도 합친다.
+     */
+    @Override
+    public LongChain andThen(LongUnaryOperator after) {
+        Objects.requireNonNull(after);
+        if (!(after instanceof LongChain chain)) {
+            return append(ChainOps.OPAQUE, operators.length, 0, after);
+        }
+        LongChain result = this;
+        for (int i = 0; i < chain.codes.length; i++) {
+            result = result.then(chain, i);
+        }
+        return result;
+    }
+
+    @Override
+    public LongChain compose(LongUnaryOperator before) {
+        return of(before).andThen(this);
+    }
+
+    @Override
+    public long applyAsLong(long operand) {
+        long x = operand;
+        for (int i = 0; i < codes.length; i++) {
+            x = switch (codes[i]) {
+                case ChainOps.AFFINE -> x * first[i] + second[i];
+                case ChainOps.AND -> x & second[i];
+                case ChainOps.OR -> x | second[i];
+                case ChainOps.XOR -> x ^ second[i];
+                case ChainOps.SHIFT_RIGHT -> x >> second[i];
+                case ChainOps.UNSIGNED_SHIFT_RIGHT -> x >>> second[i];
+                default -> operators[(int) first[i]].applyAsLong(x);
+            };
+        }
+        return x;
+    }
+
+    /**
+     * result[i] = applyAsLong(values[i])
+     */
+    public void applyAll(long[] values, long[] result) {
+        if (values.length > result.length) {
+            throw new IllegalArgumentException("배열 길이가 맞지 않습니다. values=" + values.length
+                    + ", result=" + result.length);
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            result[i] = applyAsLong(values[i]);
+        }
+    }
+
+    /**
+     * Function 으로 감싼다. andThen / compose 의 인자도 boxed() 로 만든 함수이면 박싱 없이 합쳐진다.
+     */
+    public Function<Long, Long> boxed() {
+        return new Boxed(this);
+    }
+
+    /**
+     * 합친 뒤 남은 단계 수
+     */
+    public int stageCount() {
+        return codes.length;
+    }
+
+    private LongChain then(LongChain chain, int i) {
+        return switch (chain.codes[i]) {
+            case ChainOps.AFFINE -> affine(chain.first[i], chain.second[i]);
+            case ChainOps.AND -> and(chain.second[i]);
+            case ChainOps.OR -> or(chain.second[i]);
+            case ChainOps.XOR -> xor(chain.second[i]);
+            case ChainOps.SHIFT_RIGHT -> shiftRight((int) chain.second[i]);
+            case ChainOps.UNSIGNED_SHIFT_RIGHT -> unsignedShiftRight((int) chain.second[i]);
+            default -> append(ChainOps.OPAQUE, operators.length, 0, chain.operators[(int) chain.first[i]]);
+        };
+    }
+
+    /**
+     * a2 * (a1 * x + b1) + b2 = (a2 * a1) * x + (a2 * b1 + b2)
+     */
+    private LongChain affine(long multiplier, long addend) {
+        int last = codes.length - 1;
+        if (last >= 0 && codes[last] == ChainOps.AFFINE) {
+            long a = multiplier * first[last];
+            long b = multiplier * second[last] + addend;
+            return a == 1 && b == 0 ? removeLast() : replaceLast(ChainOps.AFFINE, a, b);
+        }
+        return multiplier == 1 && addend == 0 ? this : append(ChainOps.AFFINE, multiplier, addend);
+    }
+
+    private LongChain append(byte code, long a, long b) {
+        return append(code, a, b, null);
+    }
+
+    private LongChain append(byte code, long a, long b, LongUnaryOperator operator) {
+        int n = codes.length;
+        byte[] newCodes = Arrays.copyOf(codes, n + 1);
+        long[] newFirst = Arrays.copyOf(first, n + 1);
+        long[] newSecond = Arrays.copyOf(second, n + 1);
+        newCodes[n] = code;
+        newFirst[n] = a;
+        newSecond[n] = b;
+        LongUnaryOperator[] newOperators = operators;
+        if (operator != null) {
+            newOperators = Arrays.copyOf(operators, operators.length + 1);
+            newOperators[operators.length] = operator;
+        }
+        return new LongChain(newCodes, newFirst, newSecond, newOperators);
+    }
+
+    private LongChain replaceLast(byte code, long a, long b) {
+        return removeLast().append(code, a, b);
+    }
+
+    /**
+     * opaque 단계는 합쳐지지 않으므로 마지막 단계가 opaque 인 경우는 없다.
+     */
+    private LongChain removeLast() {
+        int n = codes.length - 1;
+        return n == 0 ? IDENTITY
+                : new LongChain(Arrays.copyOf(codes, n), Arrays.copyOf(first, n), Arrays.copyOf(second, n), operators);
+    }
+
+    private record Boxed(LongChain chain) implements Function<Long, Long> {
+
+        @Override
+        public Long apply(Long value) {
+            return chain.applyAsLong(value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <V> Function<Long, V> andThen(Function<? super Long, ? extends V> after) {
+            if (after instanceof Boxed boxed) {
+                return (Function<Long, V>) chain.andThen(boxed.chain).boxed();
+            }
+            return Function.super.andThen(after);
+        }
+
+        @Override
+        public <V> Function<V, Long> compose(Function<? super V, ? extends Long> before) {
+            if (before instanceof Boxed boxed) {
+                @SuppressWarnings("unchecked")
+                Function<V, Long> fused = (Function<V, Long>) (Function<?, ?>) boxed.chain.andThen(chain).boxed();
+                return fused;
+            }
+            return Function.super.compose(before);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.sparta.nbcamp.studyStream.functional;
+
+/**
+ * {@link Foo}의 long 특화 버전.
+ * Foo로 변환할 때 int 범위를 벗어나는 값은 {@link ArithmeticException}을 던진다.
+ */
+@FunctionalInterface
+public interface LongFoo {
+    long operate(long number1, long number2);
+
+    static LongFoo from(Foo foo) {
+        return (number1, number2) -> foo.operate(Math.toIntExact(number1), Math.toIntExact(number2));
+    }
+
+    default Foo toFoo() {
+        return (number1, number2) -> Math.toIntExact(operate(number1, number2));
+    }
+
+    /**
+     * result[i] = operate(numbers1[i], numbers2[i])
+     */
+    default void operateAll(long[] numbers1, long[] numbers2, long[] result) {
+        if (numbers1.length != numbers2.length || numbers1.length > result.length) {
+            throw new IllegalArgumentException("배열 길이가 맞지 않습니다. numbers1=" + numbers1.length
+                    + ", numbers2=" + numbers2.length + ", result=" + result.length);
+        }
+
+        for (int i = 0; i < numbers1.length; i++) {
+            result[i] = operate(numbers1[i], numbers2[i]);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.sparta.nbcamp.studyStream.person;
+
+public enum Gender {
+    MALE, FEMALE
+}
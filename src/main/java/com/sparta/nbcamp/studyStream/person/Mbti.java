@@ -0,0 +1,57 @@
+package com.sparta.nbcamp.studyStream.person;
+
+/**
+ * MBTI 16가지 유형 사전(dictionary).
+ * ordinal 자체가 4비트 코드이며 각 비트가 하나의 축을 나타낸다.
+ * bit3 : E(0) / I(1), bit2 : S(0) / N(1), bit1 : T(0) / F(1), bit0 : J(0) / P(1)
+ */
+public enum Mbti {
+    ESTJ, ESTP, ESFJ, ESFP, ENTJ, ENTP, ENFJ, ENFP,
+    ISTJ, ISTP, ISFJ, ISFP, INTJ, INTP, INFJ, INFP;
+
+    private static final Mbti[] VALUES = values();
+
+    public static Mbti decode(int code) {
+        return VALUES[code];
+    }
+
+    public static Mbti of(String mbti) {
+        return valueOf(mbti.toUpperCase());
+    }
+
+    public int code() {
+        return ordinal();
+    }
+
+    /**
+     * 해당 글자(E, I, S, N, T, F, J, P)를 포함하는지 확인한다.
+     */
+    public boolean has(char letter) {
+        int axis = axisOf(letter);
+        return ((ordinal() >>> (3 - axis)) & 1) == bitOf(letter);
+    }
+
+    /**
+     * 글자가 속한 축 (0 : E/I, 1 : S/N, 2 : T/F, 3 : J/P)
+     */
+    public static int axisOf(char letter) {
+        switch (Character.toUpperCase(letter)) {
+            case 'E': case 'I': return 0;
+            case 'S': case 'N': return 1;
+            case 'T': case 'F': return 2;
+            case 'J': case 'P': return 3;
+            default: throw new IllegalArgumentException("MBTI 글자가 아닙니다: " + letter);
+        }
+    }
+
+    /**
+     * 축 안에서 글자가 나타내는 비트 값 (E, S, T, J = 0 / I, N, F, P = 1)
+     */
+    public static int bitOf(char letter) {
+        switch (Character.toUpperCase(letter)) {
+            case 'E': case 'S': case 'T': case 'J': return 0;
+            case 'I': case 'N': case 'F': case 'P': return 1;
+            default: throw new IllegalArgumentException("MBTI 글자가 아닙니다: " + letter);
+        }
+    }
+}
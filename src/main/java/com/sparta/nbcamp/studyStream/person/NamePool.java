@@ -0,0 +1,36 @@
+package com.sparta.nbcamp.studyStream.person;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 이름 문자열 풀. 같은 이름은 한 번만 저장하고 행에는 int 번호만 남긴다.
+ */
+public class NamePool {
+    private final Map<String, Integer> ids = new HashMap<>();
+    private String[] names = new String[16];
+    private int size;
+
+    public int intern(String name) {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size + (size >> 1));
+        }
+        names[size] = name;
+        ids.put(name, size);
+        return size++;
+    }
+
+    public String get(int id) {
+        return names[id];
+    }
+
+    public int size() {
+        return size;
+    }
+}
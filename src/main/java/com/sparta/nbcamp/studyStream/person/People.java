@@ -0,0 +1,15 @@
+package com.sparta.nbcamp.studyStream.person;
+
+import java.util.List;
+
+public class People {
+    private final List<Person> people;
+
+    public People(List<Person> people) {
+        this.people = people;
+    }
+
+    public List<Person> getPeople() {
+        return people;
+    }
+}
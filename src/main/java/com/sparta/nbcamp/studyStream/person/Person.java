@@ -0,0 +1,61 @@
+package com.sparta.nbcamp.studyStream.person;
+
+import java.util.Objects;
+
+public class Person {
+    private final Long id;
+    private final String name;
+    private final Integer age;
+    private final String mbti;
+    private final Gender gender;
+
+    public Person(Long id, String name, Integer age, String mbti, Gender gender) {
+        this.id = id;
+        this.name = name;
+        this.age = age;
+        this.mbti = mbti;
+        this.gender = gender;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public String getMbti() {
+        return mbti;
+    }
+
+    public Gender getGender() {
+        return gender;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+
+        if (!(o instanceof Person))
+            return false;
+
+        Person p = (Person) o;
+        return Objects.equals(p.getId(), id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+        return "id=" + id + ", name=" + name + ", age=" + age + ", mbti=" + mbti + ", gender=" + gender;
+    }
+}
@@ -0,0 +1,406 @@
+package com.sparta.nbcamp.studyStream.person;
+
+import com.sparta.nbcamp.studyStream.person.distinct.LongHashSet;
+import com.sparta.nbcamp.studyStream.person.kernel.IntColumnKernel;
+import com.sparta.nbcamp.studyStream.person.kernel.IntColumnKernels;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+/**
+ * Person을 열(column) 단위 기본 타입 배열로 저장하는 테이블 (struct-of-arrays).
+ * <p>
+ * 행 하나가 Person 객체 + Long + Integer (약 60바이트 이상) 대신
+ * id(8) + age(4) + nameId(4) + mbti(1) + gender(1비트) 바이트만 사용한다.
+ * 조회 연산은 행 번호(int)를 기준으로 동작하며, 결과도 행 번호 배열(int[])로 돌려준다.
+ * 삭제된 행은 번호를 재사용하지 않고 표시만 해두며 조회 결과에서 제외된다.
+ */
+public class PersonTable {
+    /**
+     * 행에 저장할 수 있는 최대 나이. 나이별 버킷을 배열로 두는 인덱스 / 집계가 이 값을 크기 상한으로 쓴다.
+     */
+    public static final int MAX_AGE = 200;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final IntColumnKernel KERNEL = IntColumnKernels.best();
+
+    private final NamePool namePool;
+    private long[] ids;
+    private int[] ages;
+    private int[] nameIds;
+    private byte[] mbtiCodes;
+    private final BitSet females = new BitSet();
+    private final BitSet deleted = new BitSet();
+    private final List<PersonTableListener> listeners = new ArrayList<>();
+    private int size;
+    private int deletedCount;
+    private long version;
+
+    public PersonTable() {
+        this(DEFAULT_CAPACITY, new NamePool());
+    }
+
+    public PersonTable(int capacity, NamePool namePool) {
+        this.namePool = namePool;
+        this.ids = new long[capacity];
+        this.ages = new int[capacity];
+        this.nameIds = new int[capacity];
+        this.mbtiCodes = new byte[capacity];
+    }
+
+    public static PersonTable from(Collection<Person> people) {
+        PersonTable table = new PersonTable(Math.max(people.size(), DEFAULT_CAPACITY), new NamePool());
+        for (Person person : people) {
+            table.add(person);
+        }
+        return table;
+    }
+
+    public int add(Person person) {
+        return add(person.getId(), person.getName(), person.getAge(), person.getMbti(), person.getGender());
+    }
+
+    /**
+     * 행을 추가하고 추가된 행 번호를 리턴한다.
+     * 값을 모두 검증한 뒤에 행을 만들므로 예외가 나면 테이블은 바뀌지 않는다.
+     */
+    public int add(long id, String name, int age, String mbti, Gender gender) {
+        byte mbtiCode = validate(name, age, mbti, gender);
+        if (size == ids.length) {
+            grow();
+        }
+
+        int row = size++;
+        ids[row] = id;
+        ages[row] = age;
+        nameIds[row] = namePool.intern(name);
+        mbtiCodes[row] = mbtiCode;
+        females.set(row, gender == Gender.FEMALE);
+        version++;
+        for (PersonTableListener listener : listeners) {
+            listener.onInsert(this, row);
+        }
+        return row;
+    }
+
+    /**
+     * 행을 삭제한다. 이미 삭제된 행이면 false를 리턴한다.
+     */
+    public boolean remove(int row) {
+        Objects.checkIndex(row, size);
+        if (deleted.get(row)) {
+            return false;
+        }
+
+        deleted.set(row);
+        deletedCount++;
+        version++;
+        for (PersonTableListener listener : listeners) {
+            listener.onDelete(this, row);
+        }
+        return true;
+    }
+
+    /**
+     * 행의 값을 바꾼다. id는 바뀌지 않는다.
+     * 리스너에는 onDelete(이전 값) -> onInsert(새 값) 순서로 통지되므로 보조 인덱스/집계가 따로 처리할 필요가 없다.
+     * 값이 잘못되면 리스너에 통지하기 전에 예외를 던지므로 행은 이전 값 그대로 남는다.
+     */
+    public void update(int row, String name, int age, String mbti, Gender gender) {
+        Objects.checkIndex(row, size);
+        if (deleted.get(row)) {
+            throw new IllegalArgumentException("삭제된 행입니다: " + row);
+        }
+        // 리스너에 onDelete 를 보내기 전에 검증을 끝내야 예외가 나도 인덱스 / 집계와 테이블이 어긋나지 않는다.
+        byte mbtiCode = validate(name, age, mbti, gender);
+        int nameId = namePool.intern(name);
+
+        for (PersonTableListener listener : listeners) {
+            listener.onDelete(this, row);
+        }
+        ages[row] = age;
+        nameIds[row] = nameId;
+        mbtiCodes[row] = mbtiCode;
+        females.set(row, gender == Gender.FEMALE);
+        version++;
+        for (PersonTableListener listener : listeners) {
+            listener.onInsert(this, row);
+        }
+    }
+
+    /**
+     * 행에 쓸 값을 검증하고 MBTI 코드를 리턴한다. 잘못된 값이면 IllegalArgumentException / NullPointerException
+     */
+    private static byte validate(String name, int age, String mbti, Gender gender) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(mbti, "mbti");
+        Objects.requireNonNull(gender, "gender");
+        if (age < 0 || age > MAX_AGE) {
+            throw new IllegalArgumentException("나이는 0 ~ " + MAX_AGE + " 사이여야 합니다: " + age);
+        }
+        return (byte) Mbti.of(mbti).code();
+    }
+
+    public boolean isDeleted(int row) {
+        return deleted.get(row);
+    }
+
+    public void addListener(PersonTableListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(PersonTableListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        ages = Arrays.copyOf(ages, capacity);
+        nameIds = Arrays.copyOf(nameIds, capacity);
+        mbtiCodes = Arrays.copyOf(mbtiCodes, capacity);
+    }
+
+    /**
+     * 삭제되지 않은 행의 개수
+     */
+    public int size() {
+        return size - deletedCount;
+    }
+
+    /**
+     * 행 번호의 상한 (삭제된 행 포함). 0 <= row < rowCount() 범위의 행 번호가 유효하다.
+     */
+    public int rowCount() {
+        return size;
+    }
+
+    /**
+     * 데이터 버전. 행을 추가 / 삭제 / 수정할 때마다 증가하므로 같은 버전이면 같은 데이터다.
+     */
+    public long version() {
+        return version;
+    }
+
+    public NamePool namePool() {
+        return namePool;
+    }
+
+    public long id(int row) {
+        return ids[row];
+    }
+
+    public String name(int row) {
+        return namePool.get(nameIds[row]);
+    }
+
+    /**
+     * 이름의 NamePool 번호. 같은 이름은 같은 번호다.
+     */
+    public int nameId(int row) {
+        return nameIds[row];
+    }
+
+    public int age(int row) {
+        return ages[row];
+    }
+
+    public Mbti mbti(int row) {
+        return Mbti.decode(mbtiCodes[row]);
+    }
+
+    public Gender gender(int row) {
+        return females.get(row) ? Gender.FEMALE : Gender.MALE;
+    }
+
+    public Person toPerson(int row) {
+        return new Person(id(row), name(row), age(row), mbti(row).name(), gender(row));
+    }
+
+    public List<Person> toPeople(int[] rows) {
+        return map(rows, this::toPerson);
+    }
+
+    /**
+     * 조건에 맞는 행 번호를 순서대로 리턴한다. predicate는 행 번호를 인자로 받는다.
+     */
+    public int[] filter(IntPredicate predicate) {
+        int[] rows = new int[size];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (!deleted.get(row) && predicate.test(row)) {
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * from <= age < to
+     */
+    public int[] filterByAge(int from, int to) {
+        return filter(row -> ages[row] >= from && ages[row] < to);
+    }
+
+    /**
+     * MBTI에 해당 글자(E, I, S, N, T, F, J, P)가 포함된 행
+     */
+    public int[] filterByMbti(char letter) {
+        int axis = Mbti.axisOf(letter);
+        int bit = Mbti.bitOf(letter);
+        return filter(row -> ((mbtiCodes[row] >>> (3 - axis)) & 1) == bit);
+    }
+
+    public int[] filterByGender(Gender gender) {
+        boolean female = gender == Gender.FEMALE;
+        return filter(row -> females.get(row) == female);
+    }
+
+    /**
+     * 조건에 맞는 행 번호를 순서대로 action에 전달한다. 결과 배열을 만들지 않으므로 메모리 사용량이 일정하다.
+     */
+    public void forEachRow(IntPredicate predicate, IntConsumer action) {
+        for (int row = 0; row < size; row++) {
+            if (!deleted.get(row) && predicate.test(row)) {
+                action.accept(row);
+            }
+        }
+    }
+
+    public long count(IntPredicate predicate) {
+        long count = 0;
+        for (int row = 0; row < size; row++) {
+            if (!deleted.get(row) && predicate.test(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public <R> List<R> map(int[] rows, IntFunction<R> mapper) {
+        List<R> result = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            result.add(mapper.apply(row));
+        }
+        return result;
+    }
+
+    /**
+     * 나이 오름차순으로 정렬된 행 번호. 나이가 같으면 입력 순서를 유지한다(stable).
+     * (age << 32 | row) 형태의 long 키로 정렬하기 때문에 비교 시 언박싱이 없다.
+     */
+    public int[] sortedByAge(int[] rows) {
+        long[] keys = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            keys[i] = ((long) ages[rows[i]] << 32) | rows[i];
+        }
+        Arrays.sort(keys);
+
+        int[] sorted = new int[rows.length];
+        for (int i = 0; i < keys.length; i++) {
+            sorted[i] = (int) keys[i];
+        }
+        return sorted;
+    }
+
+    public int[] sortedByAge() {
+        return sortedByAge(allRows());
+    }
+
+    /**
+     * id 기준 중복 제거. 같은 id는 처음 나온 행만 남긴다.
+     */
+    public int[] distinctById(int[] rows) {
+        LongHashSet seen = new LongHashSet(rows.length);
+        int[] distinct = new int[rows.length];
+        int count = 0;
+        for (int row : rows) {
+            if (seen.add(ids[row])) {
+                distinct[count++] = row;
+            }
+        }
+        return Arrays.copyOf(distinct, count);
+    }
+
+    public int[] distinctById() {
+        return distinctById(allRows());
+    }
+
+    public OptionalDouble averageAge(int[] rows) {
+        if (rows.length == 0) {
+            return OptionalDouble.empty();
+        }
+
+        long sum = 0;
+        for (int row : rows) {
+            sum += ages[row];
+        }
+        return OptionalDouble.of((double) sum / rows.length);
+    }
+
+    /**
+     * 행 번호 배열을 만들지 않고 age 열 전체를 삭제 비트로 걸러 합산한다. (벡터 커널 사용)
+     */
+    public OptionalDouble averageAge() {
+        int count = size();
+        if (count == 0) {
+            return OptionalDouble.empty();
+        }
+        long sum = KERNEL.maskedSum(ages, size, deleted.toLongArray(), true);
+        return OptionalDouble.of((double) sum / count);
+    }
+
+    public OptionalDouble averageAge(Gender gender) {
+        long[] mask = liveMask(gender);
+        long count = KERNEL.maskedCount(mask, size, false);
+        if (count == 0) {
+            return OptionalDouble.empty();
+        }
+        long sum = KERNEL.maskedSum(ages, size, mask, false);
+        return OptionalDouble.of((double) sum / count);
+    }
+
+    /**
+     * from <= age < to 인 행 수. 삭제된 행이 없으면 age 열을 벡터 커널로 바로 센다.
+     */
+    public long countByAge(int from, int to) {
+        if (deletedCount == 0) {
+            return KERNEL.countInRange(ages, size, from, to);
+        }
+        return count(row -> ages[row] >= from && ages[row] < to);
+    }
+
+    /**
+     * 삭제되지 않았고 성별이 gender 인 행의 비트 마스크 (BitSet.toLongArray 형식)
+     */
+    private long[] liveMask(Gender gender) {
+        long[] femaleWords = females.toLongArray();
+        long[] deletedWords = deleted.toLongArray();
+        long[] mask = new long[(size + 63) >>> 6];
+        for (int i = 0; i < mask.length; i++) {
+            long female = i < femaleWords.length ? femaleWords[i] : 0L;
+            long dead = i < deletedWords.length ? deletedWords[i] : 0L;
+            mask[i] = (gender == Gender.FEMALE ? female : ~female) & ~dead;
+        }
+        return mask;
+    }
+
+    public int[] allRows() {
+        int[] rows = new int[size()];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (!deleted.get(row)) {
+                rows[count++] = row;
+            }
+        }
+        return rows;
+    }
+}
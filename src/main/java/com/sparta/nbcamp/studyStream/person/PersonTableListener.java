@@ -0,0 +1,12 @@
+package com.sparta.nbcamp.studyStream.person;
+
+/**
+ * PersonTable의 변경을 통지받는 리스너. 보조 인덱스처럼 테이블과 항상 일치해야 하는 구조가 구현한다.
+ * onDelete가 호출될 때 삭제된 행의 값은 아직 읽을 수 있다.
+ * 행 수정은 onDelete(이전 값) -> onInsert(새 값) 으로 통지된다.
+ */
+public interface PersonTableListener {
+    void onInsert(PersonTable table, int row);
+
+    void onDelete(PersonTable table, int row);
+}
@@ -0,0 +1,8 @@
+package com.sparta.nbcamp.studyStream.person.aggregate;
+
+/**
+ * {@link PersonStatistics}가 계산할 수 있는 집계 종류. 숫자 집계는 모두 나이(age) 기준이다.
+ */
+public enum Aggregate {
+    COUNT, SUM, MIN, MAX, MEAN, VARIANCE, AGE_HISTOGRAM, MBTI_COUNTS, GENDER_COUNTS
+}
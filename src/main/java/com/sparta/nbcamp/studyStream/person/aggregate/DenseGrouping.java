@@ -0,0 +1,144 @@
+package com.sparta.nbcamp.studyStream.person.aggregate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * 키 종류가 적은 그룹핑({@link DenseKey})을 위한 Collector.
+ * <p>
+ * Collectors.groupingBy 는 병렬 Stream 에서 작업마다 HashMap 을 만들고 합칠 때 키마다 해싱 / 병합을 반복하며,
+ * groupingByConcurrent 는 모든 스레드가 ConcurrentHashMap 한 개의 같은 칸을 두고 다툰다.
+ * 여기서는 키 번호를 배열 칸으로 쓴다.
+ * <ul>
+ *     <li>counting / summingLong / averaging : 작업마다 long[] 에 누적하고 배열 덧셈으로 합친다.</li>
+ *     <li>countingConcurrent / summingLongConcurrent : CONCURRENT Collector. 모든 스레드가 {@link StripedCounters} 하나에
+ *     더하므로 병합 단계가 없다.</li>
+ * </ul>
+ * 결과는 groupingBy 처럼 원소가 있는 키만 담고, 키 번호 순서로 정렬된 Map 이다.
+ */
+public final class DenseGrouping {
+
+    private DenseGrouping() {
+    }
+
+    public static <T, K> Collector<T, ?, Map<K, Long>> counting(DenseKey<? super T, K> key) {
+        return summingLong(key, element -> 1L, Slot.COUNT);
+    }
+
+    /**
+     * 키별 개수와 value 합을 함께 누적하고 합을 리턴한다.
+     */
+    public static <T, K> Collector<T, ?, Map<K, Long>> summingLong(DenseKey<? super T, K> key,
+                                                                   ToLongFunction<? super T> value) {
+        return summingLong(key, value, Slot.SUM);
+    }
+
+    public static <T, K> Collector<T, ?, Map<K, Double>> averaging(DenseKey<? super T, K> key,
+                                                                  ToLongFunction<? super T> value) {
+        int size = key.size();
+        return Collector.of(
+                () -> new long[size * 2],
+                (counters, element) -> accumulate(counters, key, value, element),
+                DenseGrouping::combine,
+                counters -> {
+                    Map<K, Double> result = new LinkedHashMap<>();
+                    for (int i = 0; i < size; i++) {
+                        if (counters[i * 2] > 0) {
+                            result.put(key.key().apply(i), (double) counters[i * 2 + 1] / counters[i * 2]);
+                        }
+                    }
+                    return result;
+                },
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    public static <T, K> Collector<T, ?, Map<K, Long>> countingConcurrent(DenseKey<? super T, K> key) {
+        return summingLongConcurrent(key, element -> 1L, Slot.COUNT);
+    }
+
+    public static <T, K> Collector<T, ?, Map<K, Long>> summingLongConcurrent(DenseKey<? super T, K> key,
+                                                                             ToLongFunction<? super T> value) {
+        return summingLongConcurrent(key, value, Slot.SUM);
+    }
+
+    private static <T, K> Collector<T, ?, Map<K, Long>> summingLong(DenseKey<? super T, K> key,
+                                                                    ToLongFunction<? super T> value, Slot slot) {
+        int size = key.size();
+        return Collector.of(
+                () -> new long[size * 2],
+                (counters, element) -> accumulate(counters, key, value, element),
+                DenseGrouping::combine,
+                counters -> {
+                    Map<K, Long> result = new LinkedHashMap<>();
+                    for (int i = 0; i < size; i++) {
+                        if (counters[i * 2] > 0) {
+                            result.put(key.key().apply(i), counters[i * 2 + slot.offset]);
+                        }
+                    }
+                    return result;
+                },
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    private static <T, K> Collector<T, ?, Map<K, Long>> summingLongConcurrent(DenseKey<? super T, K> key,
+                                                                              ToLongFunction<? super T> value,
+                                                                              Slot slot) {
+        int size = key.size();
+        return Collector.of(
+                () -> new StripedCounters(size * 2),
+                (counters, element) -> {
+                    int i = key.index().applyAsInt(element);
+                    counters.increment(i * 2);
+                    if (slot == Slot.SUM) {
+                        counters.add(i * 2 + 1, value.applyAsLong(element));
+                    }
+                },
+                (left, right) -> {
+                    throw new IllegalStateException("CONCURRENT Collector는 합치지 않습니다.");
+                },
+                counters -> {
+                    Map<K, Long> result = new LinkedHashMap<>();
+                    for (int i = 0; i < size; i++) {
+                        long count = counters.sum(i * 2);
+                        if (count > 0) {
+                            result.put(key.key().apply(i), slot == Slot.COUNT ? count : counters.sum(i * 2 + 1));
+                        }
+                    }
+                    return result;
+                },
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * counters[i * 2] = 키 i 의 개수, counters[i * 2 + 1] = 키 i 의 value 합
+     */
+    private static <T> void accumulate(long[] counters, DenseKey<? super T, ?> key, ToLongFunction<? super T> value,
+                                       T element) {
+        int i = key.index().applyAsInt(element);
+        counters[i * 2]++;
+        counters[i * 2 + 1] += value.applyAsLong(element);
+    }
+
+    private static long[] combine(long[] left, long[] right) {
+        for (int i = 0; i < left.length; i++) {
+            left[i] += right[i];
+        }
+        return left;
+    }
+
+    private enum Slot {
+        COUNT(0), SUM(1);
+
+        final int offset;
+
+        Slot(int offset) {
+            this.offset = offset;
+        }
+    }
+}
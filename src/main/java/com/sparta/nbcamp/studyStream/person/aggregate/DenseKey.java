@@ -0,0 +1,62 @@
+package com.sparta.nbcamp.studyStream.person.aggregate;
+
+import com.sparta.nbcamp.studyStream.person.Gender;
+import com.sparta.nbcamp.studyStream.person.Mbti;
+import com.sparta.nbcamp.studyStream.person.Person;
+
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * 값의 종류가 적고 미리 정해진 그룹 키. 키를 0 ~ size - 1 의 번호로 바꿔 배열 칸을 바로 찾으므로 해싱이 없다.
+ *
+ * @param size  키 종류 수
+ * @param index 원소 -> 키 번호 (0 <= 번호 < size)
+ * @param key   키 번호 -> 결과 Map 의 키
+ */
+public record DenseKey<T, K>(int size, ToIntFunction<? super T> index, IntFunction<? extends K> key) {
+    private static final Gender[] GENDERS = Gender.values();
+
+    public DenseKey {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size는 0보다 커야 합니다: " + size);
+        }
+        Objects.requireNonNull(index);
+        Objects.requireNonNull(key);
+    }
+
+    public static DenseKey<Person, Gender> gender() {
+        return new DenseKey<>(GENDERS.length, person -> person.getGender().ordinal(), ordinal -> GENDERS[ordinal]);
+    }
+
+    public static DenseKey<Person, Mbti> mbti() {
+        return new DenseKey<>(16, person -> Mbti.of(person.getMbti()).code(), Mbti::decode);
+    }
+
+    /**
+     * 나이를 width 단위 구간으로 나눈 키. 결과 키는 구간의 시작 나이(0, 10, 20, ...)이다.
+     * maxAge 이상은 마지막 구간에 넣는다. 음수 나이는 IllegalArgumentException
+     */
+    public static DenseKey<Person, Integer> ageBucket(int width, int maxAge) {
+        if (width <= 0 || maxAge < 0) {
+            throw new IllegalArgumentException("width는 0보다 크고 maxAge는 0 이상이어야 합니다: width=" + width
+                    + ", maxAge=" + maxAge);
+        }
+        int buckets = maxAge / width + 1;
+        return new DenseKey<>(buckets, person -> {
+            int age = person.getAge();
+            if (age < 0) {
+                throw new IllegalArgumentException("나이는 음수일 수 없습니다: " + age);
+            }
+            return Math.min(age / width, buckets - 1);
+        }, bucket -> bucket * width);
+    }
+
+    /**
+     * 10살 단위 나이대 (0 ~ 150세)
+     */
+    public static DenseKey<Person, Integer> decade() {
+        return ageBucket(10, 150);
+    }
+}
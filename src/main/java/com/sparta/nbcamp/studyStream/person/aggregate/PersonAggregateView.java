@@ -0,0 +1,98 @@
+package com.sparta.nbcamp.studyStream.person.aggregate;
+
+import com.sparta.nbcamp.studyStream.person.Gender;
+import com.sparta.nbcamp.studyStream.person.Mbti;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import com.sparta.nbcamp.studyStream.person.PersonTableListener;
+
+import java.util.Arrays;
+import java.util.OptionalDouble;
+
+/**
+ * PersonTable에 등록되어 행 추가/수정/삭제 때마다 O(1)로 갱신되는 집계 뷰 (materialized view).
+ * <p>
+ * 평균 나이(전체, Gender별), 나이대별 인원, Gender/MBTI별 인원을 전체 스캔 없이 바로 읽을 수 있다.
+ * 빼기로 되돌릴 수 있는 집계(개수, 합계)만 관리하며, 최소/최대처럼 삭제 시 다시 계산해야 하는 값은
+ * {@link PersonStatistics}를 사용한다.
+ */
+public class PersonAggregateView implements PersonTableListener {
+    private static final int DECADE = 10;
+
+    private long count;
+    private long ageSum;
+    private final long[] genderCounts = new long[Gender.values().length];
+    private final long[] genderAgeSums = new long[Gender.values().length];
+    private final long[] mbtiCounts = new long[Mbti.values().length];
+    private long[] decadeCounts = new long[16];
+
+    private PersonAggregateView() {
+    }
+
+    /**
+     * 테이블의 현재 행으로 집계를 만들고 이후 변경을 따라가도록 리스너로 등록한다.
+     */
+    public static PersonAggregateView of(PersonTable table) {
+        PersonAggregateView view = new PersonAggregateView();
+        for (int row : table.allRows()) {
+            view.onInsert(table, row);
+        }
+        table.addListener(view);
+        return view;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long count(Gender gender) {
+        return genderCounts[gender.ordinal()];
+    }
+
+    public long count(Mbti mbti) {
+        return mbtiCounts[mbti.code()];
+    }
+
+    /**
+     * 나이대별 인원. decade 2 = 20 ~ 29세
+     */
+    public long countDecade(int decade) {
+        return decade < decadeCounts.length ? decadeCounts[decade] : 0;
+    }
+
+    public OptionalDouble averageAge() {
+        return count == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) ageSum / count);
+    }
+
+    public OptionalDouble averageAge(Gender gender) {
+        long genderCount = genderCounts[gender.ordinal()];
+        return genderCount == 0
+                ? OptionalDouble.empty()
+                : OptionalDouble.of((double) genderAgeSums[gender.ordinal()] / genderCount);
+    }
+
+    @Override
+    public void onInsert(PersonTable table, int row) {
+        apply(table, row, 1);
+    }
+
+    @Override
+    public void onDelete(PersonTable table, int row) {
+        apply(table, row, -1);
+    }
+
+    private void apply(PersonTable table, int row, int sign) {
+        int age = table.age(row);
+        int gender = table.gender(row).ordinal();
+        int decade = age / DECADE;
+        if (decade >= decadeCounts.length) {
+            decadeCounts = Arrays.copyOf(decadeCounts, decade + 1);
+        }
+
+        count += sign;
+        ageSum += (long) sign * age;
+        genderCounts[gender] += sign;
+        genderAgeSums[gender] += (long) sign * age;
+        mbtiCounts[table.mbti(row).code()] += sign;
+        decadeCounts[decade] += sign;
+    }
+}
@@ -0,0 +1,242 @@
+package com.sparta.nbcamp.studyStream.person.aggregate;
+
+import com.sparta.nbcamp.studyStream.person.Gender;
+import com.sparta.nbcamp.studyStream.person.Mbti;
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+
+/**
+ * 한 번의 순회로 여러 집계(개수, 합계, 최소, 최대, 평균, 분산, 나이대 히스토그램, MBTI/Gender별 인원)를 계산한다.
+ * <p>
+ * IntSummaryStatistics처럼 기본 타입 필드에 누적하고, {@link #combine(PersonStatistics)}로 부분 결과를 합칠 수 있어
+ * 병렬 Stream이나 ParallelPersonQuery.reduce 에서도 그대로 사용할 수 있다.
+ * 요청하지 않은 집계는 계산하지 않으며, 조회하면 IllegalStateException을 던진다.
+ */
+public class PersonStatistics implements Consumer<Person> {
+    private static final int DECADE = 10;
+    private static final int LAST_DECADE = PersonTable.MAX_AGE / DECADE;
+
+    private final Set<Aggregate> aggregates;
+    private final boolean numeric;
+    private final boolean histogram;
+    private final boolean mbti;
+    private final boolean gender;
+
+    private long count;
+    private long sum;
+    private long sumOfSquares;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+    private long[] ageHistogram = new long[0];
+    private final long[] mbtiCounts = new long[Mbti.values().length];
+    private final long[] genderCounts = new long[Gender.values().length];
+
+    public PersonStatistics() {
+        this(EnumSet.allOf(Aggregate.class));
+    }
+
+    public PersonStatistics(Set<Aggregate> aggregates) {
+        this.aggregates = aggregates.isEmpty() ? EnumSet.noneOf(Aggregate.class) : EnumSet.copyOf(aggregates);
+        this.numeric = aggregates.contains(Aggregate.SUM) || aggregates.contains(Aggregate.MIN)
+                || aggregates.contains(Aggregate.MAX) || aggregates.contains(Aggregate.MEAN)
+                || aggregates.contains(Aggregate.VARIANCE);
+        this.histogram = aggregates.contains(Aggregate.AGE_HISTOGRAM);
+        this.mbti = aggregates.contains(Aggregate.MBTI_COUNTS);
+        this.gender = aggregates.contains(Aggregate.GENDER_COUNTS);
+    }
+
+    /**
+     * 요청한 집계만 계산하는 Collector. 병렬 Stream에서는 부분 결과를 combine으로 합친다.
+     */
+    public static Collector<Person, ?, PersonStatistics> summarizing(Aggregate first, Aggregate... rest) {
+        Set<Aggregate> aggregates = EnumSet.of(first, rest);
+        return Collector.of(
+                () -> new PersonStatistics(aggregates),
+                PersonStatistics::accept,
+                PersonStatistics::combine,
+                Collector.Characteristics.IDENTITY_FINISH,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    public static Collector<Person, ?, PersonStatistics> summarizing() {
+        return Collector.of(
+                PersonStatistics::new,
+                PersonStatistics::accept,
+                PersonStatistics::combine,
+                Collector.Characteristics.IDENTITY_FINISH,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * PersonTable의 행들을 한 번에 집계한다. 객체를 만들지 않고 열 배열 값을 바로 누적한다.
+     */
+    public static PersonStatistics of(PersonTable table, int[] rows, Set<Aggregate> aggregates) {
+        PersonStatistics statistics = new PersonStatistics(aggregates);
+        for (int row : rows) {
+            statistics.accept(table, row);
+        }
+        return statistics;
+    }
+
+    @Override
+    public void accept(Person person) {
+        accept(person.getAge(), Mbti.of(person.getMbti()), person.getGender());
+    }
+
+    public void accept(PersonTable table, int row) {
+        accept(table.age(row), table.mbti(row), table.gender(row));
+    }
+
+    public void accept(int age, Mbti mbtiType, Gender genderType) {
+        count++;
+        if (numeric) {
+            sum += age;
+            sumOfSquares += (long) age * age;
+            min = Math.min(min, age);
+            max = Math.max(max, age);
+        }
+        if (histogram) {
+            if (age < 0) {
+                throw new IllegalArgumentException("나이는 음수일 수 없습니다: " + age);
+            }
+            int decade = Math.min(age / DECADE, LAST_DECADE);    // MAX_AGE 이상은 마지막 칸에 모은다.
+            if (decade >= ageHistogram.length) {
+                ageHistogram = Arrays.copyOf(ageHistogram, decade + 1);
+            }
+            ageHistogram[decade]++;
+        }
+        if (mbti) {
+            mbtiCounts[mbtiType.code()]++;
+        }
+        if (gender) {
+            genderCounts[genderType.ordinal()]++;
+        }
+    }
+
+    /**
+     * other의 결과를 이 객체에 합치고 자기 자신을 리턴한다. 두 객체의 집계 종류는 같아야 한다.
+     */
+    public PersonStatistics combine(PersonStatistics other) {
+        if (!aggregates.equals(other.aggregates)) {
+            throw new IllegalArgumentException("집계 종류가 다릅니다: " + aggregates + ", " + other.aggregates);
+        }
+
+        count += other.count;
+        sum += other.sum;
+        sumOfSquares += other.sumOfSquares;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        if (other.ageHistogram.length > ageHistogram.length) {
+            ageHistogram = Arrays.copyOf(ageHistogram, other.ageHistogram.length);
+        }
+        for (int i = 0; i < other.ageHistogram.length; i++) {
+            ageHistogram[i] += other.ageHistogram[i];
+        }
+        for (int i = 0; i < mbtiCounts.length; i++) {
+            mbtiCounts[i] += other.mbtiCounts[i];
+        }
+        for (int i = 0; i < genderCounts.length; i++) {
+            genderCounts[i] += other.genderCounts[i];
+        }
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        require(Aggregate.SUM);
+        return sum;
+    }
+
+    /**
+     * 값이 없으면 Integer.MAX_VALUE (IntSummaryStatistics와 같다)
+     */
+    public int getMin() {
+        require(Aggregate.MIN);
+        return min;
+    }
+
+    /**
+     * 값이 없으면 Integer.MIN_VALUE (IntSummaryStatistics와 같다)
+     */
+    public int getMax() {
+        require(Aggregate.MAX);
+        return max;
+    }
+
+    public double getAverage() {
+        require(Aggregate.MEAN);
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * 모분산
+     */
+    public double getVariance() {
+        require(Aggregate.VARIANCE);
+        if (count == 0) {
+            return 0.0;
+        }
+        double mean = (double) sum / count;
+        return Math.max(0.0, (double) sumOfSquares / count - mean * mean);
+    }
+
+    /**
+     * 나이대별 인원. index 0 = 0 ~ 9세, 1 = 10 ~ 19세, 2 = 20 ~ 29세 ...
+     * 마지막 칸(PersonTable.MAX_AGE / 10)에는 그 나이대 이상이 모두 들어간다.
+     */
+    public long[] getAgeHistogram() {
+        require(Aggregate.AGE_HISTOGRAM);
+        return ageHistogram.clone();
+    }
+
+    public long getAgeHistogram(int decade) {
+        require(Aggregate.AGE_HISTOGRAM);
+        return decade < ageHistogram.length ? ageHistogram[decade] : 0;
+    }
+
+    public long getCount(Mbti type) {
+        require(Aggregate.MBTI_COUNTS);
+        return mbtiCounts[type.code()];
+    }
+
+    public Map<Mbti, Long> getMbtiCounts() {
+        require(Aggregate.MBTI_COUNTS);
+        Map<Mbti, Long> counts = new EnumMap<>(Mbti.class);
+        for (Mbti type : Mbti.values()) {
+            if (mbtiCounts[type.code()] > 0) {
+                counts.put(type, mbtiCounts[type.code()]);
+            }
+        }
+        return counts;
+    }
+
+    public long getCount(Gender type) {
+        require(Aggregate.GENDER_COUNTS);
+        return genderCounts[type.ordinal()];
+    }
+
+    private void require(Aggregate aggregate) {
+        if (!aggregates.contains(aggregate)) {
+            throw new IllegalStateException(aggregate + " 집계를 요청하지 않았습니다. 요청한 집계: " + aggregates);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PersonStatistics{aggregates=" + aggregates + ", count=" + count + ", sum=" + sum
+                + ", min=" + min + ", max=" + max + "}";
+    }
+}
@@ -0,0 +1,105 @@
+package com.sparta.nbcamp.studyStream.person.aggregate;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * 여러 스레드가 동시에 더하는 long 카운터 배열 (LongAdder 를 배열로 펼친 것).
+ * <p>
+ * 카운터 배열을 스트라이프(stripe) 여러 벌 두고 스레드마다 자기 탐사값(probe)으로 고른 스트라이프에 원자적으로 더한다.
+ * 탐사값의 처음 값은 ForkJoinPool 워커면 풀 안의 번호(병렬 Stream 워커끼리 겹치지 않는다), 그 외에는 스레드 id 해시다.
+ * CAS 가 실패하면(다른 스레드와 같은 칸을 다툼) LongAdder 처럼 탐사값을 바꿔 다음부터 다른 스트라이프를 쓴다.
+ * 스트라이프 사이에는 캐시 라인 두 개(128바이트) 이상 간격을 두어 서로 다른 코어가 같은 캐시 라인을 두고 다투지 않게 한다.
+ * 읽을 때는 모든 스트라이프의 같은 칸을 더한다. 더하는 도중에 읽으면 그 시점까지 반영된 값이다.
+ */
+public class StripedCounters {
+    private static final VarHandle CELLS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int PADDING = 16;   // long 16개 = 128바이트
+    private static final int MAX_STRIPES = 1 << 10;
+    private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(() -> new int[]{initialProbe()});
+
+    private final long[] cells;
+    private final int length;
+    private final int stride;
+    private final int stripeMask;
+
+    public StripedCounters(int length) {
+        this(length, Runtime.getRuntime().availableProcessors());
+    }
+
+    public StripedCounters(int length, int parallelism) {
+        if (length <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("length와 parallelism은 0보다 커야 합니다: length=" + length
+                    + ", parallelism=" + parallelism);
+        }
+        int stripes = Integer.highestOneBit(Math.min(parallelism, MAX_STRIPES) * 2 - 1);
+        this.length = length;
+        this.stride = (length + PADDING - 1) / PADDING * PADDING + PADDING;
+        this.stripeMask = stripes - 1;
+        this.cells = new long[stride * stripes + PADDING];
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public void add(int index, long delta) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int[] probe = PROBE.get();
+        int offset = offset(probe[0], index);
+        long current = (long) CELLS.getVolatile(cells, offset);
+        if (!CELLS.compareAndSet(cells, offset, current, current + delta)) {
+            probe[0] = advanceProbe(probe[0]);
+            CELLS.getAndAdd(cells, offset(probe[0], index), delta);
+        }
+    }
+
+    public void increment(int index) {
+        add(index, 1);
+    }
+
+    public long sum(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        long sum = 0;
+        for (int base = PADDING; base < cells.length; base += stride) {
+            sum += (long) CELLS.getVolatile(cells, base + index);
+        }
+        return sum;
+    }
+
+    /**
+     * 현재 스레드가 다음에 더할 스트라이프 번호
+     */
+    int currentStripe() {
+        return PROBE.get()[0] & stripeMask;
+    }
+
+    private int offset(int probe, int index) {
+        return PADDING + (probe & stripeMask) * stride + index;
+    }
+
+    /**
+     * 아래 10비트는 ForkJoinPool 워커 번호(워커가 아니면 해시), 위쪽은 스레드 id 해시. 0이면 xorshift 가 멈추므로 피한다.
+     */
+    private static int initialProbe() {
+        Thread thread = Thread.currentThread();
+        long id = thread.threadId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        int probe = thread instanceof ForkJoinWorkerThread worker
+                ? (hash & -MAX_STRIPES) | (worker.getPoolIndex() & (MAX_STRIPES - 1))
+                : hash ^ (hash >>> 16);
+        return probe == 0 ? 1 : probe;
+    }
+
+    private static int advanceProbe(int probe) {
+        probe ^= probe << 13;
+        probe ^= probe >>> 17;
+        probe ^= probe << 5;
+        return probe;
+    }
+}
@@ -0,0 +1,53 @@
+package com.sparta.nbcamp.studyStream.person.cache;
+
+/**
+ * {@link QueryCache} 통계의 스냅샷.
+ * rejectionCount 는 캐시가 가득 찼을 때 TinyLFU 판정에서 밀려 저장되지 않은 값의 개수다.
+ */
+public final class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long rejectionCount;
+
+    CacheStats(long hitCount, long missCount, long evictionCount, long rejectionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.rejectionCount = rejectionCount;
+    }
+
+    public long hitCount() {
+        return hitCount;
+    }
+
+    public long missCount() {
+        return missCount;
+    }
+
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * 요청이 없으면 1.0
+     */
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    public long rejectionCount() {
+        return rejectionCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hit=" + hitCount + ", miss=" + missCount + ", hitRate=" + hitRate()
+                + ", eviction=" + evictionCount + ", rejection=" + rejectionCount + "}";
+    }
+}
@@ -0,0 +1,91 @@
+package com.sparta.nbcamp.studyStream.person.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * TinyLFU 빈도 추정기. 4비트 카운터 16개를 long 하나에 담은 count-min sketch다.
+ * <p>
+ * 키마다 해시 함수 4개로 카운터 4개를 올리고, 빈도는 그중 최솟값으로 추정한다.
+ * 카운터는 15에서 멈추며, 증가 횟수가 sampleSize에 도달하면 모든 카운터를 절반으로 줄여(aging)
+ * 오래전에 자주 쓰인 키가 계속 높은 빈도를 갖지 않게 한다.
+ * 증가는 CAS 한 번만 시도하고 실패하면 버린다(lossy). 추정치이므로 정확도보다 읽기 경로에 락이 없는 것을 택했다.
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+    private static final int MAX_COUNT = 15;
+
+    private final AtomicLongArray table;
+    private final int tableMask;
+    private final int sampleSize;
+    private final AtomicInteger additions = new AtomicInteger();
+
+    FrequencySketch(long maximumSize) {
+        int capacity = (int) Math.min(Math.max(maximumSize, 16), 1 << 24);
+        int length = Integer.highestOneBit(capacity - 1) << 1;
+        this.table = new AtomicLongArray(length);
+        this.tableMask = length - 1;
+        this.sampleSize = 10 * length;
+    }
+
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long value = table.get(indexOf(hash, i));
+            frequency = Math.min(frequency, (int) ((value >>> shiftOf(hash, i)) & MAX_COUNT));
+        }
+        return frequency;
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= tryIncrement(indexOf(hash, i), shiftOf(hash, i));
+        }
+        if (added && additions.incrementAndGet() == sampleSize) {
+            reset();
+            additions.addAndGet(-(sampleSize >>> 1));
+        }
+    }
+
+    private boolean tryIncrement(int index, int shift) {
+        long value = table.get(index);
+        if (((value >>> shift) & MAX_COUNT) == MAX_COUNT) {
+            return false;
+        }
+        return table.compareAndSet(index, value, value + (1L << shift));
+    }
+
+    /**
+     * 모든 카운터를 절반으로 줄인다. (각 4비트를 한 칸씩 밀고 옆 카운터에서 넘어온 비트를 지운다)
+     */
+    private void reset() {
+        for (int i = 0; i < table.length(); i++) {
+            table.set(i, (table.get(i) >>> 1) & RESET_MASK);
+        }
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & tableMask;
+    }
+
+    /**
+     * 해시 함수마다 long 안의 서로 다른 4칸 묶음을 쓴다. (i번째 함수는 i*4 ~ i*4+3 번 카운터 중 하나)
+     */
+    private static int shiftOf(int hash, int i) {
+        int counter = (i << 2) + ((hash >>> (i << 3)) & 3);
+        return counter << 2;
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E37_79B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,105 @@
+package com.sparta.nbcamp.studyStream.person.cache;
+
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import com.sparta.nbcamp.studyStream.person.PersonTableListener;
+import com.sparta.nbcamp.studyStream.person.query.Query;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * PersonTable 하나에 대한 {@link Query} 결과 캐시.
+ * <p>
+ * 키는 (Query, 테이블 버전)이다. Query는 미리 컴파일해 두고 재사용하는 불변 객체이므로 객체 자체(identity)가 질의의
+ * 정규형 역할을 한다. 람다로 만든 단계는 내용을 비교할 수 없기 때문에 같은 모양의 Query를 새로 만들면 다른 키가 된다.
+ * 테이블이 바뀌면 버전이 달라져 이전 결과는 더 이상 맞지 않고, 리스너로 변경을 받아 이전 결과를 바로 비운다.
+ * <p>
+ * 무게는 결과가 Collection / Map 이면 원소 수 + 1, 그 외(count, average 등)는 1이다.
+ */
+public class PersonQueryCache implements PersonTableListener {
+    private final PersonTable table;
+    private final QueryCache<Key, Object> cache;
+
+    private PersonQueryCache(PersonTable table, QueryCache<Key, Object> cache) {
+        this.table = table;
+        this.cache = cache;
+    }
+
+    public static PersonQueryCache of(PersonTable table, long maximumSize, long maximumWeight) {
+        QueryCache<Key, Object> cache = QueryCache.<Key, Object>builder()
+                .maximumSize(maximumSize)
+                .maximumWeight(maximumWeight)
+                .weigher(PersonQueryCache::weigh)
+                .build();
+        PersonQueryCache queryCache = new PersonQueryCache(table, cache);
+        table.addListener(queryCache);
+        return queryCache;
+    }
+
+    /**
+     * 캐시된 결과가 있으면 그대로, 없으면 테이블의 (삭제되지 않은) 행에 질의를 실행한 결과를 리턴한다.
+     * 결과 객체는 캐시와 공유되므로 수정하면 안 된다.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R execute(Query<Person, R> query) {
+        return (R) cache.get(new Key(query, table.version()),
+                key -> query.execute(table.toPeople(table.allRows())));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long weight() {
+        return cache.weight();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시를 테이블에서 떼어낸다. 이후 테이블 변경은 통지되지 않는다.
+     */
+    public void detach() {
+        table.removeListener(this);
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void onInsert(PersonTable table, int row) {
+        invalidateIfNotEmpty();
+    }
+
+    @Override
+    public void onDelete(PersonTable table, int row) {
+        invalidateIfNotEmpty();
+    }
+
+    /**
+     * 대량 적재처럼 변경이 연속될 때 빈 캐시에서 락을 잡지 않게 한다.
+     */
+    private void invalidateIfNotEmpty() {
+        if (cache.size() > 0) {
+            cache.invalidateAll();
+        }
+    }
+
+    private static long weigh(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size() + 1L;
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size() + 1L;
+        }
+        return 1;
+    }
+
+    private record Key(Query<?, ?> query, long version) {
+    }
+}
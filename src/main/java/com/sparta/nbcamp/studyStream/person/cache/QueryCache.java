@@ -0,0 +1,267 @@
+package com.sparta.nbcamp.studyStream.person.cache;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 개수와 무게(weight)로 크기를 제한하는 질의 결과 캐시.
+ * <p>
+ * 조회(hit)는 ConcurrentHashMap.get, 접근 시각 기록(volatile 쓰기), 빈도 카운터 CAS 뿐이라 락을 잡지 않는다.
+ * 저장 / 삭제만 evictionLock 아래에서 map과 노드 배열을 함께 바꾼다.
+ * <p>
+ * 가득 찼을 때는 노드 SAMPLE_SIZE 개를 무작위로 골라 가장 오래 전에 조회된 노드를 희생자로 삼고(근사 LRU),
+ * 새 값의 추정 빈도({@link FrequencySketch})가 희생자보다 낮으면 희생자 대신 새 값을 버린다(TinyLFU 허용 정책).
+ * 한 번 쓰이고 마는 질의 결과가 자주 쓰이는 결과를 밀어내지 못한다.
+ * <p>
+ * 같은 키를 여러 스레드가 동시에 놓치면 loader가 여러 번 실행될 수 있다. 마지막에 저장한 값이 남는다.
+ *
+ * @param <K> 키 타입. equals / hashCode 가 정의되어 있어야 한다.
+ * @param <V> 값 타입. null 은 저장하지 않는다.
+ */
+public class QueryCache<K, V> {
+    static final int SAMPLE_SIZE = 8;
+
+    private final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final long maximumSize;
+    private final long maximumWeight;
+    private final ToLongFunction<? super V> weigher;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder rejectionCount = new LongAdder();
+
+    // evictionLock 으로 보호
+    private Node<K, V>[] nodes;
+    private int nodeCount;
+    private long totalWeight;
+    private long random = 0x2545_F491_4F6C_DD1DL;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private QueryCache(Builder<K, V> builder) {
+        this.maximumSize = builder.maximumSize;
+        this.maximumWeight = builder.maximumWeight;
+        this.weigher = builder.weigher;
+        this.sketch = new FrequencySketch(builder.maximumSize);
+        this.nodes = new Node[(int) Math.min(builder.maximumSize, 16)];
+    }
+
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 저장된 값을 리턴한다. 없으면 null
+     */
+    public V getIfPresent(K key) {
+        sketch.increment(key);
+        Node<K, V> node = map.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        node.accessTime = System.nanoTime();
+        hitCount.increment();
+        return node.value;
+    }
+
+    /**
+     * 저장된 값을 리턴하고, 없으면 loader로 만들어 저장한 뒤 리턴한다. loader는 락 밖에서 실행된다.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = Objects.requireNonNull(loader.apply(key), "loader가 null을 리턴했습니다.");
+        put(key, value);
+        return value;
+    }
+
+    public void put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        long weight = weigher.applyAsLong(value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("weight는 0 이상이어야 합니다: " + weight);
+        }
+
+        evictionLock.lock();
+        try {
+            Node<K, V> old = map.get(key);
+            if (old != null) {
+                removeNode(old);
+            }
+            if (weight > maximumWeight || !makeRoom(key, weight)) {
+                rejectionCount.increment();
+                return;
+            }
+            addNode(new Node<>(key, value, weight, System.nanoTime()));
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        evictionLock.lock();
+        try {
+            Node<K, V> node = map.get(key);
+            if (node != null) {
+                removeNode(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            map.clear();
+            Arrays.fill(nodes, 0, nodeCount, null);
+            nodeCount = 0;
+            totalWeight = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public long weight() {
+        evictionLock.lock();
+        try {
+            return totalWeight;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), rejectionCount.sum());
+    }
+
+    /**
+     * 새 값이 들어갈 자리를 만든다. 희생자보다 새 키의 빈도가 낮으면 false (새 값을 버린다)
+     */
+    private boolean makeRoom(K key, long weight) {
+        while (nodeCount + 1 > maximumSize || totalWeight + weight > maximumWeight) {
+            Node<K, V> victim = sampleVictim();
+            if (sketch.frequency(key) < sketch.frequency(victim.key)) {
+                return false;
+            }
+            removeNode(victim);
+            evictionCount.increment();
+        }
+        return true;
+    }
+
+    /**
+     * 노드가 SAMPLE_SIZE 개 이하이면 전부 비교하므로 정확한 LRU가 된다.
+     */
+    private Node<K, V> sampleVictim() {
+        Node<K, V> victim = null;
+        boolean all = nodeCount <= SAMPLE_SIZE;
+        int samples = all ? nodeCount : SAMPLE_SIZE;
+        for (int i = 0; i < samples; i++) {
+            Node<K, V> node = nodes[all ? i : nextIndex()];
+            if (victim == null || node.accessTime < victim.accessTime) {
+                victim = node;
+            }
+        }
+        return victim;
+    }
+
+    private int nextIndex() {
+        random ^= random << 13;
+        random ^= random >>> 7;
+        random ^= random << 17;
+        return (int) ((random >>> 1) % nodeCount);
+    }
+
+    private void addNode(Node<K, V> node) {
+        if (nodeCount == nodes.length) {
+            nodes = Arrays.copyOf(nodes, (int) Math.min(maximumSize, (long) nodes.length * 2));
+        }
+        node.index = nodeCount;
+        nodes[nodeCount++] = node;
+        totalWeight += node.weight;
+        map.put(node.key, node);
+    }
+
+    /**
+     * 마지막 노드를 빈 자리로 옮겨 배열을 빈틈없이 유지한다.
+     */
+    private void removeNode(Node<K, V> node) {
+        map.remove(node.key, node);
+        Node<K, V> last = nodes[--nodeCount];
+        nodes[node.index] = last;
+        last.index = node.index;
+        nodes[nodeCount] = null;
+        totalWeight -= node.weight;
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final long weight;
+        volatile long accessTime;
+        int index;  // evictionLock 으로 보호
+
+        Node(K key, V value, long weight, long accessTime) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.accessTime = accessTime;
+        }
+    }
+
+    public static final class Builder<K, V> {
+        private long maximumSize = 1_000;
+        private long maximumWeight = Long.MAX_VALUE;
+        private ToLongFunction<? super V> weigher = value -> 1;
+
+        private Builder() {
+        }
+
+        /**
+         * 최대 개수. 기본값 1,000
+         */
+        public Builder<K, V> maximumSize(long maximumSize) {
+            if (maximumSize <= 0 || maximumSize > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("maximumSize 범위가 잘못되었습니다: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * 무게 합의 최대값. 무게는 weigher로 계산한다. (기본 weigher는 모든 값이 1)
+         */
+        public Builder<K, V> maximumWeight(long maximumWeight) {
+            if (maximumWeight <= 0) {
+                throw new IllegalArgumentException("maximumWeight는 0보다 커야 합니다: " + maximumWeight);
+            }
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        public Builder<K, V> weigher(ToLongFunction<? super V> weigher) {
+            this.weigher = Objects.requireNonNull(weigher);
+            return this;
+        }
+
+        public QueryCache<K, V> build() {
+            return new QueryCache<>(this);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.sparta.nbcamp.studyStream.person.distinct;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * long id 기준 중복 제거 단계. stream.filter(DistinctById.of(Person::getId)) 처럼 사용한다.
+ * <p>
+ * Stream.distinct()는 equals / hashCode에 의존하기 때문에 구현이 잘못되면 결과가 틀리고(Long을 == 로 비교),
+ * 모든 필드를 해싱하면 느리다. 이 단계는 id만 {@link LongHashSet}에 저장하므로 박싱과 필드 해싱이 없다.
+ * <ul>
+ *     <li>{@link #of(ToLongFunction)} : 정확한 중복 제거. 지금까지 나온 모든 id를 기억한다.</li>
+ *     <li>{@link #window(ToLongFunction, int)} : 끝없는 입력용. 최근 windowSize개의 서로 다른 id만 기억하므로
+ *     메모리는 일정하지만, 그보다 오래 전에 나온 id가 다시 나오면 통과시킨다.</li>
+ * </ul>
+ * 상태를 가지는 Predicate이므로 순차 Stream에서만 사용하고, 실행마다 새로 만든다.
+ */
+public final class DistinctById<T> implements Predicate<T> {
+    private final ToLongFunction<? super T> idExtractor;
+    private final LongHashSet seen;
+    private final long[] window;      // 최근 id (ring buffer), 제한이 없으면 null
+    private int windowStart;
+    private int windowSize;
+
+    private DistinctById(ToLongFunction<? super T> idExtractor, int windowCapacity) {
+        this.idExtractor = idExtractor;
+        this.seen = new LongHashSet(windowCapacity > 0 ? windowCapacity : 16);
+        this.window = windowCapacity > 0 ? new long[windowCapacity] : null;
+    }
+
+    public static <T> DistinctById<T> of(ToLongFunction<? super T> idExtractor) {
+        return new DistinctById<>(idExtractor, 0);
+    }
+
+    public static <T> DistinctById<T> window(ToLongFunction<? super T> idExtractor, int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize는 1 이상이어야 합니다: " + windowSize);
+        }
+        return new DistinctById<>(idExtractor, windowSize);
+    }
+
+    /**
+     * id 기준으로 처음 나온 요소만 순서대로 남긴다.
+     */
+    public static <T> List<T> distinct(Iterable<? extends T> source, ToLongFunction<? super T> idExtractor) {
+        DistinctById<T> distinct = of(idExtractor);
+        List<T> result = new ArrayList<>();
+        for (T element : source) {
+            if (distinct.test(element)) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 처음 보는 id(window 모드에서는 최근 window 안에 없는 id)이면 true
+     */
+    @Override
+    public boolean test(T element) {
+        long id = idExtractor.applyAsLong(element);
+        if (!seen.add(id)) {
+            return false;
+        }
+
+        if (window != null) {
+            if (windowSize == window.length) {
+                seen.remove(window[windowStart]);
+                window[windowStart] = id;
+                windowStart = (windowStart + 1) % window.length;
+            } else {
+                window[(windowStart + windowSize++) % window.length] = id;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 기억하고 있는 id 개수
+     */
+    public int size() {
+        return seen.size();
+    }
+}
@@ -0,0 +1,180 @@
+package com.sparta.nbcamp.studyStream.person.distinct;
+
+import java.util.Arrays;
+
+/**
+ * long 전용 오픈 어드레싱(선형 탐사) 해시 집합. Long 박싱 없이 long[] 하나에 저장한다.
+ * <p>
+ * 빈 칸을 0으로 표시하기 때문에 0은 별도 플래그로 관리한다.
+ * 삭제 시에는 뒤따르는 원소를 앞으로 당겨(backward shift) 탐사 경로가 끊기지 않게 한다.
+ */
+public class LongHashSet {
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.5f;
+    /**
+     * 배열 최대 길이(Integer.MAX_VALUE 근처) 이하인 가장 큰 2의 거듭제곱
+     */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = tableSizeFor(expectedSize);
+        this.table = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 새로 추가되면 true, 이미 있으면 false
+     */
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int index = indexOf(value);
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        if (++size > table.length * LOAD_FACTOR) {
+            grow();
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+
+        int index = indexOf(value);
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public boolean remove(long value) {
+        if (value == EMPTY) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+
+        int index = indexOf(value);
+        while (table[index] != value) {
+            if (table[index] == EMPTY) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        shiftBack(index);
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(table, EMPTY);
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * 빈 칸이 된 hole 뒤의 원소 중 원래 위치가 hole 이전(순환 기준)인 원소를 당겨 온다.
+     */
+    private void shiftBack(int hole) {
+        int index = hole;
+        while (true) {
+            index = (index + 1) & mask;
+            long value = table[index];
+            if (value == EMPTY) {
+                table[hole] = EMPTY;
+                return;
+            }
+
+            int home = indexOf(value);
+            boolean movable = hole <= index
+                    ? home <= hole || home > index
+                    : home <= hole && home > index;
+            if (movable) {
+                table[hole] = value;
+                hole = index;
+            }
+        }
+    }
+
+    /**
+     * expectedSize개를 LOAD_FACTOR 이하로 담을 수 있는 2의 거듭제곱 크기. 계산은 long으로 해 int 오버플로를 막고 MAX_CAPACITY로 자른다.
+     */
+    static int tableSizeFor(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize는 0 이상이어야 합니다: " + expectedSize);
+        }
+        long required = Math.max(4L, (long) Math.ceil(expectedSize / (double) LOAD_FACTOR));
+        if (required >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Integer.highestOneBit((int) required - 1) << 1;
+    }
+
+    /**
+     * MAX_CAPACITY에 이르면 더 키우지 않고 LOAD_FACTOR를 넘겨 채운다. 빈 칸이 하나는 남아야 탐사가 끝나므로 그 전에 실패시킨다.
+     */
+    private void grow() {
+        if (table.length < MAX_CAPACITY) {
+            rehash(table.length << 1);
+        } else if (size >= table.length - 1) {
+            throw new IllegalStateException("LongHashSet의 최대 크기를 넘었습니다: " + size);
+        }
+    }
+
+    private int indexOf(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] old = table;
+        table = new long[capacity];
+        mask = capacity - 1;
+        for (long value : old) {
+            if (value != EMPTY) {
+                int index = indexOf(value);
+                while (table[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = value;
+            }
+        }
+    }
+}
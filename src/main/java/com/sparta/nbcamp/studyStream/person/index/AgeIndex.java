@@ -0,0 +1,162 @@
+package com.sparta.nbcamp.studyStream.person.index;
+
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import com.sparta.nbcamp.studyStream.person.PersonTableListener;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 나이별 버킷 + 펜윅 트리(Fenwick tree)로 구성한 나이 보조 인덱스.
+ * <p>
+ * 나이는 값의 범위가 작기 때문에(0 ~ {@link PersonTable#MAX_AGE}, 테이블이 추가 전에 검증한다)
+ * 나이마다 버킷(행 번호 배열)을 하나씩 두고, 버킷 크기의 누적 합을 펜윅 트리로 관리한다.
+ * <ul>
+ *     <li>범위 개수 : O(log A) (A = 최대 나이)</li>
+ *     <li>범위 조회 : O(log A + 결과 개수)</li>
+ *     <li>나이순 정렬 : 버킷을 차례로 이어 붙이므로 다시 정렬하지 않는다. 같은 나이는 행 번호 순서(stable)</li>
+ * </ul>
+ * 테이블에 리스너로 등록되어 행 추가/삭제 시 함께 갱신된다.
+ */
+public class AgeIndex implements PersonTableListener {
+    private static final int[] EMPTY = new int[0];
+
+    private static final int AGES = PersonTable.MAX_AGE + 1;
+
+    private final int[][] buckets = new int[AGES][];
+    private final int[] bucketSizes = new int[AGES];
+    private final long[] tree = new long[AGES + 1];
+    private int size;
+
+    private AgeIndex() {
+    }
+
+    /**
+     * 테이블의 현재 행으로 인덱스를 만들고 이후 변경을 따라가도록 리스너로 등록한다.
+     */
+    public static AgeIndex of(PersonTable table) {
+        AgeIndex index = new AgeIndex();
+        for (int row : table.allRows()) {
+            index.onInsert(table, row);
+        }
+        table.addListener(index);
+        return index;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * from <= age < to 인 행의 개수
+     */
+    public long count(int from, int to) {
+        int lower = clamp(from);
+        int upper = clamp(to);
+        if (lower >= upper) {
+            return 0;
+        }
+        return prefixSum(upper) - prefixSum(lower);
+    }
+
+    /**
+     * from <= age < to 인 행 번호. 나이 오름차순, 같은 나이는 행 번호 오름차순이다.
+     */
+    public int[] rows(int from, int to) {
+        int lower = clamp(from);
+        int upper = clamp(to);
+        if (lower >= upper) {
+            return EMPTY;
+        }
+
+        int[] rows = new int[(int) (prefixSum(upper) - prefixSum(lower))];
+        int offset = 0;
+        for (int age = lower; age < upper; age++) {
+            System.arraycopy(bucketOf(age), 0, rows, offset, bucketSizes[age]);
+            offset += bucketSizes[age];
+        }
+        return rows;
+    }
+
+    /**
+     * from <= age < to 인 행 번호를 rows(from, to)와 같은 순서로 action에 전달한다. 결과 배열을 만들지 않는다.
+     */
+    public void forEachRow(int from, int to, IntConsumer action) {
+        int upper = clamp(to);
+        for (int age = clamp(from); age < upper; age++) {
+            int[] bucket = bucketOf(age);
+            for (int i = 0; i < bucketSizes[age]; i++) {
+                action.accept(bucket[i]);
+            }
+        }
+    }
+
+    /**
+     * 전체 행을 나이 오름차순으로 리턴한다. (Comparator.comparing(Person::getAge) 정렬과 같은 순서)
+     */
+    public int[] sortedRows() {
+        return rows(0, bucketSizes.length);
+    }
+
+    @Override
+    public void onInsert(PersonTable table, int row) {
+        int age = table.age(row);
+        int[] bucket = bucketOf(age);
+        int bucketSize = bucketSizes[age];
+        if (bucketSize == bucket.length) {
+            bucket = Arrays.copyOf(bucket, Math.max(4, bucketSize + (bucketSize >> 1)));
+            buckets[age] = bucket;
+        }
+
+        // 행 번호는 보통 증가하는 순서로 들어오므로 대부분 맨 뒤에 붙는다.
+        int insertAt = bucketSize == 0 || bucket[bucketSize - 1] < row
+                ? bucketSize
+                : -Arrays.binarySearch(bucket, 0, bucketSize, row) - 1;
+        System.arraycopy(bucket, insertAt, bucket, insertAt + 1, bucketSize - insertAt);
+        bucket[insertAt] = row;
+        bucketSizes[age]++;
+        update(age, 1);
+        size++;
+    }
+
+    @Override
+    public void onDelete(PersonTable table, int row) {
+        int age = table.age(row);
+        int[] bucket = bucketOf(age);
+        int index = Arrays.binarySearch(bucket, 0, bucketSizes[age], row);
+        if (index < 0) {
+            return;
+        }
+
+        System.arraycopy(bucket, index + 1, bucket, index, bucketSizes[age] - index - 1);
+        bucketSizes[age]--;
+        update(age, -1);
+        size--;
+    }
+
+    private int[] bucketOf(int age) {
+        int[] bucket = buckets[age];
+        return bucket == null ? EMPTY : bucket;
+    }
+
+    private int clamp(int age) {
+        return Math.max(0, Math.min(age, bucketSizes.length));
+    }
+
+    /**
+     * [0, age) 범위 버킷 크기의 합
+     */
+    private long prefixSum(int age) {
+        long sum = 0;
+        for (int i = age; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private void update(int age, int delta) {
+        for (int i = age + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+}
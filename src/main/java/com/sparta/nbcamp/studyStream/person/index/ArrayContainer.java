@@ -0,0 +1,185 @@
+package com.sparta.nbcamp.studyStream.person.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 정렬된 char 배열 컨테이너. 원소가 {@link Container#ARRAY_MAX_SIZE}개를 넘으면 비트맵으로 바뀐다.
+ */
+class ArrayContainer extends Container {
+    char[] values;
+    int cardinality;
+
+    ArrayContainer() {
+        this(new char[4], 0);
+    }
+
+    ArrayContainer(char[] values, int cardinality) {
+        this.values = values;
+        this.cardinality = cardinality;
+    }
+
+    @Override
+    Container add(char value) {
+        int index = Arrays.binarySearch(values, 0, cardinality, value);
+        if (index >= 0) {
+            return this;
+        }
+        if (cardinality >= ARRAY_MAX_SIZE) {
+            return toBitmap().add(value);
+        }
+
+        int insertAt = -index - 1;
+        if (cardinality == values.length) {
+            values = Arrays.copyOf(values, Math.min(ARRAY_MAX_SIZE, Math.max(4, cardinality * 2)));
+        }
+        System.arraycopy(values, insertAt, values, insertAt + 1, cardinality - insertAt);
+        values[insertAt] = value;
+        cardinality++;
+        return this;
+    }
+
+    @Override
+    Container remove(char value) {
+        int index = Arrays.binarySearch(values, 0, cardinality, value);
+        if (index >= 0) {
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+        }
+        return this;
+    }
+
+    @Override
+    boolean contains(char value) {
+        return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    Container and(Container other) {
+        if (other instanceof BitmapContainer) {
+            return other.and(this);
+        }
+
+        ArrayContainer that = (ArrayContainer) other;
+        char[] result = new char[Math.min(cardinality, that.cardinality)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < cardinality && j < that.cardinality) {
+            if (values[i] < that.values[j]) {
+                i++;
+            } else if (values[i] > that.values[j]) {
+                j++;
+            } else {
+                result[count++] = values[i];
+                i++;
+                j++;
+            }
+        }
+        return new ArrayContainer(result, count);
+    }
+
+    @Override
+    int andCardinality(Container other) {
+        if (other instanceof BitmapContainer) {
+            return other.andCardinality(this);
+        }
+
+        ArrayContainer that = (ArrayContainer) other;
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < cardinality && j < that.cardinality) {
+            if (values[i] < that.values[j]) {
+                i++;
+            } else if (values[i] > that.values[j]) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    Container or(Container other) {
+        if (other instanceof BitmapContainer) {
+            return other.or(this);
+        }
+
+        ArrayContainer that = (ArrayContainer) other;
+        if (cardinality + that.cardinality > ARRAY_MAX_SIZE) {
+            return toBitmap().or(that);
+        }
+
+        char[] result = new char[cardinality + that.cardinality];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < cardinality && j < that.cardinality) {
+            if (values[i] < that.values[j]) {
+                result[count++] = values[i++];
+            } else if (values[i] > that.values[j]) {
+                result[count++] = that.values[j++];
+            } else {
+                result[count++] = values[i];
+                i++;
+                j++;
+            }
+        }
+        while (i < cardinality) {
+            result[count++] = values[i++];
+        }
+        while (j < that.cardinality) {
+            result[count++] = that.values[j++];
+        }
+        return new ArrayContainer(result, count);
+    }
+
+    @Override
+    Container andNot(Container other) {
+        char[] result = new char[cardinality];
+        int count = 0;
+        for (int i = 0; i < cardinality; i++) {
+            if (!other.contains(values[i])) {
+                result[count++] = values[i];
+            }
+        }
+        return new ArrayContainer(result, count);
+    }
+
+    @Override
+    Container copy() {
+        return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 4)), cardinality);
+    }
+
+    @Override
+    void forEach(int high, IntConsumer consumer) {
+        for (int i = 0; i < cardinality; i++) {
+            consumer.accept(high | values[i]);
+        }
+    }
+
+    @Override
+    int fill(int high, int[] target, int offset) {
+        for (int i = 0; i < cardinality; i++) {
+            target[offset + i] = high | values[i];
+        }
+        return cardinality;
+    }
+
+    BitmapContainer toBitmap() {
+        BitmapContainer bitmap = new BitmapContainer();
+        for (int i = 0; i < cardinality; i++) {
+            bitmap.set(values[i]);
+        }
+        return bitmap;
+    }
+}
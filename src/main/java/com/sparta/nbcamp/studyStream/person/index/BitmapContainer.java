@@ -0,0 +1,188 @@
+package com.sparta.nbcamp.studyStream.person.index;
+
+import java.util.function.IntConsumer;
+
+/**
+ * 65536비트(long 1024개) 비트맵 컨테이너. 원소가 {@link Container#ARRAY_MAX_SIZE}개 이하로 줄면 배열로 바뀐다.
+ */
+class BitmapContainer extends Container {
+    private static final int WORD_COUNT = 1 << 10;
+
+    final long[] words;
+    int cardinality;
+
+    BitmapContainer() {
+        this(new long[WORD_COUNT], 0);
+    }
+
+    private BitmapContainer(long[] words, int cardinality) {
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    void set(char value) {
+        long before = words[value >>> 6];
+        long after = before | (1L << value);
+        words[value >>> 6] = after;
+        cardinality += (int) ((before ^ after) >>> (value & 63));
+    }
+
+    @Override
+    Container add(char value) {
+        set(value);
+        return this;
+    }
+
+    @Override
+    Container remove(char value) {
+        long before = words[value >>> 6];
+        long after = before & ~(1L << value);
+        words[value >>> 6] = after;
+        cardinality -= (int) ((before ^ after) >>> (value & 63));
+        return cardinality <= ARRAY_MAX_SIZE ? toArray() : this;
+    }
+
+    @Override
+    boolean contains(char value) {
+        return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    Container and(Container other) {
+        if (other instanceof ArrayContainer) {
+            ArrayContainer that = (ArrayContainer) other;
+            char[] result = new char[that.cardinality];
+            int count = 0;
+            for (int i = 0; i < that.cardinality; i++) {
+                if (contains(that.values[i])) {
+                    result[count++] = that.values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        long[] thatWords = ((BitmapContainer) other).words;
+        long[] result = new long[WORD_COUNT];
+        int count = 0;
+        for (int i = 0; i < WORD_COUNT; i++) {
+            result[i] = words[i] & thatWords[i];
+            count += Long.bitCount(result[i]);
+        }
+        return normalize(new BitmapContainer(result, count));
+    }
+
+    @Override
+    int andCardinality(Container other) {
+        if (other instanceof ArrayContainer) {
+            ArrayContainer that = (ArrayContainer) other;
+            int count = 0;
+            for (int i = 0; i < that.cardinality; i++) {
+                if (contains(that.values[i])) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        long[] thatWords = ((BitmapContainer) other).words;
+        int count = 0;
+        for (int i = 0; i < WORD_COUNT; i++) {
+            count += Long.bitCount(words[i] & thatWords[i]);
+        }
+        return count;
+    }
+
+    @Override
+    Container or(Container other) {
+        BitmapContainer result = (BitmapContainer) copy();
+        if (other instanceof ArrayContainer) {
+            ArrayContainer that = (ArrayContainer) other;
+            for (int i = 0; i < that.cardinality; i++) {
+                result.set(that.values[i]);
+            }
+            return result;
+        }
+
+        long[] thatWords = ((BitmapContainer) other).words;
+        int count = 0;
+        for (int i = 0; i < WORD_COUNT; i++) {
+            result.words[i] |= thatWords[i];
+            count += Long.bitCount(result.words[i]);
+        }
+        result.cardinality = count;
+        return result;
+    }
+
+    @Override
+    Container andNot(Container other) {
+        BitmapContainer result = (BitmapContainer) copy();
+        if (other instanceof ArrayContainer) {
+            ArrayContainer that = (ArrayContainer) other;
+            Container container = result;
+            for (int i = 0; i < that.cardinality; i++) {
+                container = container.remove(that.values[i]);
+            }
+            return container;
+        }
+
+        long[] thatWords = ((BitmapContainer) other).words;
+        int count = 0;
+        for (int i = 0; i < WORD_COUNT; i++) {
+            result.words[i] &= ~thatWords[i];
+            count += Long.bitCount(result.words[i]);
+        }
+        result.cardinality = count;
+        return normalize(result);
+    }
+
+    @Override
+    Container copy() {
+        return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    @Override
+    void forEach(int high, IntConsumer consumer) {
+        for (int i = 0; i < WORD_COUNT; i++) {
+            long word = words[i];
+            while (word != 0) {
+                consumer.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    int fill(int high, int[] target, int offset) {
+        int count = 0;
+        for (int i = 0; i < WORD_COUNT; i++) {
+            long word = words[i];
+            while (word != 0) {
+                target[offset + count++] = high | (i << 6) | Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return count;
+    }
+
+    private static Container normalize(BitmapContainer container) {
+        return container.cardinality <= ARRAY_MAX_SIZE ? container.toArray() : container;
+    }
+
+    ArrayContainer toArray() {
+        char[] values = new char[Math.max(cardinality, 4)];
+        int count = 0;
+        for (int i = 0; i < WORD_COUNT; i++) {
+            long word = words[i];
+            while (word != 0) {
+                values[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return new ArrayContainer(values, count);
+    }
+}
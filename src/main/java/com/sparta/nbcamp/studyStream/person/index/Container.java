@@ -0,0 +1,42 @@
+package com.sparta.nbcamp.studyStream.person.index;
+
+import java.util.function.IntConsumer;
+
+/**
+ * {@link RoaringBitmap}의 하위 16비트 값을 담는 컨테이너.
+ * 원소가 적을 때는 정렬된 배열({@link ArrayContainer}), 많을 때는 비트맵({@link BitmapContainer})을 사용한다.
+ */
+abstract class Container {
+    static final int ARRAY_MAX_SIZE = 4096;
+
+    abstract Container add(char value);
+
+    abstract Container remove(char value);
+
+    abstract boolean contains(char value);
+
+    abstract int cardinality();
+
+    abstract Container and(Container other);
+
+    /**
+     * and 결과의 원소 개수. 결과 컨테이너를 만들지 않는다.
+     */
+    abstract int andCardinality(Container other);
+
+    abstract Container or(Container other);
+
+    abstract Container andNot(Container other);
+
+    abstract Container copy();
+
+    /**
+     * high(상위 16비트)를 붙여 원래 값으로 복원한 뒤 consumer에 전달한다.
+     */
+    abstract void forEach(int high, IntConsumer consumer);
+
+    /**
+     * 원래 값으로 복원해 target[offset]부터 채우고 채운 개수를 리턴한다.
+     */
+    abstract int fill(int high, int[] target, int offset);
+}
@@ -0,0 +1,390 @@
+package com.sparta.nbcamp.studyStream.person.index;
+
+import com.sparta.nbcamp.studyStream.person.NamePool;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import com.sparta.nbcamp.studyStream.person.PersonTableListener;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 대소문자를 구분하지 않는 이름 보조 인덱스.
+ * <p>
+ * 이름마다(NamePool 번호) 행 번호 버킷을 두고, 그 위에 두 가지 구조를 올린다.
+ * <ul>
+ *     <li>정확히 일치 : 대소문자를 접은(case-folded) 해시로 찾는 열린 주소 해시 테이블. 해시가 같으면 문자 단위로 접어 가며 비교한다.</li>
+ *     <li>접두어 : 접은 순서로 정렬한 이름 번호 배열. 같은 접두어의 이름은 연속 구간이라 이분 탐색 두 번으로 찾는다.</li>
+ * </ul>
+ * 검색어와 저장된 이름을 toLowerCase 로 새 문자열을 만들지 않고 한 글자씩 접어서 비교한다.
+ * ASCII 는 분기 하나로 접고, 한글(음절 / 자모)은 대소문자가 없으므로 그대로 쓴다. 그 외 문자는 Character 의 대소문자 변환을 쓴다.
+ * <p>
+ * 테이블에 리스너로 등록되어 행 추가/삭제 시 함께 갱신된다.
+ */
+public class NameIndex implements PersonTableListener {
+    private static final int[] EMPTY = new int[0];
+
+    private final NamePool namePool;
+
+    // 이름 번호별 행 버킷 (행 번호 오름차순)
+    private int[][] buckets = new int[16][];
+    private int[] bucketSizes = new int[16];
+
+    // 접은 해시 -> 이름 번호 + 1 (0 은 빈 칸)
+    private int[] slots = new int[32];
+    private int[] slotHashes = new int[32];
+
+    // 접은 순서로 정렬한 이름 번호
+    private int[] sortedNames = new int[16];
+    private int nameCount;
+    private int size;
+
+    private NameIndex(NamePool namePool) {
+        this.namePool = namePool;
+    }
+
+    /**
+     * 테이블의 현재 행으로 인덱스를 만들고 이후 변경을 따라가도록 리스너로 등록한다.
+     */
+    public static NameIndex of(PersonTable table) {
+        NameIndex index = new NameIndex(table.namePool());
+        for (int row : table.allRows()) {
+            index.onInsert(table, row);
+        }
+        table.addListener(index);
+        return index;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 이름이 name 과 (대소문자 무시) 같은 행 번호. 행 번호 오름차순이다.
+     */
+    public int[] rows(CharSequence name) {
+        int hash = foldedHash(name);
+        int count = 0;
+        int matches = 0;
+        for (int slot = hash & (slots.length - 1); slots[slot] != 0; slot = (slot + 1) & (slots.length - 1)) {
+            int nameId = slots[slot] - 1;
+            if (slotHashes[slot] == hash && equalsIgnoreCase(namePool.get(nameId), name)) {
+                count += bucketSizes[nameId];
+                matches++;
+            }
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+
+        int[] rows = new int[count];
+        int offset = 0;
+        for (int slot = hash & (slots.length - 1); slots[slot] != 0; slot = (slot + 1) & (slots.length - 1)) {
+            int nameId = slots[slot] - 1;
+            if (slotHashes[slot] == hash && equalsIgnoreCase(namePool.get(nameId), name)) {
+                System.arraycopy(buckets[nameId], 0, rows, offset, bucketSizes[nameId]);
+                offset += bucketSizes[nameId];
+            }
+        }
+        if (matches > 1) {
+            Arrays.sort(rows);   // "Kim" 과 "KIM" 처럼 표기가 여러 개이면 버킷을 합친 뒤 정렬한다.
+        }
+        return rows;
+    }
+
+    public long count(CharSequence name) {
+        int hash = foldedHash(name);
+        long count = 0;
+        for (int slot = hash & (slots.length - 1); slots[slot] != 0; slot = (slot + 1) & (slots.length - 1)) {
+            int nameId = slots[slot] - 1;
+            if (slotHashes[slot] == hash && equalsIgnoreCase(namePool.get(nameId), name)) {
+                count += bucketSizes[nameId];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 이름이 prefix 로 (대소문자 무시) 시작하는 행 번호. 이름순(대소문자 무시), 같은 이름은 행 번호 오름차순이다.
+     */
+    public int[] rowsByPrefix(CharSequence prefix) {
+        int lower = lowerBound(prefix);
+        int upper = upperBound(prefix, lower);
+        int count = 0;
+        for (int i = lower; i < upper; i++) {
+            count += bucketSizes[sortedNames[i]];
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+
+        int[] rows = new int[count];
+        int offset = 0;
+        for (int i = lower; i < upper; ) {
+            int runEnd = sameNameEnd(i, upper);
+            int runStart = offset;
+            for (int j = i; j < runEnd; j++) {
+                int nameId = sortedNames[j];
+                System.arraycopy(buckets[nameId], 0, rows, offset, bucketSizes[nameId]);
+                offset += bucketSizes[nameId];
+            }
+            if (runEnd - i > 1) {
+                Arrays.sort(rows, runStart, offset);   // "KIM" 과 "Kim" 처럼 표기가 여러 개이면 합친 뒤 정렬한다.
+            }
+            i = runEnd;
+        }
+        return rows;
+    }
+
+    public long countByPrefix(CharSequence prefix) {
+        int lower = lowerBound(prefix);
+        int upper = upperBound(prefix, lower);
+        long count = 0;
+        for (int i = lower; i < upper; i++) {
+            count += bucketSizes[sortedNames[i]];
+        }
+        return count;
+    }
+
+    /**
+     * rowsByPrefix(prefix) 와 같은 순서로 action 에 전달한다. 결과 배열을 만들지 않는다.
+     */
+    public void forEachRowByPrefix(CharSequence prefix, IntConsumer action) {
+        int lower = lowerBound(prefix);
+        int upper = upperBound(prefix, lower);
+        for (int i = lower; i < upper; ) {
+            int runEnd = sameNameEnd(i, upper);
+            if (runEnd - i == 1) {
+                int nameId = sortedNames[i];
+                int[] bucket = buckets[nameId];
+                for (int j = 0; j < bucketSizes[nameId]; j++) {
+                    action.accept(bucket[j]);
+                }
+            } else {
+                forEachMerged(i, runEnd, action);
+            }
+            i = runEnd;
+        }
+    }
+
+    /**
+     * sortedNames[from] 과 (대소문자 무시) 같은 이름이 이어지는 구간의 끝. 접은 순서로 정렬되어 있으므로 같은 이름은 붙어 있다.
+     */
+    private int sameNameEnd(int from, int upper) {
+        CharSequence name = namePool.get(sortedNames[from]);
+        int end = from + 1;
+        while (end < upper && compareIgnoreCase(namePool.get(sortedNames[end]), name) == 0) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * 표기가 다른 같은 이름의 버킷들을 행 번호 순으로 합쳐 전달한다. 표기 수가 적으므로 커서 배열 없이
+     * 매번 각 버킷에서 직전 행보다 큰 첫 행을 이분 탐색해 가장 작은 것을 고른다.
+     */
+    private void forEachMerged(int from, int to, IntConsumer action) {
+        int last = -1;
+        while (true) {
+            int next = Integer.MAX_VALUE;
+            for (int i = from; i < to; i++) {
+                int nameId = sortedNames[i];
+                int index = Arrays.binarySearch(buckets[nameId], 0, bucketSizes[nameId], last + 1);
+                int at = index >= 0 ? index : -index - 1;
+                if (at < bucketSizes[nameId]) {
+                    next = Math.min(next, buckets[nameId][at]);
+                }
+            }
+            if (next == Integer.MAX_VALUE) {
+                return;
+            }
+            action.accept(next);
+            last = next;
+        }
+    }
+
+    @Override
+    public void onInsert(PersonTable table, int row) {
+        int nameId = table.nameId(row);
+        if (nameId >= buckets.length) {
+            int capacity = Math.max(nameId + 1, buckets.length * 2);
+            buckets = Arrays.copyOf(buckets, capacity);
+            bucketSizes = Arrays.copyOf(bucketSizes, capacity);
+        }
+        if (buckets[nameId] == null) {
+            buckets[nameId] = new int[4];
+            addName(nameId);
+        }
+
+        int[] bucket = buckets[nameId];
+        int bucketSize = bucketSizes[nameId];
+        if (bucketSize == bucket.length) {
+            bucket = Arrays.copyOf(bucket, bucketSize + (bucketSize >> 1));
+            buckets[nameId] = bucket;
+        }
+
+        // 행 번호는 보통 증가하는 순서로 들어오므로 대부분 맨 뒤에 붙는다.
+        int insertAt = bucketSize == 0 || bucket[bucketSize - 1] < row
+                ? bucketSize
+                : -Arrays.binarySearch(bucket, 0, bucketSize, row) - 1;
+        System.arraycopy(bucket, insertAt, bucket, insertAt + 1, bucketSize - insertAt);
+        bucket[insertAt] = row;
+        bucketSizes[nameId]++;
+        size++;
+    }
+
+    @Override
+    public void onDelete(PersonTable table, int row) {
+        int nameId = table.nameId(row);
+        if (nameId >= buckets.length || buckets[nameId] == null) {
+            return;
+        }
+        int[] bucket = buckets[nameId];
+        int index = Arrays.binarySearch(bucket, 0, bucketSizes[nameId], row);
+        if (index < 0) {
+            return;
+        }
+
+        System.arraycopy(bucket, index + 1, bucket, index, bucketSizes[nameId] - index - 1);
+        bucketSizes[nameId]--;
+        size--;
+    }
+
+    /**
+     * 처음 보는 이름을 해시 테이블과 정렬 배열에 넣는다. 이름은 지우지 않는다. (행이 없으면 버킷이 비어 있을 뿐)
+     */
+    private void addName(int nameId) {
+        if ((nameCount + 1) * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        putSlot(nameId, foldedHash(namePool.get(nameId)));
+
+        if (nameCount == sortedNames.length) {
+            sortedNames = Arrays.copyOf(sortedNames, nameCount * 2);
+        }
+        String name = namePool.get(nameId);
+        int low = 0;
+        int high = nameCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareIgnoreCase(namePool.get(sortedNames[mid]), name);
+            if (cmp < 0 || (cmp == 0 && sortedNames[mid] < nameId)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        System.arraycopy(sortedNames, low, sortedNames, low + 1, nameCount - low);
+        sortedNames[low] = nameId;
+        nameCount++;
+    }
+
+    private void putSlot(int nameId, int hash) {
+        int slot = hash & (slots.length - 1);
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & (slots.length - 1);
+        }
+        slots[slot] = nameId + 1;
+        slotHashes[slot] = hash;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldSlots = slots;
+        int[] oldHashes = slotHashes;
+        slots = new int[capacity];
+        slotHashes = new int[capacity];
+        for (int i = 0; i < oldSlots.length; i++) {
+            if (oldSlots[i] != 0) {
+                putSlot(oldSlots[i] - 1, oldHashes[i]);
+            }
+        }
+    }
+
+    /**
+     * 이름이 prefix 이상(접은 순서)인 첫 위치
+     */
+    private int lowerBound(CharSequence prefix) {
+        int low = 0;
+        int high = nameCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparePrefix(namePool.get(sortedNames[mid]), prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * from 이후 이름이 prefix 로 시작하지 않는 첫 위치
+     */
+    private int upperBound(CharSequence prefix, int from) {
+        int low = from;
+        int high = nameCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparePrefix(namePool.get(sortedNames[mid]), prefix) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static char fold(char c) {
+        if (c < 0x80) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        if ((c >= 0xAC00 && c <= 0xD7A3) || (c >= 0x1100 && c <= 0x11FF) || (c >= 0x3130 && c <= 0x318F)) {
+            return c;   // 한글 음절 / 자모 / 호환 자모
+        }
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    static int foldedHash(CharSequence text) {
+        int hash = 0;
+        for (int i = 0; i < text.length(); i++) {
+            hash = 31 * hash + fold(text.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    static boolean equalsIgnoreCase(CharSequence a, CharSequence b) {
+        if (a.length() != b.length()) {
+            return false;
+        }
+        for (int i = 0; i < a.length(); i++) {
+            if (fold(a.charAt(i)) != fold(b.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int compareIgnoreCase(CharSequence a, CharSequence b) {
+        int length = Math.min(a.length(), b.length());
+        for (int i = 0; i < length; i++) {
+            int diff = fold(a.charAt(i)) - fold(b.charAt(i));
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return a.length() - b.length();
+    }
+
+    /**
+     * name 이 prefix 로 시작하면 0, 그 외에는 접은 순서로 name 과 prefix 를 비교한 결과
+     */
+    static int comparePrefix(CharSequence name, CharSequence prefix) {
+        int length = Math.min(name.length(), prefix.length());
+        for (int i = 0; i < length; i++) {
+            int diff = fold(name.charAt(i)) - fold(prefix.charAt(i));
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return name.length() < prefix.length() ? -1 : 0;
+    }
+}
@@ -0,0 +1,95 @@
+package com.sparta.nbcamp.studyStream.person.index;
+
+import com.sparta.nbcamp.studyStream.person.Gender;
+import com.sparta.nbcamp.studyStream.person.Mbti;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import com.sparta.nbcamp.studyStream.person.PersonTableListener;
+
+/**
+ * MBTI 글자(E/I, S/N, T/F, J/P)별, Gender별 비트맵 보조 인덱스.
+ * <p>
+ * 각 비트맵은 조건을 만족하는 행 번호의 집합이다.
+ * "E 이면서 FEMALE" 같은 복합 조건은 비트맵 and / or 로, 개수는 popcount로 계산하므로 행을 읽지 않는다.
+ * 테이블에 리스너로 등록되어 행 추가/삭제 시 함께 갱신된다.
+ */
+public class PersonBitmapIndex implements PersonTableListener {
+    private final RoaringBitmap[] letters = new RoaringBitmap[8];    // axis * 2 + bit
+    private final RoaringBitmap[] genders = new RoaringBitmap[Gender.values().length];
+
+    private PersonBitmapIndex() {
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = new RoaringBitmap();
+        }
+        for (int i = 0; i < genders.length; i++) {
+            genders[i] = new RoaringBitmap();
+        }
+    }
+
+    /**
+     * 테이블의 현재 행으로 인덱스를 만들고 이후 변경을 따라가도록 리스너로 등록한다.
+     */
+    public static PersonBitmapIndex of(PersonTable table) {
+        PersonBitmapIndex index = new PersonBitmapIndex();
+        for (int row : table.allRows()) {
+            index.onInsert(table, row);
+        }
+        table.addListener(index);
+        return index;
+    }
+
+    /**
+     * 해당 MBTI 글자를 가진 행 번호 집합.
+     * 인덱스가 관리하는 비트맵이므로 직접 수정하지 않고 and / or / andNot 결과(새 비트맵)를 사용한다.
+     */
+    public RoaringBitmap mbti(char letter) {
+        return letters[Mbti.axisOf(letter) * 2 + Mbti.bitOf(letter)];
+    }
+
+    /**
+     * 해당 MBTI 유형(4글자 모두 일치)인 행 번호 집합
+     */
+    public RoaringBitmap mbti(Mbti type) {
+        String name = type.name();
+        return mbti(name.charAt(0))
+                .and(mbti(name.charAt(1)))
+                .and(mbti(name.charAt(2)))
+                .and(mbti(name.charAt(3)));
+    }
+
+    /**
+     * 해당 Gender인 행 번호 집합. 인덱스가 관리하는 비트맵이므로 직접 수정하지 않는다.
+     */
+    public RoaringBitmap gender(Gender gender) {
+        return genders[gender.ordinal()];
+    }
+
+    public int count(char letter) {
+        return mbti(letter).cardinality();
+    }
+
+    public int count(Gender gender) {
+        return gender(gender).cardinality();
+    }
+
+    public int count(char letter, Gender gender) {
+        return mbti(letter).andCardinality(gender(gender));
+    }
+
+    @Override
+    public void onInsert(PersonTable table, int row) {
+        int code = table.mbti(row).code();
+        for (int axis = 0; axis < 4; axis++) {
+            letters[axis * 2 + ((code >>> (3 - axis)) & 1)].add(row);
+        }
+        genders[table.gender(row).ordinal()].add(row);
+    }
+
+    @Override
+    public void onDelete(PersonTable table, int row) {
+        int code = table.mbti(row).code();
+        for (int axis = 0; axis < 4; axis++) {
+            letters[axis * 2 + ((code >>> (3 - axis)) & 1)].remove(row);
+        }
+        genders[table.gender(row).ordinal()].remove(row);
+    }
+}
@@ -0,0 +1,42 @@
+package com.sparta.nbcamp.studyStream.person.kernel;
+
+/**
+ * int 열(PersonTable의 나이 열 등) 집계 커널. 모든 연산은 values[0, length) 구간을 대상으로 한다.
+ * <p>
+ * 마스크는 BitSet.toLongArray() 형식의 long[]이다. (row 번 비트 = words[row >>> 6] 의 (row & 63) 번째 비트)
+ * 배열이 짧으면 나머지 비트는 0으로 본다. complement가 true이면 비트가 0인 행을 고른다.
+ */
+public interface IntColumnKernel {
+
+    long sum(int[] values, int length);
+
+    /**
+     * 값이 없으면 Integer.MAX_VALUE
+     */
+    int min(int[] values, int length);
+
+    /**
+     * 값이 없으면 Integer.MIN_VALUE
+     */
+    int max(int[] values, int length);
+
+    /**
+     * lower <= value < upper 인 값의 개수
+     */
+    long countInRange(int[] values, int length, int lower, int upper);
+
+    /**
+     * 마스크로 고른 값의 합
+     */
+    long maskedSum(int[] values, int length, long[] mask, boolean complement);
+
+    /**
+     * 마스크로 고른 값의 개수
+     */
+    long maskedCount(long[] mask, int length, boolean complement);
+
+    /**
+     * 한 번에 처리하는 int 개수 (스칼라는 1)
+     */
+    int lanes();
+}
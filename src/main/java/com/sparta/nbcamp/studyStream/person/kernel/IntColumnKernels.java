@@ -0,0 +1,56 @@
+package com.sparta.nbcamp.studyStream.person.kernel;
+
+/**
+ * {@link IntColumnKernel} 구현 선택.
+ * <p>
+ * JVM이 --add-modules jdk.incubator.vector 로 실행되었으면 벡터 커널을, 아니면 스칼라 커널을 쓴다.
+ * 벡터 커널 클래스는 모듈이 있을 때만 로딩되므로 모듈 없이 실행해도 NoClassDefFoundError가 나지 않는다.
+ * -DstudyStream.vector=false 로 벡터 커널을 끌 수 있다.
+ */
+public final class IntColumnKernels {
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final IntColumnKernel SCALAR = new ScalarIntColumnKernel();
+    private static final IntColumnKernel BEST = selectBest();
+
+    private IntColumnKernels() {
+    }
+
+    /**
+     * 이 JVM에서 쓸 수 있는 가장 빠른 커널
+     */
+    public static IntColumnKernel best() {
+        return BEST;
+    }
+
+    public static IntColumnKernel scalar() {
+        return SCALAR;
+    }
+
+    public static boolean isVectorAvailable() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+
+    /**
+     * 벡터 커널. 모듈이 없으면 UnsupportedOperationException
+     */
+    public static IntColumnKernel vector() {
+        if (!isVectorAvailable()) {
+            throw new UnsupportedOperationException(VECTOR_MODULE + " 모듈이 없습니다. --add-modules " + VECTOR_MODULE
+                    + " 옵션으로 실행해야 합니다.");
+        }
+        return new VectorIntColumnKernel();
+    }
+
+    static boolean selected(long[] mask, int row, boolean complement) {
+        int w = row >>> 6;
+        boolean set = w < mask.length && (mask[w] & (1L << row)) != 0;
+        return set != complement;
+    }
+
+    private static IntColumnKernel selectBest() {
+        if (!Boolean.parseBoolean(System.getProperty("studyStream.vector", "true")) || !isVectorAvailable()) {
+            return SCALAR;
+        }
+        return new VectorIntColumnKernel();
+    }
+}
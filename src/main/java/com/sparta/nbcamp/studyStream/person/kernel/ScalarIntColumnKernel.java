@@ -0,0 +1,77 @@
+package com.sparta.nbcamp.studyStream.person.kernel;
+
+/**
+ * for문 구현. jdk.incubator.vector 모듈이 없을 때 쓰이며 벡터 커널의 기준값이기도 하다.
+ */
+final class ScalarIntColumnKernel implements IntColumnKernel {
+
+    @Override
+    public long sum(int[] values, int length) {
+        long sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int min(int[] values, int length) {
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < length; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] values, int length) {
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public long countInRange(int[] values, int length, int lower, int upper) {
+        long count = 0;
+        for (int i = 0; i < length; i++) {
+            if (values[i] >= lower && values[i] < upper) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long maskedSum(int[] values, int length, long[] mask, boolean complement) {
+        long sum = 0;
+        for (int i = 0; i < length; i++) {
+            if (IntColumnKernels.selected(mask, i, complement)) {
+                sum += values[i];
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public long maskedCount(long[] mask, int length, boolean complement) {
+        long count = 0;
+        int fullWords = length >>> 6;
+        for (int w = 0; w < fullWords; w++) {
+            long word = w < mask.length ? mask[w] : 0L;
+            count += Long.bitCount(complement ? ~word : word);
+        }
+        for (int i = fullWords << 6; i < length; i++) {
+            if (IntColumnKernels.selected(mask, i, complement)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int lanes() {
+        return 1;
+    }
+}
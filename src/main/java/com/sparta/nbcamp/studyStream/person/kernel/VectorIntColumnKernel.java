@@ -0,0 +1,160 @@
+package com.sparta.nbcamp.studyStream.person.kernel;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * jdk.incubator.vector 구현. CPU가 지원하는 가장 넓은 레지스터(SPECIES_PREFERRED)를 쓴다.
+ * (AVX-512 : int 16개, AVX2 : 8개, SSE / NEON : 4개)
+ * <p>
+ * 합계는 int 레인에 누적하면 넘칠 수 있어서 값을 하위 16비트(lo)와 상위 16비트(hi, 부호 포함)로 나눠 따로 누적하고,
+ * 레인이 넘치기 전(FLUSH_INTERVAL 번마다)에 long으로 옮긴다. 합 = hi * 65536 + lo 이므로 결과는 스칼라와 같다.
+ * <p>
+ * 이 클래스는 jdk.incubator.vector 모듈이 있을 때만 로딩된다. ({@link IntColumnKernels} 참고)
+ */
+final class VectorIntColumnKernel implements IntColumnKernel {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final int FLUSH_INTERVAL = 1 << 15;   // 레인당 lo 는 65535 * 2^15 < 2^31, |hi| 는 32768 * 2^15 <= 2^30
+
+    private final ScalarIntColumnKernel scalar = new ScalarIntColumnKernel();
+
+    @Override
+    public long sum(int[] values, int length) {
+        int bound = SPECIES.loopBound(length);
+        long sum = 0;
+        int i = 0;
+        while (i < bound) {
+            int chunkEnd = (int) Math.min(bound, i + (long) FLUSH_INTERVAL * LANES);
+            IntVector lo = IntVector.zero(SPECIES);
+            IntVector hi = IntVector.zero(SPECIES);
+            for (; i < chunkEnd; i += LANES) {
+                IntVector v = IntVector.fromArray(SPECIES, values, i);
+                lo = lo.add(v.lanewise(VectorOperators.AND, 0xFFFF));
+                hi = hi.add(v.lanewise(VectorOperators.ASHR, 16));
+            }
+            sum += combine(lo, hi);
+        }
+        for (; i < length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int min(int[] values, int length) {
+        int bound = SPECIES.loopBound(length);
+        IntVector min = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            min = min.min(IntVector.fromArray(SPECIES, values, i));
+        }
+        int result = min.reduceLanes(VectorOperators.MIN);
+        for (; i < length; i++) {
+            result = Math.min(result, values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public int max(int[] values, int length) {
+        int bound = SPECIES.loopBound(length);
+        IntVector max = IntVector.broadcast(SPECIES, Integer.MIN_VALUE);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            max = max.max(IntVector.fromArray(SPECIES, values, i));
+        }
+        int result = max.reduceLanes(VectorOperators.MAX);
+        for (; i < length; i++) {
+            result = Math.max(result, values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public long countInRange(int[] values, int length, int lower, int upper) {
+        int bound = SPECIES.loopBound(length);
+        long count = 0;
+        int i = 0;
+        while (i < bound) {
+            int chunkEnd = (int) Math.min(bound, i + (long) Integer.MAX_VALUE / 2 / LANES * LANES);
+            IntVector counts = IntVector.zero(SPECIES);
+            for (; i < chunkEnd; i += LANES) {
+                IntVector v = IntVector.fromArray(SPECIES, values, i);
+                VectorMask<Integer> inRange = v.compare(VectorOperators.GE, lower)
+                        .and(v.compare(VectorOperators.LT, upper));
+                counts = counts.lanewise(VectorOperators.ADD, 1, inRange);
+            }
+            count += counts.reduceLanesToLong(VectorOperators.ADD);
+        }
+        for (; i < length; i++) {
+            if (values[i] >= lower && values[i] < upper) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 레인 수는 64의 약수이므로 i가 LANES의 배수이면 마스크 비트가 long 두 개에 걸치지 않는다.
+     */
+    @Override
+    public long maskedSum(int[] values, int length, long[] mask, boolean complement) {
+        int bound = SPECIES.loopBound(length);
+        long laneBits = LANES == 64 ? -1L : (1L << LANES) - 1;
+        long sum = 0;
+        int i = 0;
+        while (i < bound) {
+            int chunkEnd = (int) Math.min(bound, i + (long) FLUSH_INTERVAL * LANES);
+            IntVector lo = IntVector.zero(SPECIES);
+            IntVector hi = IntVector.zero(SPECIES);
+            for (; i < chunkEnd; i += LANES) {
+                int w = i >>> 6;
+                long word = w < mask.length ? mask[w] : 0L;
+                long bits = ((complement ? ~word : word) >>> (i & 63)) & laneBits;
+                if (bits == 0) {
+                    continue;
+                }
+                VectorMask<Integer> selected = VectorMask.fromLong(SPECIES, bits);
+                IntVector v = IntVector.fromArray(SPECIES, values, i);
+                lo = lo.add(v.lanewise(VectorOperators.AND, 0xFFFF), selected);
+                hi = hi.add(v.lanewise(VectorOperators.ASHR, 16), selected);
+            }
+            sum += combine(lo, hi);
+        }
+        for (; i < length; i++) {
+            if (IntColumnKernels.selected(mask, i, complement)) {
+                sum += values[i];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 비트를 세는 연산은 이미 long 64비트 단위(Long.bitCount)라 스칼라 구현을 그대로 쓴다.
+     */
+    @Override
+    public long maskedCount(long[] mask, int length, boolean complement) {
+        return scalar.maskedCount(mask, length, complement);
+    }
+
+    @Override
+    public int lanes() {
+        return LANES;
+    }
+
+    /**
+     * reduceLanesToLong 은 int 로 더한 뒤 넓히므로 레인 합이 넘칠 수 있다. 청크마다 한 번이라 레인을 꺼내 long으로 더한다.
+     */
+    private static long combine(IntVector lo, IntVector hi) {
+        long loSum = 0;
+        long hiSum = 0;
+        for (int lane = 0; lane < LANES; lane++) {
+            loSum += lo.lane(lane);
+            hiSum += hi.lane(lane);
+        }
+        return (hiSum << 16) + loSum;
+    }
+}
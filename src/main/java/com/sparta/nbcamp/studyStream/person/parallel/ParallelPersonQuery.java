@@ -0,0 +1,164 @@
+package com.sparta.nbcamp.studyStream.person.parallel;
+
+import com.sparta.nbcamp.studyStream.person.People;
+import com.sparta.nbcamp.studyStream.person.Person;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * People 그룹들을 대상으로 하는 Fork/Join 병렬 질의 실행기.
+ * <p>
+ * {@link PeopleSpliterator}로 전체 범위를 균등하게 나누고, 각 작업(leaf)은 자기 구간의 부분 집계만 만든다.
+ * 부분 집계는 작업이 끝난 뒤 왼쪽 + 오른쪽 순서로 합쳐지므로 공유 상태나 락이 없고 결과 순서도 유지된다.
+ */
+public class ParallelPersonQuery {
+    private static final int MIN_LEAF_SIZE = 1 << 10;
+
+    private final ForkJoinPool pool;
+
+    public ParallelPersonQuery() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelPersonQuery(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * flatMap 대신 사용할 수 있는 Stream. 병렬 Stream에서도 균등하게 분할된다.
+     */
+    public static Stream<Person> stream(List<People> peopleList, boolean parallel) {
+        return StreamSupport.stream(new PeopleSpliterator(peopleList), parallel);
+    }
+
+    /**
+     * 작업마다 supplier로 부분 집계를 만들어 accumulator로 누적하고, combiner(왼쪽, 오른쪽)로 합친다.
+     */
+    public <A> A reduce(List<People> peopleList,
+                        Supplier<A> supplier,
+                        BiConsumer<A, Person> accumulator,
+                        BinaryOperator<A> combiner) {
+        PeopleSpliterator spliterator = new PeopleSpliterator(peopleList);
+        long leafSize = Math.max(MIN_LEAF_SIZE, spliterator.estimateSize() / (pool.getParallelism() * 4L));
+        return pool.invoke(new QueryTask<>(spliterator, leafSize, supplier, accumulator, combiner));
+    }
+
+    public List<Person> filter(List<People> peopleList, Predicate<Person> predicate) {
+        return reduce(peopleList,
+                ArrayList::new,
+                (people, person) -> {
+                    if (predicate.test(person)) {
+                        people.add(person);
+                    }
+                },
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                });
+    }
+
+    public long count(List<People> peopleList, Predicate<Person> predicate) {
+        return reduce(peopleList,
+                () -> new long[1],
+                (count, person) -> {
+                    if (predicate.test(person)) {
+                        count[0]++;
+                    }
+                },
+                (left, right) -> {
+                    left[0] += right[0];
+                    return left;
+                })[0];
+    }
+
+    public OptionalDouble average(List<People> peopleList, Predicate<Person> predicate, ToIntFunction<Person> mapper) {
+        long[] sumAndCount = reduce(peopleList,
+                () -> new long[2],
+                (partial, person) -> {
+                    if (predicate.test(person)) {
+                        partial[0] += mapper.applyAsInt(person);
+                        partial[1]++;
+                    }
+                },
+                (left, right) -> {
+                    left[0] += right[0];
+                    left[1] += right[1];
+                    return left;
+                });
+        return sumAndCount[1] == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) sumAndCount[0] / sumAndCount[1]);
+    }
+
+    /**
+     * 키별 개수. 부분 집계는 long[1] 카운터를 값으로 가지므로 요소마다 Long 박싱이 일어나지 않는다.
+     */
+    public <K> Map<K, Long> groupingCount(List<People> peopleList, Function<Person, K> classifier) {
+        Map<K, long[]> counts = reduce(peopleList,
+                HashMap::new,
+                (partial, person) -> partial.computeIfAbsent(classifier.apply(person), key -> new long[1])[0]++,
+                (left, right) -> {
+                    right.forEach((key, count) -> left.merge(key, count, (a, b) -> {
+                        a[0] += b[0];
+                        return a;
+                    }));
+                    return left;
+                });
+
+        Map<K, Long> result = new LinkedHashMap<>();
+        counts.forEach((key, count) -> result.put(key, count[0]));
+        return result;
+    }
+
+    @SuppressWarnings("serial")    // 작업은 직렬화하지 않으므로 람다 / Spliterator 필드는 그대로 둔다.
+    private static class QueryTask<A> extends RecursiveTask<A> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final Spliterator<Person> spliterator;
+        private final long leafSize;
+        private final Supplier<A> supplier;
+        private final BiConsumer<A, Person> accumulator;
+        private final BinaryOperator<A> combiner;
+
+        QueryTask(Spliterator<Person> spliterator, long leafSize, Supplier<A> supplier,
+                  BiConsumer<A, Person> accumulator, BinaryOperator<A> combiner) {
+            this.spliterator = spliterator;
+            this.leafSize = leafSize;
+            this.supplier = supplier;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected A compute() {
+            Spliterator<Person> prefix;
+            if (spliterator.estimateSize() > leafSize && (prefix = spliterator.trySplit()) != null) {
+                QueryTask<A> left = new QueryTask<>(prefix, leafSize, supplier, accumulator, combiner);
+                QueryTask<A> right = new QueryTask<>(spliterator, leafSize, supplier, accumulator, combiner);
+                left.fork();
+                A rightResult = right.compute();
+                return combiner.apply(left.join(), rightResult);
+            }
+
+            A partial = supplier.get();
+            spliterator.forEachRemaining(person -> accumulator.accept(partial, person));
+            return partial;
+        }
+    }
+}
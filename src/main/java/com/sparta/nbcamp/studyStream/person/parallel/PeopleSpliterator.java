@@ -0,0 +1,127 @@
+package com.sparta.nbcamp.studyStream.person.parallel;
+
+import com.sparta.nbcamp.studyStream.person.People;
+import com.sparta.nbcamp.studyStream.person.Person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * 여러 People 그룹을 하나로 이어 붙인 것처럼 순회하는 Spliterator.
+ * <p>
+ * flatMap(people -> people.getPeople().stream()) 은 그룹 단위로만 나뉘기 때문에
+ * 그룹 수가 적거나 크기가 고르지 않으면 병렬 처리 효과가 거의 없다.
+ * 이 Spliterator는 전체를 [from, to) 인덱스 범위로 보고 항상 절반으로 나누기 때문에
+ * 그룹 경계와 상관없이(그룹 사이, 그룹 내부 모두) 균등하게 분할된다.
+ */
+public class PeopleSpliterator implements Spliterator<Person> {
+    private final List<Person>[] groups;
+    private final long[] offsets;     // offsets[i] = i번째 그룹의 시작 인덱스, offsets[groups.length] = 전체 크기
+    private long from;
+    private final long to;
+
+    public PeopleSpliterator(List<People> peopleList) {
+        this(groupsOf(peopleList), offsetsOf(peopleList));
+    }
+
+    private PeopleSpliterator(List<Person>[] groups, long[] offsets) {
+        this(groups, offsets, 0, offsets[groups.length]);
+    }
+
+    private PeopleSpliterator(List<Person>[] groups, long[] offsets, long from, long to) {
+        this.groups = groups;
+        this.offsets = offsets;
+        this.from = from;
+        this.to = to;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static List<Person>[] groupsOf(List<People> peopleList) {
+        List<Person>[] groups = new List[peopleList.size()];
+        for (int i = 0; i < groups.length; i++) {
+            List<Person> people = peopleList.get(i).getPeople();
+            groups[i] = people instanceof RandomAccess ? people : new ArrayList<>(people);
+        }
+        return groups;
+    }
+
+    private static long[] offsetsOf(List<People> peopleList) {
+        long[] offsets = new long[peopleList.size() + 1];
+        for (int i = 0; i < peopleList.size(); i++) {
+            offsets[i + 1] = offsets[i] + peopleList.get(i).getPeople().size();
+        }
+        return offsets;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Person> action) {
+        if (from >= to) {
+            return false;
+        }
+
+        int group = groupOf(from);
+        action.accept(groups[group].get((int) (from - offsets[group])));
+        from++;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Person> action) {
+        if (from >= to) {
+            return;
+        }
+
+        int group = groupOf(from);
+        long index = from;
+        while (index < to) {
+            List<Person> people = groups[group];
+            int end = (int) (Math.min(to, offsets[group + 1]) - offsets[group]);
+            for (int i = (int) (index - offsets[group]); i < end; i++) {
+                action.accept(people.get(i));
+            }
+            index = offsets[group + 1];
+            group++;
+        }
+        from = to;
+    }
+
+    @Override
+    public Spliterator<Person> trySplit() {
+        long mid = (from + to) >>> 1;
+        if (mid <= from) {
+            return null;
+        }
+
+        PeopleSpliterator prefix = new PeopleSpliterator(groups, offsets, from, mid);
+        from = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return to - from;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+
+    /**
+     * 전체 인덱스가 속한 그룹 번호 (빈 그룹은 건너뛴다)
+     */
+    private int groupOf(long index) {
+        int group = Arrays.binarySearch(offsets, index);
+        if (group < 0) {
+            return -group - 2;
+        }
+        while (offsets[group + 1] == index) {
+            group++;
+        }
+        return group;
+    }
+}
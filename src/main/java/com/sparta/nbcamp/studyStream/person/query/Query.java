@@ -0,0 +1,204 @@
+package com.sparta.nbcamp.studyStream.person.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * 한 번 만들어 두고 여러 번, 여러 데이터에 실행할 수 있는 질의.
+ * <p>
+ * Stream은 한 번 소비하면 다시 쓸 수 없어(StreamTest.canNotBeReuse) 요청마다 파이프라인을 새로 만들어야 한다.
+ * Query는 {@link #builder()}로 filter / map / sorted / distinct / limit 단계와 최종 집계(Collector)를 정의하면
+ * 연속된 filter / map 단계를 하나의 배열로 묶어(compile) 불변 객체로 만든다.
+ * 실행 시에는 그 배열을 for문으로 적용하므로 단계 객체를 새로 만들지 않는다.
+ * (실행마다 생기는 것은 Collector 결과 컨테이너와 sorted / distinct 용 버퍼뿐이다.)
+ * 사용자가 넘긴 함수가 상태를 갖지 않는다면 여러 스레드에서 같은 Query를 동시에 실행해도 안전하다.
+ *
+ * @param <T> 입력 요소 타입
+ * @param <R> 결과 타입
+ */
+public final class Query<T, R> {
+    static final Object SKIP = new Object();
+
+    private final Segment[] segments;
+    private final Supplier<Object> supplier;
+    private final BiConsumer<Object, Object> accumulator;
+    private final Function<Object, R> finisher;
+    private final String description;
+
+    @SuppressWarnings("unchecked")
+    <A> Query(List<Step> steps, Collector<?, A, R> collector, String description) {
+        this.segments = compile(steps);
+        this.supplier = (Supplier<Object>) collector.supplier();
+        this.accumulator = (BiConsumer<Object, Object>) collector.accumulator();
+        this.finisher = (Function<Object, R>) collector.finisher();
+        this.description = description;
+    }
+
+    public static <T> QueryBuilder<T, T> builder() {
+        return new QueryBuilder<>(List.of(), "source");
+    }
+
+    /**
+     * 입력 데이터에 질의를 실행한다. 같은 Query를 몇 번이고 다시 실행할 수 있다.
+     */
+    public R execute(Iterable<? extends T> source) {
+        Iterable<?> input = source;
+        for (int i = 0; i < segments.length - 1; i++) {
+            input = segments[i].materialize(input);
+        }
+
+        Step[] steps = segments[segments.length - 1].steps;
+        Object container = supplier.get();
+        for (Object element : input) {
+            Object value = apply(steps, element);
+            if (value != SKIP) {
+                accumulator.accept(container, value);
+            }
+        }
+        return finisher.apply(container);
+    }
+
+    /**
+     * 단계 종류와 순서를 나타내는 디버깅용 문자열 (예: "source -> filter -> map -> limit(3) -> collect").
+     * filter / map / sorted 에 넘긴 함수는 나타내지 않으므로 두 질의가 같은지 비교하는 키로 쓸 수 없다.
+     */
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    static Object apply(Step[] steps, Object element) {
+        Object value = element;
+        for (Step step : steps) {
+            value = step.apply(value);
+            if (value == SKIP) {
+                return SKIP;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * sorted / distinct / limit 를 경계로 단계를 나눈다. 경계 사이의 filter / map 은 한 배열로 묶인다.
+     */
+    private static Segment[] compile(List<Step> steps) {
+        List<Segment> segments = new ArrayList<>();
+        List<Step> current = new ArrayList<>();
+        for (Step step : steps) {
+            if (step.barrier == null) {
+                current.add(step);
+            } else {
+                segments.add(new Segment(current.toArray(new Step[0]), step.barrier));
+                current = new ArrayList<>();
+            }
+        }
+        segments.add(new Segment(current.toArray(new Step[0]), null));
+        return segments.toArray(new Segment[0]);
+    }
+
+    /**
+     * filter(값 또는 SKIP 리턴), map, 또는 경계(sorted / distinct / limit) 한 단계
+     */
+    static final class Step {
+        final Function<Object, Object> function;
+        final Barrier barrier;
+
+        private Step(Function<Object, Object> function, Barrier barrier) {
+            this.function = function;
+            this.barrier = barrier;
+        }
+
+        @SuppressWarnings("unchecked")
+        static Step filter(Predicate<?> predicate) {
+            Predicate<Object> test = (Predicate<Object>) predicate;
+            return new Step(element -> test.test(element) ? element : SKIP, null);
+        }
+
+        @SuppressWarnings("unchecked")
+        static Step map(Function<?, ?> mapper) {
+            return new Step((Function<Object, Object>) mapper, null);
+        }
+
+        @SuppressWarnings("unchecked")
+        static Step sorted(Comparator<?> comparator) {
+            Comparator<Object> order = (Comparator<Object>) comparator;
+            return new Step(null, buffer -> buffer.sort(order));
+        }
+
+        static Step distinct() {
+            return new Step(null, buffer -> {
+                LinkedHashSet<Object> distinct = new LinkedHashSet<>(buffer);
+                buffer.clear();
+                buffer.addAll(distinct);
+            });
+        }
+
+        static Step limit(long maxSize) {
+            return new Step(null, new Barrier() {
+                @Override
+                public void apply(List<Object> buffer) {
+                }
+
+                @Override
+                public long limit() {
+                    return maxSize;
+                }
+            });
+        }
+
+        Object apply(Object element) {
+            return function.apply(element);
+        }
+    }
+
+    /**
+     * 앞 단계의 결과를 모두 모은 뒤(buffer) 적용하는 연산
+     */
+    interface Barrier {
+        void apply(List<Object> buffer);
+
+        /**
+         * 버퍼에 모을 최대 개수. limit 이외에는 제한이 없다.
+         */
+        default long limit() {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static final class Segment {
+        private final Step[] steps;
+        private final Barrier barrier;
+
+        Segment(Step[] steps, Barrier barrier) {
+            this.steps = steps;
+            this.barrier = barrier;
+        }
+
+        Collection<Object> materialize(Iterable<?> input) {
+            long limit = barrier.limit();
+            List<Object> buffer = new ArrayList<>();
+            if (limit == 0) {
+                return buffer;
+            }
+            for (Object element : input) {
+                Object value = apply(steps, element);
+                if (value != SKIP) {
+                    buffer.add(value);
+                    if (buffer.size() >= limit) {
+                        break;
+                    }
+                }
+            }
+            barrier.apply(buffer);
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.sparta.nbcamp.studyStream.person.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * {@link Query}를 만드는 불변 빌더. 단계를 추가할 때마다 새 빌더를 리턴하므로 중간 빌더를 공유해 여러 질의로 갈라 쓸 수 있다.
+ *
+ * @param <T> 입력 요소 타입
+ * @param <E> 현재 단계의 요소 타입
+ */
+public final class QueryBuilder<T, E> {
+    private final List<Query.Step> steps;
+    private final String description;
+
+    QueryBuilder(List<Query.Step> steps, String description) {
+        this.steps = steps;
+        this.description = description;
+    }
+
+    public QueryBuilder<T, E> filter(Predicate<? super E> predicate) {
+        return next(Query.Step.filter(predicate), "filter");
+    }
+
+    public <N> QueryBuilder<T, N> map(Function<? super E, ? extends N> mapper) {
+        return next(Query.Step.map(mapper), "map");
+    }
+
+    public QueryBuilder<T, E> sorted(Comparator<? super E> comparator) {
+        return next(Query.Step.sorted(comparator), "sorted");
+    }
+
+    public QueryBuilder<T, E> distinct() {
+        return next(Query.Step.distinct(), "distinct");
+    }
+
+    public QueryBuilder<T, E> limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("limit은 0 이상이어야 합니다: " + maxSize);
+        }
+        return next(Query.Step.limit(maxSize), "limit(" + maxSize + ")");
+    }
+
+    public <A, R> Query<T, R> collect(Collector<? super E, A, R> collector) {
+        return new Query<>(steps, collector, description + " -> collect");
+    }
+
+    public Query<T, List<E>> toList() {
+        return collect(Collectors.toList());
+    }
+
+    public Query<T, Long> count() {
+        return collect(Collectors.counting());
+    }
+
+    public Query<T, OptionalDouble> average(ToIntFunction<? super E> mapper) {
+        return collect(Collector.of(
+                () -> new long[2],
+                (sumAndCount, element) -> {
+                    sumAndCount[0] += mapper.applyAsInt(element);
+                    sumAndCount[1]++;
+                },
+                (left, right) -> {
+                    left[0] += right[0];
+                    left[1] += right[1];
+                    return left;
+                },
+                sumAndCount -> sumAndCount[1] == 0
+                        ? OptionalDouble.empty()
+                        : OptionalDouble.of((double) sumAndCount[0] / sumAndCount[1])
+        ));
+    }
+
+    private <N> QueryBuilder<T, N> next(Query.Step step, String name) {
+        List<Query.Step> nextSteps = new ArrayList<>(steps);
+        nextSteps.add(step);
+        return new QueryBuilder<>(Collections.unmodifiableList(nextSteps), description + " -> " + name);
+    }
+}
@@ -0,0 +1,167 @@
+package com.sparta.nbcamp.studyStream.person.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * 같은 데이터에 대한 여러 질의를 한 번의 순회로 처리하는 실행기 (shared scan).
+ * <p>
+ * count20sPeople 처럼 같은 조건으로 두 번(개수, 출력) 스캔하는 대신, 질의 N개를 등록해 두고 요소마다 N개 질의에 동시에 누적한다.
+ * 질의는 조건(Predicate)들의 AND와 Collector로 구성된다. 같은 Predicate 객체를 여러 질의가 사용하면
+ * 요소마다 한 번만 평가하고 결과를 공유한다. 조건은 필요할 때만(앞 조건이 참일 때만) 평가한다.
+ * <p>
+ * 만들어진 SharedScan은 불변이며 여러 번 실행할 수 있다.
+ *
+ * @param <T> 입력 요소 타입
+ */
+public final class SharedScan<T> {
+    private static final byte UNKNOWN = 0;
+    private static final byte TRUE = 1;
+    private static final byte FALSE = 2;
+
+    private final Predicate<? super T>[] predicates;
+    private final int[][] conjuncts;                  // 질의별 predicates 인덱스
+    private final Collector<? super T, Object, ?>[] collectors;
+
+    private SharedScan(Predicate<? super T>[] predicates, int[][] conjuncts, Collector<? super T, Object, ?>[] collectors) {
+        this.predicates = predicates;
+        this.conjuncts = conjuncts;
+        this.collectors = collectors;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 한 번 순회해서 등록된 모든 질의의 결과를 계산한다.
+     */
+    public Results execute(Iterable<? extends T> source) {
+        int queryCount = collectors.length;
+        Object[] containers = new Object[queryCount];
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        BiConsumer<Object, Object>[] accumulators = new BiConsumer[queryCount];
+        for (int i = 0; i < queryCount; i++) {
+            containers[i] = collectors[i].supplier().get();
+            accumulators[i] = accumulatorOf(collectors[i]);
+        }
+
+        byte[] memo = new byte[predicates.length];
+        for (T element : source) {
+            Arrays.fill(memo, UNKNOWN);
+            for (int i = 0; i < queryCount; i++) {
+                if (matches(conjuncts[i], element, memo)) {
+                    accumulators[i].accept(containers[i], element);
+                }
+            }
+        }
+
+        Object[] values = new Object[queryCount];
+        for (int i = 0; i < queryCount; i++) {
+            @SuppressWarnings("unchecked")
+            Function<Object, Object> finisher = (Function<Object, Object>) collectors[i].finisher();
+            values[i] = finisher.apply(containers[i]);
+        }
+        return new Results(values);
+    }
+
+    /**
+     * 등록된 서로 다른 조건의 개수 (질의 간에 공유된 조건은 하나로 센다)
+     */
+    public int predicateCount() {
+        return predicates.length;
+    }
+
+    public int queryCount() {
+        return collectors.length;
+    }
+
+    private boolean matches(int[] indexes, T element, byte[] memo) {
+        for (int index : indexes) {
+            byte state = memo[index];
+            if (state == UNKNOWN) {
+                state = predicates[index].test(element) ? TRUE : FALSE;
+                memo[index] = state;
+            }
+            if (state == FALSE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> accumulatorOf(Collector<?, Object, ?> collector) {
+        return (BiConsumer<Object, Object>) collector.accumulator();
+    }
+
+    /**
+     * 질의 결과를 꺼낼 때 사용하는 키
+     */
+    public static final class Slot<R> {
+        private final int index;
+
+        private Slot(int index) {
+            this.index = index;
+        }
+    }
+
+    public static final class Results {
+        private final Object[] values;
+
+        private Results(Object[] values) {
+            this.values = values;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> R get(Slot<R> slot) {
+            return (R) values[slot.index];
+        }
+    }
+
+    public static final class Builder<T> {
+        private final Map<Predicate<? super T>, Integer> predicateIndexes = new IdentityHashMap<>();
+        private final List<Predicate<? super T>> predicates = new ArrayList<>();
+        private final List<int[]> conjuncts = new ArrayList<>();
+        private final List<Collector<? super T, Object, ?>> collectors = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 모든 conditions를 만족하는 요소를 collector로 모으는 질의를 등록한다. 조건이 없으면 전체 요소가 대상이다.
+         * 다른 질의와 같은 Predicate 객체를 넘기면 평가 결과가 공유된다.
+         */
+        @SafeVarargs
+        @SuppressWarnings("unchecked")
+        public final <A, R> Slot<R> add(Collector<? super T, A, R> collector, Predicate<? super T>... conditions) {
+            int[] indexes = new int[conditions.length];
+            for (int i = 0; i < conditions.length; i++) {
+                indexes[i] = predicateIndexes.computeIfAbsent(conditions[i], predicate -> {
+                    predicates.add(predicate);
+                    return predicates.size() - 1;
+                });
+            }
+            conjuncts.add(indexes);
+            collectors.add((Collector<? super T, Object, ?>) (Collector<? super T, ?, ?>) collector);
+            return new Slot<>(collectors.size() - 1);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public SharedScan<T> build() {
+            return new SharedScan<>(
+                    predicates.toArray(new Predicate[0]),
+                    conjuncts.toArray(new int[0][]),
+                    collectors.toArray(new Collector[0])
+            );
+        }
+    }
+}
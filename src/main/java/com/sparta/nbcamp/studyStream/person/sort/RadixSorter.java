@@ -0,0 +1,271 @@
+package com.sparta.nbcamp.studyStream.person.sort;
+
+import com.sparta.nbcamp.studyStream.person.Person;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * int / long 키로 정렬하는 LSD 기수 정렬(radix sort). 비교 정렬이 아니므로 비교할 때마다 키를 꺼내거나 언박싱하지 않는다.
+ * <p>
+ * 키는 원소마다 한 번만 꺼내 long 배열에 담고, 8비트씩 낮은 자리부터 계수 정렬(counting sort)을 반복한다.
+ * 모든 키에서 값이 같은 자리는 건너뛰므로 나이처럼 범위가 작은 키는 계수 정렬 한 번으로 끝난다.
+ * <ul>
+ *     <li>안정 정렬 : 키가 같으면 원래 순서를 유지한다. 내림차순도 키를 뒤집어(비트 반전) 정렬하므로 안정적이다.</li>
+ *     <li>병렬 모드 : 원소를 구간으로 나눠 구간별 히스토그램을 만들고, (자리 값, 구간) 순서로 시작 위치를 정한 뒤
+ *     구간마다 자기 위치에 흩어 놓는다. 구간끼리 쓰는 위치가 겹치지 않아 락이 없고, 순서도 순차 모드와 같다.</li>
+ * </ul>
+ * 원소 수가 PARALLEL_THRESHOLD 보다 적으면 병렬 모드여도 순차로 정렬한다.
+ */
+public class RadixSorter {
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int MIN_CHUNK_SIZE = 1 << 14;
+
+    private final ForkJoinPool pool;
+
+    private RadixSorter(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public static RadixSorter sequential() {
+        return new RadixSorter(null);
+    }
+
+    public static RadixSorter parallel() {
+        return new RadixSorter(ForkJoinPool.commonPool());
+    }
+
+    public static RadixSorter parallel(ForkJoinPool pool) {
+        return new RadixSorter(pool);
+    }
+
+    public List<Person> sortByAge(Collection<Person> people, SortOrder order) {
+        return sortByInt(people, Person::getAge, order);
+    }
+
+    public List<Person> sortById(Collection<Person> people, SortOrder order) {
+        return sortByLong(people, Person::getId, order);
+    }
+
+    /**
+     * key 순서로 정렬한 읽기 전용 List 를 리턴한다. items 는 바뀌지 않는다.
+     */
+    public <T> List<T> sortByInt(Collection<? extends T> items, ToIntFunction<? super T> key, SortOrder order) {
+        return sortBy(items, (elements, keys, from, to) -> {
+            long diff = 0;
+            long first = from < to ? toSortable(key.applyAsInt(cast(elements[from])), order) : 0;
+            for (int i = from; i < to; i++) {
+                keys[i] = toSortable(key.applyAsInt(cast(elements[i])), order);
+                diff |= keys[i] ^ first;
+            }
+            return new long[]{first, diff};
+        });
+    }
+
+    public <T> List<T> sortByLong(Collection<? extends T> items, ToLongFunction<? super T> key, SortOrder order) {
+        return sortBy(items, (elements, keys, from, to) -> {
+            long diff = 0;
+            long first = from < to ? toSortable(key.applyAsLong(cast(elements[from])), order) : 0;
+            for (int i = from; i < to; i++) {
+                keys[i] = toSortable(key.applyAsLong(cast(elements[i])), order);
+                diff |= keys[i] ^ first;
+            }
+            return new long[]{first, diff};
+        });
+    }
+
+    /**
+     * 정렬된 순서의 원래 위치(permutation). result[i] = i번째로 오는 원소의 keys 인덱스
+     */
+    public int[] order(int[] keys, SortOrder order) {
+        long[] sortable = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            sortable[i] = toSortable(keys[i], order);
+        }
+        return sort(sortable, differingBits(sortable));
+    }
+
+    public int[] order(long[] keys, SortOrder order) {
+        long[] sortable = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            sortable[i] = toSortable(keys[i], order);
+        }
+        return sort(sortable, differingBits(sortable));
+    }
+
+    private <T> List<T> sortBy(Collection<? extends T> items, KeyExtractor extractor) {
+        Object[] elements = items.toArray();
+        int n = elements.length;
+        long[] keys = new long[n];
+
+        // 구간마다 키를 꺼내면서 첫 키와 다른 비트를 모은다. 구간별 첫 키가 달라도 OR 하면 전체에서 달라지는 비트가 된다.
+        int chunks = chunkCount(n);
+        long[][] partial = new long[chunks][];
+        forEachChunk(chunks, chunk -> partial[chunk] = extractor.extract(elements, keys, from(n, chunks, chunk),
+                from(n, chunks, chunk + 1)));
+        long diff = 0;
+        for (long[] firstAndDiff : partial) {
+            diff |= firstAndDiff[1] | (firstAndDiff[0] ^ partial[0][0]);
+        }
+
+        int[] order = sort(keys, diff);
+        Object[] sorted = new Object[n];
+        forEachChunk(chunks, chunk -> {
+            for (int i = from(n, chunks, chunk); i < from(n, chunks, chunk + 1); i++) {
+                sorted[i] = elements[order[i]];
+            }
+        });
+        @SuppressWarnings("unchecked")
+        List<T> result = (List<T>) Collections.unmodifiableList(Arrays.asList(sorted));
+        return result;
+    }
+
+    /**
+     * keys 를 부호 없는 순서로 정렬하고 원래 인덱스의 순서를 리턴한다. diff 에서 0 인 자리는 건너뛴다.
+     */
+    private int[] sort(long[] keys, long diff) {
+        int n = keys.length;
+        int chunks = chunkCount(n);
+        int[] index = new int[n];
+        Arrays.setAll(index, i -> i);
+        if (diff == 0) {
+            return index;
+        }
+
+        long[] keyBuffer = new long[n];
+        int[] indexBuffer = new int[n];
+        int[][] counts = new int[chunks][RADIX];
+        for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+            if (((diff >>> shift) & (RADIX - 1)) == 0) {
+                continue;
+            }
+            int digitShift = shift;
+            long[] sourceKeys = keys;
+            int[] sourceIndex = index;
+            long[] targetKeys = keyBuffer;
+            int[] targetIndex = indexBuffer;
+
+            forEachChunk(chunks, chunk -> {
+                int[] count = counts[chunk];
+                Arrays.fill(count, 0);
+                for (int i = from(n, chunks, chunk); i < from(n, chunks, chunk + 1); i++) {
+                    count[(int) (sourceKeys[i] >>> digitShift) & (RADIX - 1)]++;
+                }
+            });
+
+            // (자리 값, 구간) 순서로 시작 위치를 정하므로 같은 자리 값 안에서 앞 구간의 원소가 먼저 온다. (안정)
+            int position = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    int count = counts[chunk][digit];
+                    counts[chunk][digit] = position;
+                    position += count;
+                }
+            }
+
+            forEachChunk(chunks, chunk -> {
+                int[] next = counts[chunk];
+                for (int i = from(n, chunks, chunk); i < from(n, chunks, chunk + 1); i++) {
+                    int target = next[(int) (sourceKeys[i] >>> digitShift) & (RADIX - 1)]++;
+                    targetKeys[target] = sourceKeys[i];
+                    targetIndex[target] = sourceIndex[i];
+                }
+            });
+
+            keyBuffer = keys;
+            indexBuffer = index;
+            keys = targetKeys;
+            index = targetIndex;
+        }
+        return index;
+    }
+
+    private int chunkCount(int n) {
+        if (pool == null || n < PARALLEL_THRESHOLD) {
+            return 1;
+        }
+        return Math.max(1, Math.min(pool.getParallelism() * 2, n / MIN_CHUNK_SIZE));
+    }
+
+    private void forEachChunk(int chunks, IntConsumer body) {
+        if (chunks == 1) {
+            body.accept(0);
+        } else {
+            pool.invoke(new ChunkTask(body, 0, chunks));
+        }
+    }
+
+    private static int from(int n, int chunks, int chunk) {
+        return (int) ((long) n * chunk / chunks);
+    }
+
+    private static long differingBits(long[] keys) {
+        long diff = 0;
+        for (long key : keys) {
+            diff |= key ^ keys[0];
+        }
+        return diff;
+    }
+
+    /**
+     * 부호 비트를 뒤집으면 부호 없는 비교 순서가 부호 있는 순서와 같아진다. 내림차순은 전체 비트를 뒤집는다.
+     */
+    private static long toSortable(int key, SortOrder order) {
+        long unsigned = (key ^ Integer.MIN_VALUE) & 0xFFFF_FFFFL;
+        return order == SortOrder.ASCENDING ? unsigned : ~unsigned & 0xFFFF_FFFFL;
+    }
+
+    private static long toSortable(long key, SortOrder order) {
+        long unsigned = key ^ Long.MIN_VALUE;
+        return order == SortOrder.ASCENDING ? unsigned : ~unsigned;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object element) {
+        return (T) element;
+    }
+
+    /**
+     * elements[from, to) 의 키를 keys 에 담고 {첫 키, 첫 키와 다른 비트의 OR} 를 리턴한다.
+     */
+    @FunctionalInterface
+    private interface KeyExtractor {
+        long[] extract(Object[] elements, long[] keys, int from, int to);
+    }
+
+    @SuppressWarnings("serial")    // 작업은 직렬화하지 않으므로 IntConsumer 필드는 그대로 둔다.
+    private static final class ChunkTask extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final IntConsumer body;
+        private final int from;
+        private final int to;
+
+        ChunkTask(IntConsumer body, int from, int to) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(body, from, mid), new ChunkTask(body, mid, to));
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.sparta.nbcamp.studyStream.person.sort;
+
+public enum SortOrder {
+    ASCENDING, DESCENDING
+}
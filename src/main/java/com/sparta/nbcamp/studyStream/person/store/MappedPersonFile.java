@@ -0,0 +1,208 @@
+package com.sparta.nbcamp.studyStream.person.store;
+
+import com.sparta.nbcamp.studyStream.person.Gender;
+import com.sparta.nbcamp.studyStream.person.Mbti;
+import com.sparta.nbcamp.studyStream.person.NamePool;
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+/**
+ * Person 바이너리 파일. 한 번 기록한 파일을 FileChannel.map 으로 열어 매핑된 페이지 위에서 바로 조회한다.
+ * <p>
+ * 텍스트를 파싱해 Person 객체를 만드는 대신 행을 읽을 때 필요한 필드만 꺼내기 때문에
+ * 열기(open)는 파일 크기와 상관없이 즉시 끝나고, 나이/MBTI/Gender 조회는 힙에 객체를 만들지 않는다.
+ * 이름은 파일 끝의 이름 사전에 한 번씩만 저장되며 열 때 사전만 읽어 둔다.
+ * <pre>
+ * header (16 bytes) : magic(int) | version(int) | rowCount(int) | nameCount(int)
+ * rows              : rowCount * {@link PersonRowFormat#ROW_SIZE} bytes
+ * names             : nameCount * (length(short) | UTF-8 bytes)
+ * </pre>
+ * 하나의 MappedByteBuffer로 매핑하므로 파일 크기는 2GB 미만(약 8천만 행)으로 제한된다.
+ */
+public class MappedPersonFile implements PersonRows, AutoCloseable {
+    static final int MAGIC = 0x5053_4E31;   // "PSN1"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    private static final int WRITE_CHUNK = 1 << 16;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int size;
+    private final String[] names;
+
+    private MappedPersonFile(FileChannel channel, MappedByteBuffer buffer, int size, String[] names) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.size = size;
+        this.names = names;
+    }
+
+    public static void write(Path path, Collection<Person> people) throws IOException {
+        write(path, PersonTable.from(people));
+    }
+
+    /**
+     * 테이블의 (삭제되지 않은) 행을 파일로 기록한다. 같은 파일이 있으면 덮어쓴다.
+     * 이름 길이와 전체 파일 크기는 파일을 열기 전에 검사하므로, 기록할 수 없는 테이블이면 기존 파일은 그대로 남는다.
+     */
+    public static void write(Path path, PersonTable table) throws IOException {
+        int[] rows = table.allRows();
+        NamePool namePool = new NamePool();
+        for (int row : rows) {
+            namePool.intern(table.name(row));
+        }
+
+        byte[][] names = new byte[namePool.size()][];
+        long fileSize = HEADER_SIZE + (long) rows.length * PersonRowFormat.ROW_SIZE;
+        for (int nameId = 0; nameId < names.length; nameId++) {
+            names[nameId] = namePool.get(nameId).getBytes(StandardCharsets.UTF_8);
+            if (names[nameId].length > 0xFFFF) {
+                throw new IllegalArgumentException("이름이 너무 깁니다: " + names[nameId].length + " bytes");
+            }
+            fileSize += Short.BYTES + names[nameId].length;
+        }
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("파일이 2GB를 넘습니다: rows=" + rows.length + ", bytes=" + fileSize);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer chunk = ByteBuffer.allocate(WRITE_CHUNK).order(ByteOrder.LITTLE_ENDIAN);
+            chunk.position(HEADER_SIZE);    // 헤더는 마지막에 기록한다.
+
+            for (int row : rows) {
+                if (chunk.remaining() < PersonRowFormat.ROW_SIZE) {
+                    flush(channel, chunk);
+                }
+                PersonRowFormat.write(chunk, chunk.position(), table.id(row), namePool.intern(table.name(row)),
+                        table.age(row), table.mbti(row), table.gender(row));
+                chunk.position(chunk.position() + PersonRowFormat.ROW_SIZE);
+            }
+
+            for (byte[] name : names) {
+                if (chunk.remaining() < Short.BYTES + name.length) {
+                    flush(channel, chunk);
+                }
+                if (chunk.remaining() < Short.BYTES + name.length) {
+                    chunk = ByteBuffer.allocate(Short.BYTES + name.length).order(ByteOrder.LITTLE_ENDIAN);
+                }
+                chunk.putShort((short) name.length);
+                chunk.put(name);
+            }
+            flush(channel, chunk);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(rows.length)
+                    .putInt(namePool.size())
+                    .flip();
+            channel.write(header, 0);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer chunk) throws IOException {
+        chunk.flip();
+        while (chunk.hasRemaining()) {
+            channel.write(chunk);
+        }
+        chunk.clear();
+    }
+
+    /**
+     * 파일을 읽기 전용으로 매핑한다. 사용이 끝나면 close 해야 한다.
+     */
+    public static MappedPersonFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IOException("Person 파일이 아닙니다: " + path);
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException("지원하지 않는 버전입니다: " + buffer.getInt(4));
+            }
+
+            int size = buffer.getInt(8);
+            int nameCount = buffer.getInt(12);
+            long rowsEnd = HEADER_SIZE + (long) size * PersonRowFormat.ROW_SIZE;
+            if (size < 0 || nameCount < 0 || rowsEnd > buffer.limit()) {
+                throw new IOException("헤더가 파일 크기와 맞지 않습니다: size=" + size + ", names=" + nameCount
+                        + ", file=" + buffer.limit());
+            }
+
+            String[] names = new String[nameCount];
+            int offset = (int) rowsEnd;
+            for (int i = 0; i < names.length; i++) {
+                if (offset + Short.BYTES > buffer.limit()) {
+                    throw new IOException("이름 사전이 잘렸습니다: " + path);
+                }
+                int length = buffer.getShort(offset) & 0xFFFF;
+                if (offset + Short.BYTES + length > buffer.limit()) {
+                    throw new IOException("이름 사전이 잘렸습니다: " + path);
+                }
+                byte[] name = new byte[length];
+                buffer.get(offset + Short.BYTES, name);
+                names[i] = new String(name, StandardCharsets.UTF_8);
+                offset += Short.BYTES + length;
+            }
+            return new MappedPersonFile(channel, buffer, size, names);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long id(int row) {
+        return PersonRowFormat.id(buffer, offsetOf(row));
+    }
+
+    @Override
+    public String name(int row) {
+        return names[PersonRowFormat.nameId(buffer, offsetOf(row))];
+    }
+
+    @Override
+    public int age(int row) {
+        return PersonRowFormat.age(buffer, offsetOf(row));
+    }
+
+    @Override
+    public Mbti mbti(int row) {
+        return Mbti.decode(PersonRowFormat.mbtiCode(buffer, offsetOf(row)));
+    }
+
+    @Override
+    public Gender gender(int row) {
+        return PersonRowFormat.gender(buffer, offsetOf(row));
+    }
+
+    private int offsetOf(int row) {
+        return HEADER_SIZE + row * PersonRowFormat.ROW_SIZE;
+    }
+
+    /**
+     * 채널을 닫는다. 매핑된 메모리는 버퍼가 GC될 때 해제된다.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,313 @@
+package com.sparta.nbcamp.studyStream.person.store;
+
+import com.sparta.nbcamp.studyStream.person.Gender;
+import com.sparta.nbcamp.studyStream.person.Mbti;
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Person 행을 힙 밖(direct ByteBuffer)에 저장하는 저장소.
+ * <p>
+ * 행은 {@link PersonRowFormat} 형식으로 고정 크기 세그먼트(기본 2^20 행 = 24MB)에 차례로 쌓이고,
+ * 이름은 UTF-8 바이트로 off-heap 문자열 아레나에 한 번씩만 저장된다.
+ * 같은 이름을 찾는 사전도 (해시, 이름 번호) 쌍의 off-heap 오픈 어드레싱 표이고, 후보는 아레나의 바이트와 직접 비교한다.
+ * 힙에 남는 것은 세그먼트 참조 배열과 몇 개의 ByteBuffer 객체뿐이므로
+ * 행이나 서로 다른 이름을 아무리 많이 넣어도 GC가 추적할 객체 수는 늘지 않는다.
+ * <p>
+ * 사용이 끝나면 {@link #close()}로 닫는다. 닫은 뒤에는 모든 접근이 IllegalStateException을 던지며,
+ * direct 메모리는 버퍼 참조가 사라진 뒤 GC의 Cleaner가 반환한다.
+ * 한 스레드에서 쓰고, 쓰기가 끝난 뒤에는 여러 스레드에서 읽어도 된다.
+ */
+public class OffHeapPersonStore implements PersonRows, AutoCloseable {
+    private static final int DEFAULT_SEGMENT_SHIFT = 20;
+    private static final int NAME_ENTRY_SIZE = 8;    // offset(int) | length(int)
+    private static final int NAME_SLOT_SIZE = 8;     // hash(int) | 이름 번호 + 1(int), 0이면 빈 칸
+
+    private final int segmentShift;
+    private final int segmentMask;
+    private ByteBuffer[] segments = new ByteBuffer[4];
+    private int size;
+
+    private ByteBuffer nameBytes = allocate(1 << 12);
+    private ByteBuffer nameEntries = allocate(NAME_ENTRY_SIZE * 64);
+    private ByteBuffer nameSlots = allocate(NAME_SLOT_SIZE * 128);
+    private int nameSlotMask = 127;
+    private int nameCount;
+
+    private volatile boolean closed;
+
+    public OffHeapPersonStore() {
+        this(DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * @param segmentShift 세그먼트 하나에 담을 행 수 = 2^segmentShift
+     */
+    public OffHeapPersonStore(int segmentShift) {
+        if (segmentShift < 0 || (1L << segmentShift) * PersonRowFormat.ROW_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("segmentShift 범위를 벗어났습니다: " + segmentShift);
+        }
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1 << segmentShift) - 1;
+    }
+
+    public static OffHeapPersonStore from(Collection<Person> people) {
+        OffHeapPersonStore store = new OffHeapPersonStore();
+        for (Person person : people) {
+            store.add(person);
+        }
+        return store;
+    }
+
+    public int add(Person person) {
+        return add(person.getId(), person.getName(), person.getAge(), person.getMbti(), person.getGender());
+    }
+
+    /**
+     * 행을 추가하고 추가된 행 번호를 리턴한다.
+     * 값은 PersonTable 과 같은 규칙으로 먼저 검증하므로, 거절된 행은 이름 아레나나 세그먼트를 건드리지 않는다.
+     */
+    public int add(long id, String name, int age, String mbti, Gender gender) {
+        ensureOpen();
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(mbti, "mbti");
+        Objects.requireNonNull(gender, "gender");
+        if (age < 0 || age > PersonTable.MAX_AGE) {
+            throw new IllegalArgumentException("나이는 0 ~ " + PersonTable.MAX_AGE + " 사이여야 합니다: " + age);
+        }
+        Mbti type = Mbti.of(mbti);
+
+        int row = size;
+        int segment = row >>> segmentShift;
+        if (segment == segments.length) {
+            segments = Arrays.copyOf(segments, segments.length * 2);
+        }
+        if (segments[segment] == null) {
+            segments[segment] = allocate(PersonRowFormat.ROW_SIZE << segmentShift);
+        }
+
+        PersonRowFormat.write(segments[segment], offsetOf(row), id, intern(name), age, type, gender);
+        size++;
+        return row;
+    }
+
+    @Override
+    public int size() {
+        ensureOpen();
+        return size;
+    }
+
+    @Override
+    public long id(int row) {
+        return PersonRowFormat.id(segmentOf(row), offsetOf(row));
+    }
+
+    @Override
+    public String name(int row) {
+        int entry = PersonRowFormat.nameId(segmentOf(row), offsetOf(row)) * NAME_ENTRY_SIZE;
+        byte[] bytes = new byte[nameEntries.getInt(entry + Integer.BYTES)];
+        nameBytes.get(nameEntries.getInt(entry), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int age(int row) {
+        return PersonRowFormat.age(segmentOf(row), offsetOf(row));
+    }
+
+    @Override
+    public Mbti mbti(int row) {
+        return Mbti.decode(PersonRowFormat.mbtiCode(segmentOf(row), offsetOf(row)));
+    }
+
+    @Override
+    public Gender gender(int row) {
+        return PersonRowFormat.gender(segmentOf(row), offsetOf(row));
+    }
+
+    /**
+     * 할당된 off-heap 메모리 (바이트)
+     */
+    public long offHeapBytes() {
+        ensureOpen();
+        long bytes = (long) nameBytes.capacity() + nameEntries.capacity() + nameSlots.capacity();
+        for (ByteBuffer segment : segments) {
+            if (segment != null) {
+                bytes += segment.capacity();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 저장된 서로 다른 이름 수
+     */
+    int nameCount() {
+        return nameCount;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        segments = new ByteBuffer[0];
+        nameBytes = null;
+        nameEntries = null;
+        nameSlots = null;
+        size = 0;
+    }
+
+    /**
+     * 이름을 아레나 끝에 UTF-8로 인코딩해 본 뒤 같은 바이트의 이름이 이미 있으면 그 번호를 리턴하고(아레나 위치는 그대로),
+     * 없으면 인코딩한 바이트를 그대로 새 이름으로 확정한다. 힙에는 아무것도 만들지 않는다.
+     */
+    private int intern(String name) {
+        nameBytes = ensureCapacity(nameBytes, (int) Math.min(Integer.MAX_VALUE, name.length() * 3L));
+        int start = nameBytes.position();
+        int length = encode(name, nameBytes, start);
+        int hash = hash(nameBytes, start, length);
+
+        int slot = hash & nameSlotMask;
+        while (true) {
+            int id = nameSlots.getInt(slot * NAME_SLOT_SIZE + Integer.BYTES) - 1;
+            if (id < 0) {
+                break;
+            }
+            if (nameSlots.getInt(slot * NAME_SLOT_SIZE) == hash && sameName(id, start, length)) {
+                return id;
+            }
+            slot = (slot + 1) & nameSlotMask;
+        }
+
+        nameEntries = ensureCapacity(nameEntries, NAME_ENTRY_SIZE);
+        int entry = nameCount * NAME_ENTRY_SIZE;
+        nameEntries.putInt(entry, start);
+        nameEntries.putInt(entry + Integer.BYTES, length);
+        nameEntries.position(entry + NAME_ENTRY_SIZE);
+        nameBytes.position(start + length);
+
+        nameSlots.putInt(slot * NAME_SLOT_SIZE, hash);
+        nameSlots.putInt(slot * NAME_SLOT_SIZE + Integer.BYTES, nameCount + 1);
+        int id = nameCount++;
+        if (nameCount * 2 > nameSlotMask + 1) {
+            rehashNames();
+        }
+        return id;
+    }
+
+    private boolean sameName(int id, int start, int length) {
+        int entry = id * NAME_ENTRY_SIZE;
+        if (nameEntries.getInt(entry + Integer.BYTES) != length) {
+            return false;
+        }
+        int offset = nameEntries.getInt(entry);
+        for (int i = 0; i < length; i++) {
+            if (nameBytes.get(offset + i) != nameBytes.get(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rehashNames() {
+        ByteBuffer old = nameSlots;
+        int capacity = (nameSlotMask + 1) * 2;
+        nameSlots = allocate(capacity * NAME_SLOT_SIZE);
+        nameSlotMask = capacity - 1;
+        for (int position = 0; position < old.capacity(); position += NAME_SLOT_SIZE) {
+            int idPlusOne = old.getInt(position + Integer.BYTES);
+            if (idPlusOne == 0) {
+                continue;
+            }
+            int hash = old.getInt(position);
+            int slot = hash & nameSlotMask;
+            while (nameSlots.getInt(slot * NAME_SLOT_SIZE + Integer.BYTES) != 0) {
+                slot = (slot + 1) & nameSlotMask;
+            }
+            nameSlots.putInt(slot * NAME_SLOT_SIZE, hash);
+            nameSlots.putInt(slot * NAME_SLOT_SIZE + Integer.BYTES, idPlusOne);
+        }
+    }
+
+    /**
+     * String.getBytes(UTF_8)와 같은 바이트를 buffer의 start부터 쓰고 길이를 리턴한다. 짝이 없는 서로게이트는 '?'로 바꾼다.
+     */
+    private static int encode(String name, ByteBuffer buffer, int start) {
+        int at = start;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < 0x80) {
+                buffer.put(at++, (byte) c);
+            } else if (c < 0x800) {
+                buffer.put(at++, (byte) (0xC0 | c >> 6));
+                buffer.put(at++, (byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < name.length()
+                    && Character.isLowSurrogate(name.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, name.charAt(++i));
+                buffer.put(at++, (byte) (0xF0 | codePoint >> 18));
+                buffer.put(at++, (byte) (0x80 | codePoint >> 12 & 0x3F));
+                buffer.put(at++, (byte) (0x80 | codePoint >> 6 & 0x3F));
+                buffer.put(at++, (byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put(at++, (byte) '?');
+            } else {
+                buffer.put(at++, (byte) (0xE0 | c >> 12));
+                buffer.put(at++, (byte) (0x80 | c >> 6 & 0x3F));
+                buffer.put(at++, (byte) (0x80 | c & 0x3F));
+            }
+        }
+        return at - start;
+    }
+
+    private static int hash(ByteBuffer buffer, int start, int length) {
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + buffer.get(start + i);
+        }
+        int mixed = hash * 0x9E3779B9;
+        return mixed ^ mixed >>> 16;
+    }
+
+    private ByteBuffer segmentOf(int row) {
+        ensureOpen();
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("row " + row + " out of bounds for size " + size);
+        }
+        return segments[row >>> segmentShift];
+    }
+
+    private int offsetOf(int row) {
+        return (row & segmentMask) * PersonRowFormat.ROW_SIZE;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("이미 닫힌 저장소입니다.");
+        }
+    }
+
+    private static ByteBuffer ensureCapacity(ByteBuffer buffer, int additional) {
+        if (buffer.remaining() >= additional) {
+            return buffer;
+        }
+
+        long required = (long) buffer.position() + additional;
+        ByteBuffer grown = allocate((int) Math.min(Integer.MAX_VALUE, Math.max(required, buffer.capacity() * 2L)));
+        grown.put(buffer.duplicate().flip());
+        return grown;
+    }
+
+    private static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,61 @@
+package com.sparta.nbcamp.studyStream.person.store;
+
+import com.sparta.nbcamp.studyStream.person.Gender;
+import com.sparta.nbcamp.studyStream.person.Mbti;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Person 한 행을 고정 길이(24바이트) 바이너리로 표현하는 형식. 파일과 off-heap 저장소가 같은 형식을 사용한다.
+ * <pre>
+ * offset  size  field
+ *      0     8  id (long)
+ *      8     4  age (int)
+ *     12     4  name id (int, 이름 사전의 번호)
+ *     16     1  mbti code ({@link Mbti#code()})
+ *     17     1  gender (0 = MALE, 1 = FEMALE)
+ *     18     6  padding (다음 행의 id를 8바이트 경계에 맞춘다)
+ * </pre>
+ */
+final class PersonRowFormat {
+    static final int ROW_SIZE = 24;
+
+    static final int ID = 0;
+    static final int AGE = 8;
+    static final int NAME_ID = 12;
+    static final int MBTI = 16;
+    static final int GENDER = 17;
+
+    private static final Gender[] GENDERS = Gender.values();
+
+    private PersonRowFormat() {
+    }
+
+    static void write(ByteBuffer buffer, int offset, long id, int nameId, int age, Mbti mbti, Gender gender) {
+        buffer.putLong(offset + ID, id);
+        buffer.putInt(offset + AGE, age);
+        buffer.putInt(offset + NAME_ID, nameId);
+        buffer.put(offset + MBTI, (byte) mbti.code());
+        buffer.put(offset + GENDER, (byte) gender.ordinal());
+    }
+
+    static long id(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + ID);
+    }
+
+    static int age(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + AGE);
+    }
+
+    static int nameId(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + NAME_ID);
+    }
+
+    static int mbtiCode(ByteBuffer buffer, int offset) {
+        return buffer.get(offset + MBTI);
+    }
+
+    static Gender gender(ByteBuffer buffer, int offset) {
+        return GENDERS[buffer.get(offset + GENDER)];
+    }
+}
@@ -0,0 +1,98 @@
+package com.sparta.nbcamp.studyStream.person.store;
+
+import com.sparta.nbcamp.studyStream.person.Gender;
+import com.sparta.nbcamp.studyStream.person.Mbti;
+import com.sparta.nbcamp.studyStream.person.Person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.function.IntPredicate;
+
+/**
+ * {@link PersonRowFormat} 행이 연속으로 저장된 읽기 전용 저장소의 공통 조회 연산.
+ * PersonTable과 같은 이름의 연산을 제공하며, 결과는 행 번호 배열(int[])이다.
+ */
+public interface PersonRows {
+
+    int size();
+
+    long id(int row);
+
+    String name(int row);
+
+    int age(int row);
+
+    Mbti mbti(int row);
+
+    Gender gender(int row);
+
+    default Person toPerson(int row) {
+        return new Person(id(row), name(row), age(row), mbti(row).name(), gender(row));
+    }
+
+    default List<Person> toPeople(int[] rows) {
+        List<Person> people = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            people.add(toPerson(row));
+        }
+        return people;
+    }
+
+    default int[] filter(IntPredicate predicate) {
+        int[] rows = new int[size()];
+        int count = 0;
+        for (int row = 0; row < rows.length; row++) {
+            if (predicate.test(row)) {
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * from <= age < to
+     */
+    default int[] filterByAge(int from, int to) {
+        return filter(row -> {
+            int age = age(row);
+            return age >= from && age < to;
+        });
+    }
+
+    /**
+     * MBTI에 해당 글자(E, I, S, N, T, F, J, P)가 포함된 행
+     */
+    default int[] filterByMbti(char letter) {
+        int axis = Mbti.axisOf(letter);
+        int bit = Mbti.bitOf(letter);
+        return filter(row -> ((mbti(row).code() >>> (3 - axis)) & 1) == bit);
+    }
+
+    default int[] filterByGender(Gender gender) {
+        return filter(row -> gender(row) == gender);
+    }
+
+    default long count(IntPredicate predicate) {
+        long count = 0;
+        for (int row = 0; row < size(); row++) {
+            if (predicate.test(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    default OptionalDouble averageAge(int[] rows) {
+        if (rows.length == 0) {
+            return OptionalDouble.empty();
+        }
+
+        long sum = 0;
+        for (int row : rows) {
+            sum += age(row);
+        }
+        return OptionalDouble.of((double) sum / rows.length);
+    }
+}
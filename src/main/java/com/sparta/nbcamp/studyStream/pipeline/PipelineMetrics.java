@@ -0,0 +1,83 @@
+package com.sparta.nbcamp.studyStream.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 파이프라인(Stream, Query, 테이블 스캔)의 단계별 측정 저장소.
+ * <p>
+ * peek(System.out::println) 처럼 요소마다 출력하는 대신 {@link PipelineProbe}로 단계를 감싸면
+ * 샘플로 뽑힌 요소의 개수, 통과 비율(selectivity), 처리 시간(ns)이 단계별 LongAdder에 쌓인다.
+ * <p>
+ * 샘플링 간격이 0이면 꺼진 상태로, 감싼 단계는 volatile 필드 하나를 읽고 바로 원래 함수를 호출한다.
+ * 간격이 N(2의 거듭제곱)이면 요소 N개 중 평균 1개를 측정한다.
+ */
+public class PipelineMetrics {
+    static final int OFF = -1;
+
+    private final Map<String, PipelineProbe> pipelines = new ConcurrentHashMap<>();
+    private volatile int sampleMask;
+
+    public PipelineMetrics() {
+        this(0);
+    }
+
+    public PipelineMetrics(int samplingInterval) {
+        this.sampleMask = maskOf(samplingInterval);
+    }
+
+    /**
+     * 이름으로 파이프라인을 찾고, 없으면 새로 만든다.
+     */
+    public PipelineProbe pipeline(String name) {
+        return pipelines.computeIfAbsent(name, key -> new PipelineProbe(key, this));
+    }
+
+    /**
+     * 0 이면 측정을 끄고, 1 이면 모든 요소를, N 이면 N개 중 1개를 측정한다. N은 2의 거듭제곱이어야 한다.
+     */
+    public void setSamplingInterval(int samplingInterval) {
+        sampleMask = maskOf(samplingInterval);
+    }
+
+    public int getSamplingInterval() {
+        int mask = sampleMask;
+        return mask == OFF ? 0 : mask + 1;
+    }
+
+    public boolean isEnabled() {
+        return sampleMask != OFF;
+    }
+
+    public List<PipelineSnapshot> snapshot() {
+        int interval = getSamplingInterval();
+        List<PipelineSnapshot> snapshots = new ArrayList<>();
+        for (PipelineProbe probe : pipelines.values()) {
+            snapshots.add(probe.snapshot(interval));
+        }
+        snapshots.sort((a, b) -> a.pipeline().compareTo(b.pipeline()));
+        return snapshots;
+    }
+
+    /**
+     * 측정값을 모두 0으로 되돌린다. 등록된 파이프라인과 단계는 남는다.
+     */
+    public void reset() {
+        for (PipelineProbe probe : pipelines.values()) {
+            probe.reset();
+        }
+    }
+
+    int sampleMask() {
+        return sampleMask;
+    }
+
+    private static int maskOf(int samplingInterval) {
+        if (samplingInterval < 0 || Integer.bitCount(samplingInterval) > 1) {
+            throw new IllegalArgumentException("샘플링 간격은 0 또는 2의 거듭제곱이어야 합니다: " + samplingInterval);
+        }
+        return samplingInterval == 0 ? OFF : samplingInterval - 1;
+    }
+}
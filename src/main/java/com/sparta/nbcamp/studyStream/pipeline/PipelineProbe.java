@@ -0,0 +1,145 @@
+package com.sparta.nbcamp.studyStream.pipeline;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * 파이프라인 하나의 단계를 감싸는 측정기. {@link PipelineMetrics#pipeline(String)}으로 얻는다.
+ * <pre>
+ * PipelineProbe probe = metrics.pipeline("count20sPeople");
+ * long count = people.stream()
+ *         .peek(probe.peek("source"))
+ *         .filter(probe.filter("20s", p -> p.getAge() >= 20 && p.getAge() < 30))
+ *         .count();
+ * </pre>
+ * 감싼 함수는 상태가 없고 카운터는 LongAdder이므로 병렬 Stream에서도 그대로 쓸 수 있다.
+ * 같은 이름의 단계를 여러 번 감싸면 같은 카운터에 쌓인다.
+ */
+public class PipelineProbe {
+    private final String name;
+    private final PipelineMetrics metrics;
+    private final Map<String, StageStats> stages = new ConcurrentHashMap<>();
+    private final List<StageStats> order = new CopyOnWriteArrayList<>();
+
+    PipelineProbe(String name, PipelineMetrics metrics) {
+        this.name = name;
+        this.metrics = metrics;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public <T> Predicate<T> filter(String stage, Predicate<? super T> predicate) {
+        StageStats stats = stage(stage);
+        return element -> {
+            int interval = sampledInterval();
+            if (interval == 0) {
+                return predicate.test(element);
+            }
+            long start = System.nanoTime();
+            boolean passed = predicate.test(element);
+            stats.record(passed, System.nanoTime() - start, interval);
+            return passed;
+        };
+    }
+
+    /**
+     * PersonTable 처럼 행 번호로 도는 스캔의 조건을 감싼다.
+     */
+    public IntPredicate filterRows(String stage, IntPredicate predicate) {
+        StageStats stats = stage(stage);
+        return row -> {
+            int interval = sampledInterval();
+            if (interval == 0) {
+                return predicate.test(row);
+            }
+            long start = System.nanoTime();
+            boolean passed = predicate.test(row);
+            stats.record(passed, System.nanoTime() - start, interval);
+            return passed;
+        };
+    }
+
+    public <T, R> Function<T, R> map(String stage, Function<? super T, ? extends R> mapper) {
+        StageStats stats = stage(stage);
+        return element -> {
+            int interval = sampledInterval();
+            if (interval == 0) {
+                return mapper.apply(element);
+            }
+            long start = System.nanoTime();
+            R result = mapper.apply(element);
+            stats.record(true, System.nanoTime() - start, interval);
+            return result;
+        };
+    }
+
+    /**
+     * 지나가는 요소의 개수만 센다. peek(System.out::println) 대신 쓴다.
+     */
+    public <T> Consumer<T> peek(String stage) {
+        StageStats stats = stage(stage);
+        return element -> {
+            int interval = sampledInterval();
+            if (interval != 0) {
+                stats.record(true, 0, interval);
+            }
+        };
+    }
+
+    /**
+     * forEach 같은 최종 단계의 Consumer를 감싼다.
+     */
+    public <T> Consumer<T> sink(String stage, Consumer<? super T> consumer) {
+        StageStats stats = stage(stage);
+        return element -> {
+            int interval = sampledInterval();
+            if (interval == 0) {
+                consumer.accept(element);
+                return;
+            }
+            long start = System.nanoTime();
+            consumer.accept(element);
+            stats.record(true, System.nanoTime() - start, interval);
+        };
+    }
+
+    PipelineSnapshot snapshot(int samplingInterval) {
+        return new PipelineSnapshot(name, samplingInterval,
+                order.stream().map(StageStats::snapshot).toList());
+    }
+
+    void reset() {
+        for (StageStats stats : order) {
+            stats.reset();
+        }
+    }
+
+    private StageStats stage(String stage) {
+        return stages.computeIfAbsent(stage, key -> {
+            StageStats stats = new StageStats(key);
+            order.add(stats);
+            return stats;
+        });
+    }
+
+    /**
+     * 이 요소를 측정하면 그때의 샘플링 간격을, 아니면 0을 리턴한다.
+     * 꺼져 있으면 volatile 읽기 한 번으로 끝난다. 간격이 1이면 난수를 만들지 않는다.
+     */
+    private int sampledInterval() {
+        int mask = metrics.sampleMask();
+        if (mask == PipelineMetrics.OFF) {
+            return 0;
+        }
+        return mask == 0 || (ThreadLocalRandom.current().nextInt() & mask) == 0 ? mask + 1 : 0;
+    }
+}
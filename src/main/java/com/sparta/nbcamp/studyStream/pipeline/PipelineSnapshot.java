@@ -0,0 +1,9 @@
+package com.sparta.nbcamp.studyStream.pipeline;
+
+import java.util.List;
+
+/**
+ * 파이프라인 하나의 측정 결과. stages 는 단계가 처음 등록된 순서다.
+ */
+public record PipelineSnapshot(String pipeline, int samplingInterval, List<StageSnapshot> stages) {
+}
@@ -0,0 +1,20 @@
+package com.sparta.nbcamp.studyStream.pipeline;
+
+/**
+ * 단계 하나의 측정 결과.
+ * sampledIn / sampledOut 은 샘플로 뽑힌 요소 중 단계에 들어온 / 통과한 개수이고,
+ * estimatedIn 은 샘플마다 그 샘플을 뽑은 샘플링 간격을 더한 전체 요소 수 추정치다. (샘플링 간격이 계속 1이었다면 정확한 값)
+ *
+ * @param selectivity 통과 비율 (sampledOut / sampledIn). 샘플이 없으면 0
+ * @param averageNanos 요소 하나를 처리하는 데 걸린 평균 시간(ns). 샘플이 없으면 0
+ */
+public record StageSnapshot(String stage, long sampledIn, long sampledOut, long estimatedIn, double selectivity,
+                            long totalNanos, double averageNanos) {
+
+    static StageSnapshot of(String stage, long in, long out, long estimatedIn, long nanos) {
+        return new StageSnapshot(stage, in, out, estimatedIn,
+                in == 0 ? 0.0 : (double) out / in,
+                nanos,
+                in == 0 ? 0.0 : (double) nanos / in);
+    }
+}
@@ -0,0 +1,42 @@
+package com.sparta.nbcamp.studyStream.pipeline;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계 하나의 샘플 카운터. 여러 스레드가 동시에 기록해도 LongAdder라 경합(락)이 없다.
+ * 전체 개수 추정치는 기록할 때 그 시점의 샘플링 간격을 더해 쌓으므로, 중간에 간격이 바뀌어도 이전 샘플의 추정이 달라지지 않는다.
+ */
+final class StageStats {
+    private final String name;
+    private final LongAdder in = new LongAdder();
+    private final LongAdder out = new LongAdder();
+    private final LongAdder estimatedIn = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    StageStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param samplingInterval 이 샘플을 뽑은 샘플링 간격. 샘플 하나가 대표하는 요소 수다.
+     */
+    void record(boolean passed, long elapsedNanos, int samplingInterval) {
+        in.increment();
+        estimatedIn.add(samplingInterval);
+        if (passed) {
+            out.increment();
+        }
+        nanos.add(elapsedNanos);
+    }
+
+    StageSnapshot snapshot() {
+        return StageSnapshot.of(name, in.sum(), out.sum(), estimatedIn.sum(), nanos.sum());
+    }
+
+    void reset() {
+        in.reset();
+        out.reset();
+        estimatedIn.reset();
+        nanos.reset();
+    }
+}
@@ -0,0 +1,19 @@
+package com.sparta.nbcamp.studyStream.sink;
+
+/**
+ * {@link RingBufferSink}의 버퍼가 가득 찼을 때의 처리 방법.
+ */
+public enum OverflowPolicy {
+    /**
+     * 메시지를 버리고 바로 리턴한다. 호출한 스레드는 기다리지 않는다.
+     */
+    DROP,
+    /**
+     * 자리가 날 때까지 기다린다. 메시지를 잃지 않지만 쓰기가 느리면 호출한 스레드도 느려진다.
+     */
+    BLOCK,
+    /**
+     * 넘친 메시지 sampleRate 개 중 1개만 자리가 날 때까지 기다려 남기고 나머지는 버린다.
+     */
+    SAMPLE
+}
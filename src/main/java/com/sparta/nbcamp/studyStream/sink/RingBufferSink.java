@@ -0,0 +1,488 @@
+package com.sparta.nbcamp.studyStream.sink;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * System.out::println 대신 쓰는 비동기 Consumer&lt;String&gt;.
+ * <p>
+ * 메시지는 미리 할당한 슬롯(char[])에 복사되고, 백그라운드 스레드 하나가 여러 개를 모아(batch) 한 번에 target에 쓴다.
+ * 호출한 스레드는 PrintStream의 락이나 출력 IO를 기다리지 않는다.
+ * <p>
+ * 버퍼는 슬롯마다 순번(sequence)을 두는 bounded 큐(Vyukov 방식)다. 여러 생산자가 CAS로 tail을 올려 슬롯을 차지하고,
+ * 슬롯을 채운 뒤 순번을 바꿔 소비자(쓰기 스레드)에게 넘긴다. 락이 없고 메시지마다 객체를 만들지 않는다.
+ * 가득 찼을 때는 {@link OverflowPolicy}를 따른다.
+ * <p>
+ * {@link #line()}을 쓰면 숫자를 String으로 바꾸지 않고 슬롯에 바로 기록할 수 있다.
+ * <pre>
+ * sink.line().append("age=").append(person.getAge()).append(", avg=").append(average, 2).commit();
+ * </pre>
+ * 기록 도중 예외가 날 수 있으면 try-with-resources로 감싼다. commit하지 않고 닫힌 Line의 슬롯은 빈 기록으로 넘겨져
+ * 쓰기 스레드가 건너뛰므로, 차지한 슬롯 하나 때문에 뒤의 메시지가 막히지 않는다.
+ * <pre>
+ * try (RingBufferSink.Line line = sink.line()) {
+ *     line.append("ratio=").append(total / count, 2).commit();
+ * }
+ * </pre>
+ * slotSize 보다 긴 메시지는 잘린다. 메시지 끝에는 줄바꿈('\n')이 붙는다.
+ * target은 flush만 하고 닫지 않는다. (System.out 처럼 호출한 쪽이 소유한다)
+ */
+public class RingBufferSink implements Consumer<String>, AutoCloseable {
+    private static final int SPIN_TRIES = 100;
+    private static final long BLOCK_PARK_NANOS = 10_000;
+    private static final long IDLE_PARK_NANOS = 100_000;
+    private static final int SKIPPED = -1;    // 슬롯 길이 자리에 두는 값. commit하지 않고 닫힌 Line
+
+    private final char[][] slots;
+    private final int[] lengths;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final OverflowPolicy policy;
+    private final int sampleRate;
+    private final AtomicLong overflowCount = new AtomicLong();
+    private final LongAdder droppedCount = new LongAdder();
+    private final ThreadLocal<Line> lines = ThreadLocal.withInitial(() -> new Line(this));
+
+    // 쓰기 스레드 전용
+    private final Writer target;
+    private final char[] batch;
+    private final int batchSize;
+    private final Duration closeTimeout;
+    private long head;
+
+    private final Thread writerThread;
+    private volatile long writtenCount;
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    private RingBufferSink(Builder builder) {
+        int capacity = builder.capacity;
+        this.slots = new char[capacity][builder.slotSize];
+        this.lengths = new int[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+        this.policy = builder.policy;
+        this.sampleRate = builder.sampleRate;
+        this.target = builder.target;
+        this.batchSize = builder.batchSize;
+        this.closeTimeout = builder.closeTimeout;
+        this.batch = new char[builder.batchSize * (builder.slotSize + 1)];
+        this.writerThread = new Thread(this::drainLoop, builder.threadName);
+        this.writerThread.setDaemon(true);
+    }
+
+    public static Builder builder(Writer target) {
+        return new Builder(target);
+    }
+
+    /**
+     * System.out 에 UTF-8로 쓰는 DROP 정책 sink
+     */
+    public static RingBufferSink toSystemOut() {
+        return builder(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)).build();
+    }
+
+    /**
+     * 메시지를 버퍼에 넣는다. 가득 찼을 때의 동작은 {@link OverflowPolicy}를 따르고, 닫힌 뒤에는 버린다.
+     */
+    @Override
+    public void accept(String message) {
+        String value = message == null ? "null" : message;
+        long position = claim();
+        if (position < 0) {
+            return;
+        }
+        int index = (int) position & mask;
+        int length = Math.min(value.length(), slots[index].length);
+        value.getChars(0, length, slots[index], 0);
+        publish(position, length);
+    }
+
+    /**
+     * 현재 스레드가 재사용하는 Line에 슬롯을 하나 차지해 리턴한다. commit()을 호출해야 쓰기 스레드가 가져간다.
+     * 자리가 없어 버려진 경우에도 Line을 리턴하며 append는 아무 일도 하지 않는다.
+     */
+    public Line line() {
+        return lines.get().begin();
+    }
+
+    public long droppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long writtenCount() {
+        return writtenCount;
+    }
+
+    /**
+     * 남은 메시지를 모두 쓰고 쓰기 스레드를 멈춘다. 쓰는 중 발생한 첫 번째 IOException을 던진다.
+     * 닫히는 도중에 들어온 메시지는 버려질 수 있다.
+     * closeTimeout 안에 쓰기 스레드가 끝나지 않으면(target이 멈췄거나 다른 스레드가 Line을 commit하지 않고 붙잡고 있는 경우)
+     * 기다리지 않고 IOException을 던진다. 쓰기 스레드는 데몬 스레드라 JVM 종료를 막지 않는다.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(closeTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        if (writerThread.isAlive()) {
+            throw new IOException("쓰기 스레드가 " + closeTimeout.toMillis() + "ms 안에 끝나지 않았습니다.");
+        }
+    }
+
+    /**
+     * 슬롯 위치를 리턴한다. 버려야 하면 -1
+     */
+    private long claim() {
+        boolean decided = policy == OverflowPolicy.BLOCK;
+        boolean wait = decided;
+        int spins = 0;
+        while (!closed) {
+            long position = tail.get();
+            long diff = sequences.get((int) position & mask) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+            } else if (diff < 0) {
+                if (!decided) {
+                    wait = policy == OverflowPolicy.SAMPLE && overflowCount.getAndIncrement() % sampleRate == 0;
+                    decided = true;
+                }
+                if (!wait) {
+                    break;
+                }
+                if (spins++ < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                }
+            }
+        }
+        droppedCount.increment();
+        return -1;
+    }
+
+    private void publish(long position, int length) {
+        int index = (int) position & mask;
+        lengths[index] = length;
+        sequences.lazySet(index, position + 1);
+    }
+
+    private void drainLoop() {
+        while (true) {
+            int length = drainBatch();
+            if (length > 0) {
+                write(length);
+            } else if (closed && tail.get() == head) {
+                return;
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * 준비된 메시지를 batchSize 개까지 batch 배열로 옮기고 슬롯을 돌려준다. 옮긴 문자 수를 리턴한다.
+     */
+    private int drainBatch() {
+        int length = 0;
+        for (int count = 0; count < batchSize; count++) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            int messageLength = lengths[index];
+            if (messageLength != SKIPPED) {
+                System.arraycopy(slots[index], 0, batch, length, messageLength);
+                length += messageLength;
+                batch[length++] = '\n';
+                writtenCount++;
+            }
+            sequences.lazySet(index, head + mask + 1);
+            head++;
+        }
+        return length;
+    }
+
+    private void write(int length) {
+        if (failure != null) {
+            return;     // 실패한 뒤에는 생산자가 막히지 않도록 버퍼만 비운다.
+        }
+        try {
+            target.write(batch, 0, length);
+            target.flush();
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * 슬롯 하나에 직접 기록하는 줄. 숫자는 String을 만들지 않고 문자로 바꿔 쓴다.
+     * 스레드마다 하나를 재사용하므로 commit 전에 같은 스레드에서 line()을 다시 호출하면 안 된다.
+     * commit하지 않고 {@link #close()}하면 기록을 버리고 슬롯을 쓰기 스레드에 돌려준다.
+     */
+    public static final class Line implements AutoCloseable {
+        private static final long[] POWERS_OF_TEN = {
+                1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+        };
+
+        private final RingBufferSink sink;
+        private final char[] digits = new char[20];
+        private long position = -1;
+        private boolean open;
+        private char[] chars;
+        private int length;
+
+        private Line(RingBufferSink sink) {
+            this.sink = sink;
+        }
+
+        private Line begin() {
+            if (open) {
+                throw new IllegalStateException("commit하지 않은 Line이 있습니다.");
+            }
+            open = true;
+            position = sink.claim();
+            chars = position < 0 ? null : sink.slots[(int) position & sink.mask];
+            length = 0;
+            return this;
+        }
+
+        public Line append(CharSequence value) {
+            if (chars == null) {
+                return this;
+            }
+            CharSequence text = value == null ? "null" : value;
+            int count = Math.min(text.length(), chars.length - length);
+            if (text instanceof String string) {
+                string.getChars(0, count, chars, length);
+                length += count;
+            } else {
+                for (int i = 0; i < count; i++) {
+                    chars[length++] = text.charAt(i);
+                }
+            }
+            return this;
+        }
+
+        public Line append(char value) {
+            if (chars != null && length < chars.length) {
+                chars[length++] = value;
+            }
+            return this;
+        }
+
+        public Line append(boolean value) {
+            return append(value ? "true" : "false");
+        }
+
+        public Line append(int value) {
+            return append((long) value);
+        }
+
+        public Line append(long value) {
+            if (chars == null) {
+                return this;
+            }
+            if (value == Long.MIN_VALUE) {
+                return append("-9223372036854775808");
+            }
+            if (value < 0) {
+                append('-');
+                value = -value;
+            }
+            int start = digits.length;
+            do {
+                digits[--start] = (char) ('0' + value % 10);
+                value /= 10;
+            } while (value != 0);
+            int count = Math.min(digits.length - start, chars.length - length);
+            System.arraycopy(digits, start, chars, length, count);
+            length += count;
+            return this;
+        }
+
+        /**
+         * 소수점 아래 fractionDigits(0 ~ 9) 자리로 반올림해서 쓴다. 절대값이 아주 크면(약 9e18 / 10^fractionDigits 이상)
+         * Double.toString 결과를 쓰므로 그때만 할당이 생긴다.
+         */
+        public Line append(double value, int fractionDigits) {
+            if (fractionDigits < 0 || fractionDigits >= POWERS_OF_TEN.length) {
+                throw new IllegalArgumentException("fractionDigits는 0 ~ 9 사이여야 합니다: " + fractionDigits);
+            }
+            if (chars == null) {
+                return this;
+            }
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                return append(Double.isNaN(value) ? "NaN" : value > 0 ? "Infinity" : "-Infinity");
+            }
+            long scale = POWERS_OF_TEN[fractionDigits];
+            double scaled = Math.abs(value) * scale;
+            if (scaled >= 9.0E18) {
+                return append(Double.toString(value));
+            }
+            long units = Math.round(scaled);
+            if (value < 0 && units != 0) {
+                append('-');
+            }
+            append(units / scale);
+            if (fractionDigits > 0) {
+                append('.');
+                long fraction = units % scale;
+                for (long power = scale / 10; power > fraction && power > 1; power /= 10) {
+                    append('0');
+                }
+                append(fraction);
+            }
+            return this;
+        }
+
+        /**
+         * 기록한 내용을 쓰기 스레드에 넘긴다.
+         */
+        public void commit() {
+            if (!open) {
+                throw new IllegalStateException("line()으로 시작하지 않았습니다.");
+            }
+            if (position >= 0) {
+                sink.publish(position, length);
+            }
+            end();
+        }
+
+        /**
+         * commit하지 않았다면 기록을 버리고 차지한 슬롯을 빈 기록으로 넘긴다. (버린 메시지로 센다)
+         * 이미 commit했다면 아무 일도 하지 않는다.
+         */
+        @Override
+        public void close() {
+            if (!open) {
+                return;
+            }
+            if (position >= 0) {
+                sink.publish(position, SKIPPED);
+                sink.droppedCount.increment();
+            }
+            end();
+        }
+
+        private void end() {
+            open = false;
+            position = -1;
+            chars = null;
+        }
+    }
+
+    public static final class Builder {
+        private final Writer target;
+        private int capacity = 1 << 13;
+        private int slotSize = 256;
+        private int batchSize = 256;
+        private OverflowPolicy policy = OverflowPolicy.DROP;
+        private int sampleRate = 16;
+        private String threadName = "ring-buffer-sink";
+        private Duration closeTimeout = Duration.ofSeconds(10);
+
+        private Builder(Writer target) {
+            this.target = Objects.requireNonNull(target);
+        }
+
+        /**
+         * 슬롯 개수. 2의 거듭제곱이어야 한다. 기본값 8192
+         */
+        public Builder capacity(int capacity) {
+            if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+                throw new IllegalArgumentException("capacity는 2 이상의 2의 거듭제곱이어야 합니다: " + capacity);
+            }
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * 메시지 하나의 최대 길이(문자 수). 기본값 256
+         */
+        public Builder slotSize(int slotSize) {
+            if (slotSize <= 0) {
+                throw new IllegalArgumentException("slotSize는 0보다 커야 합니다: " + slotSize);
+            }
+            this.slotSize = slotSize;
+            return this;
+        }
+
+        /**
+         * 쓰기 한 번에 모으는 최대 메시지 수. 기본값 256
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("batchSize는 0보다 커야 합니다: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder policy(OverflowPolicy policy) {
+            this.policy = Objects.requireNonNull(policy);
+            return this;
+        }
+
+        /**
+         * SAMPLE 정책에서 넘친 메시지 몇 개 중 1개를 남길지. 기본값 16
+         */
+        public Builder sampleRate(int sampleRate) {
+            if (sampleRate <= 0) {
+                throw new IllegalArgumentException("sampleRate는 0보다 커야 합니다: " + sampleRate);
+            }
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        public Builder threadName(String threadName) {
+            this.threadName = Objects.requireNonNull(threadName);
+            return this;
+        }
+
+        /**
+         * close()가 쓰기 스레드를 기다리는 최대 시간. 기본값 10초
+         */
+        public Builder closeTimeout(Duration closeTimeout) {
+            if (Objects.requireNonNull(closeTimeout).isNegative() || closeTimeout.isZero()) {
+                throw new IllegalArgumentException("closeTimeout은 0보다 커야 합니다: " + closeTimeout);
+            }
+            this.closeTimeout = closeTimeout;
+            return this;
+        }
+
+        /**
+         * sink를 만들고 쓰기 스레드를 시작한다.
+         */
+        public RingBufferSink build() {
+            RingBufferSink sink = new RingBufferSink(this);
+            sink.writerThread.start();
+            return sink;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.sparta.nbcamp.studyStream.subject;
+
+import java.util.Objects;
+
+public class Subject {
+    private final String title;
+    private final Integer level;
+
+    public Subject(String title, Integer level) {
+        this.title = title;
+        this.level = level;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Integer getLevel() {
+        return level;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+
+        if (!(o instanceof Subject))
+            return false;
+
+        Subject s = (Subject) o;
+        return Objects.equals(s.getTitle(), title) && Objects.equals(s.getLevel(), level);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(title, level);
+    }
+
+    @Override
+    public String toString() {
+        return "title=" + title + ", level=" + level;
+    }
+}
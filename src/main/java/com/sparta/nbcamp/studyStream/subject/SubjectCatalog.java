@@ -0,0 +1,278 @@
+package com.sparta.nbcamp.studyStream.subject;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 과목 카탈로그. 제목 접두어 검색(자동완성)과 레벨 범위 검색을 결과 개수에 비례하는 시간에 처리한다.
+ * <p>
+ * 과목을 두 가지 순서로 배열에 담아 둔다.
+ * <ul>
+ *     <li>제목순 배열 + 배열 기반 트라이 : 트라이 노드마다 자신으로 시작하는 제목의 배열 구간 [start, end)를 기록한다.
+ *     접두어 검색은 접두어 길이만큼 노드를 따라간 뒤 그 구간을 돌려주므로 O(접두어 길이 * log 자식 수).</li>
+ *     <li>레벨순 배열 + 레벨 시작 위치 : 서로 다른 레벨과 그 시작 위치를 정렬해 두고 이분 탐색하므로 레벨 범위 검색은 O(log 레벨 수).
+ *     레벨 값의 범위가 과목 수에 비해 좁으면 레벨마다 시작 위치를 담은 버킷 배열을 따로 만들어 O(1)로 찾는다.
+ *     (큰 레벨 하나 때문에 레벨 값만큼 배열을 잡지 않도록)</li>
+ * </ul>
+ * 두 배열 모두 구간이 연속이라 결과는 복사 없이 읽기 전용 List 뷰로 돌려준다.
+ * 트라이 노드는 객체가 아니라 열(column) 배열이고, 한 노드의 자식은 배열에서 연속으로 놓여 있어 라벨로 이분 탐색한다.
+ * <p>
+ * 제목은 대소문자를 구분하지 않는다. (문자 단위 Character.toLowerCase) 만든 뒤에는 바뀌지 않는다.
+ */
+public class SubjectCatalog {
+    private static final int ROOT = 0;
+    private static final int DENSE_LEVEL_SLACK = 64;  // 최대 레벨이 과목 수 + 이 값보다 작으면 레벨 버킷 배열을 만든다.
+
+    private final List<Subject> byTitle;
+    private final List<Subject> byLevel;
+    private final int[] levels;         // 서로 다른 레벨, 오름차순
+    private final int[] levelStarts;    // levelStarts[i] = 레벨순 배열에서 levels[i] 의 시작 위치, 마지막은 과목 수
+    private final int[] levelOffsets;   // levelOffsets[level] = 레벨순 배열에서 level 이상인 첫 위치. 레벨 범위가 넓으면 null
+
+    // 트라이 노드 열
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] childCounts;
+    private final int[] rangeStarts;
+    private final int[] rangeEnds;
+
+    private SubjectCatalog(Subject[] byTitle, String[] keys, Subject[] byLevel,
+                           int[] levels, int[] levelStarts, int[] levelOffsets) {
+        this.byTitle = Collections.unmodifiableList(Arrays.asList(byTitle));
+        this.byLevel = Collections.unmodifiableList(Arrays.asList(byLevel));
+        this.levels = levels;
+        this.levelStarts = levelStarts;
+        this.levelOffsets = levelOffsets;
+
+        int capacity = 1;
+        for (String key : keys) {
+            capacity += key.length();
+        }
+        TrieBuilder builder = new TrieBuilder(keys, capacity);
+        builder.build();
+        this.labels = Arrays.copyOf(builder.labels, builder.nodeCount);
+        this.firstChild = Arrays.copyOf(builder.firstChild, builder.nodeCount);
+        this.childCounts = Arrays.copyOf(builder.childCounts, builder.nodeCount);
+        this.rangeStarts = Arrays.copyOf(builder.rangeStarts, builder.nodeCount);
+        this.rangeEnds = Arrays.copyOf(builder.rangeEnds, builder.nodeCount);
+    }
+
+    public static SubjectCatalog of(Collection<Subject> subjects) {
+        Subject[] byTitle = subjects.toArray(new Subject[0]);
+        int maxLevel = -1;
+        for (Subject subject : byTitle) {
+            if (subject == null) {
+                throw new IllegalArgumentException("과목이 null 입니다.");
+            }
+            if (subject.getTitle() == null) {
+                throw new IllegalArgumentException("제목이 없습니다: " + subject);
+            }
+            if (subject.getLevel() == null) {
+                throw new IllegalArgumentException("레벨이 없습니다: " + subject);
+            }
+            int level = subject.getLevel();
+            if (level < 0) {
+                throw new IllegalArgumentException("레벨은 음수일 수 없습니다: " + subject);
+            }
+            maxLevel = Math.max(maxLevel, level);
+        }
+
+        String[] keys = new String[byTitle.length];
+        Integer[] order = new Integer[byTitle.length];
+        for (int i = 0; i < byTitle.length; i++) {
+            keys[i] = key(byTitle[i].getTitle());
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer, String>comparing(i -> keys[i])
+                .thenComparing(i -> byTitle[i].getTitle()));
+        Subject[] sortedSubjects = new Subject[byTitle.length];
+        String[] sortedKeys = new String[byTitle.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedSubjects[i] = byTitle[order[i]];
+            sortedKeys[i] = keys[order[i]];
+        }
+
+        // 안정 정렬이라 같은 레벨 안에서는 제목순이 유지된다.
+        Subject[] byLevel = sortedSubjects.clone();
+        Arrays.sort(byLevel, Comparator.comparingInt(Subject::getLevel));
+        int[] levels = new int[byLevel.length];
+        int[] levelStarts = new int[byLevel.length + 1];
+        int distinct = 0;
+        for (int i = 0; i < byLevel.length; i++) {
+            int level = byLevel[i].getLevel();
+            if (distinct == 0 || levels[distinct - 1] != level) {
+                levels[distinct] = level;
+                levelStarts[distinct++] = i;
+            }
+        }
+        levelStarts[distinct] = byLevel.length;
+
+        int[] levelOffsets = null;
+        if (maxLevel < byLevel.length + DENSE_LEVEL_SLACK) {
+            levelOffsets = new int[maxLevel + 2];
+            int index = 0;
+            for (int level = 0; level < levelOffsets.length; level++) {
+                while (index < distinct && levels[index] < level) {
+                    index++;
+                }
+                levelOffsets[level] = levelStarts[index];
+            }
+        }
+
+        return new SubjectCatalog(sortedSubjects, sortedKeys, byLevel,
+                Arrays.copyOf(levels, distinct), Arrays.copyOf(levelStarts, distinct + 1), levelOffsets);
+    }
+
+    public int size() {
+        return byTitle.size();
+    }
+
+    /**
+     * 제목이 prefix 로 시작하는 과목. 제목순(대소문자 무시)이다.
+     */
+    public List<Subject> findByTitlePrefix(CharSequence prefix) {
+        int node = find(prefix);
+        return node < 0 ? List.of() : byTitle.subList(rangeStarts[node], rangeEnds[node]);
+    }
+
+    /**
+     * 자동완성 : 제목이 prefix 로 시작하는 과목을 제목순으로 최대 limit 개
+     */
+    public List<Subject> autocomplete(CharSequence prefix, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit은 0 이상이어야 합니다: " + limit);
+        }
+        int node = find(prefix);
+        if (node < 0) {
+            return List.of();
+        }
+        return byTitle.subList(rangeStarts[node], Math.min(rangeEnds[node], rangeStarts[node] + limit));
+    }
+
+    public int countByTitlePrefix(CharSequence prefix) {
+        int node = find(prefix);
+        return node < 0 ? 0 : rangeEnds[node] - rangeStarts[node];
+    }
+
+    /**
+     * from <= level < to 인 과목. 레벨 오름차순, 같은 레벨은 제목순이다.
+     */
+    public List<Subject> findByLevel(int from, int to) {
+        if (from >= to) {
+            return List.of();
+        }
+        return byLevel.subList(levelStart(from), levelStart(to));
+    }
+
+    public int countByLevel(int from, int to) {
+        return from >= to ? 0 : levelStart(to) - levelStart(from);
+    }
+
+    /**
+     * 레벨순 배열에서 레벨이 level 이상인 첫 위치
+     */
+    private int levelStart(int level) {
+        if (levelOffsets != null) {
+            return levelOffsets[Math.max(0, Math.min(level, levelOffsets.length - 1))];
+        }
+        int index = Arrays.binarySearch(levels, level);
+        return levelStarts[index >= 0 ? index : -index - 1];
+    }
+
+    /**
+     * prefix 에 해당하는 트라이 노드. 없으면 -1
+     */
+    private int find(CharSequence prefix) {
+        int node = ROOT;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = child(node, Character.toLowerCase(prefix.charAt(i)));
+            if (node < 0) {
+                return -1;
+            }
+        }
+        return node;
+    }
+
+    private int child(int node, char label) {
+        int low = firstChild[node];
+        int high = low + childCounts[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (labels[mid] < label) {
+                low = mid + 1;
+            } else if (labels[mid] > label) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 길이가 변하지 않도록 문자 단위로 소문자로 바꾼다. (검색할 때도 문자 단위로 바꾼다)
+     */
+    private static String key(String title) {
+        char[] chars = title.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 정렬된 키로 트라이를 너비 우선으로 만든다. 노드를 처리할 때 자식을 한꺼번에 배열 끝에 붙이므로 자식들이 연속으로 놓인다.
+     * 정렬되어 있으므로 같은 접두어를 가진 키는 연속 구간이고, 그 노드에서 끝나는 키(길이 == 깊이)는 구간 맨 앞에 온다.
+     */
+    private static final class TrieBuilder {
+        final String[] keys;
+        final char[] labels;
+        final int[] firstChild;
+        final int[] childCounts;
+        final int[] rangeStarts;
+        final int[] rangeEnds;
+        final int[] depths;
+        int nodeCount;
+
+        TrieBuilder(String[] keys, int capacity) {
+            this.keys = keys;
+            this.labels = new char[capacity];
+            this.firstChild = new int[capacity];
+            this.childCounts = new int[capacity];
+            this.rangeStarts = new int[capacity];
+            this.rangeEnds = new int[capacity];
+            this.depths = new int[capacity];
+        }
+
+        void build() {
+            rangeEnds[ROOT] = keys.length;
+            nodeCount = 1;
+            for (int node = 0; node < nodeCount; node++) {
+                int depth = depths[node];
+                int i = rangeStarts[node];
+                int end = rangeEnds[node];
+                while (i < end && keys[i].length() == depth) {
+                    i++;
+                }
+
+                firstChild[node] = nodeCount;
+                while (i < end) {
+                    char label = keys[i].charAt(depth);
+                    int groupStart = i;
+                    while (i < end && keys[i].charAt(depth) == label) {
+                        i++;
+                    }
+                    int child = nodeCount++;
+                    labels[child] = label;
+                    rangeStarts[child] = groupStart;
+                    rangeEnds[child] = i;
+                    depths[child] = depth + 1;
+                }
+                childCounts[node] = nodeCount - firstChild[node];
+            }
+        }
+    }
+}
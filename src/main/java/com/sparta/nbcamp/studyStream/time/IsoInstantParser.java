@@ -0,0 +1,193 @@
+package com.sparta.nbcamp.studyStream.time;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+
+/**
+ * ISO-8601 UTC 시각(Instant.parse 형식)을 객체를 만들지 않고 epoch 값으로 바로 읽는 파서.
+ * <p>
+ * 형식 : {@code yyyy-MM-ddTHH:mm:ss[.f{1,9}](Z | ±HH:mm[:ss])}
+ * <ul>
+ *     <li>연도는 0000 ~ 9999 4자리만 지원한다. (부호가 붙은 확장 연도는 Instant.parse 를 쓴다)</li>
+ *     <li>T / Z 는 대소문자를 구분하지 않고, 23:59:60(윤초)과 24:00:00 은 Instant.parse 와 같게 처리한다. (다른 시각의 초 60은 오류)</li>
+ *     <li>밀리초보다 작은 자리는 버린다. (Instant.toEpochMilli 와 같다)</li>
+ * </ul>
+ * CharSequence 와 byte[](ASCII / UTF-8) 범위를 모두 받으며, 성공하면 할당이 없다.
+ * 형식이 잘못되면 Instant.parse 처럼 {@link DateTimeParseException} 을 던진다.
+ */
+public final class IsoInstantParser {
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final int DAYS_0000_TO_1970 = 719_468;
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+    private static final int[] NANO_SCALE = {
+            0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    private IsoInstantParser() {
+    }
+
+    public static long parseEpochMilli(CharSequence text) {
+        return parseEpochMilli(text, 0, text.length());
+    }
+
+    /**
+     * text[start, end) 범위를 읽는다.
+     */
+    public static long parseEpochMilli(CharSequence text, int start, int end) {
+        return parse(text, null, start, end, false);
+    }
+
+    /**
+     * bytes[offset, offset + length) 범위를 읽는다. 로그 / 네트워크 버퍼에서 문자열로 바꾸지 않고 바로 읽을 때 쓴다.
+     */
+    public static long parseEpochMilli(byte[] bytes, int offset, int length) {
+        return parse(null, bytes, offset, offset + length, false);
+    }
+
+    public static long parseEpochSecond(CharSequence text) {
+        return parse(text, null, 0, text.length(), true);
+    }
+
+    public static long parseEpochSecond(byte[] bytes, int offset, int length) {
+        return parse(null, bytes, offset, offset + length, true);
+    }
+
+    /**
+     * text 와 bytes 중 하나만 null 이 아니다. 메서드를 하나로 두어 두 입력의 검증 규칙이 어긋나지 않게 한다.
+     */
+    private static long parse(CharSequence text, byte[] bytes, int start, int end, boolean seconds) {
+        if (start < 0 || end > (text != null ? text.length() : bytes.length) || start > end) {
+            throw new IndexOutOfBoundsException("범위가 잘못되었습니다: [" + start + ", " + end + ")");
+        }
+
+        int pos = start;
+        int year = digits(text, bytes, pos, end, 4, start);
+        pos = expect(text, bytes, pos + 4, end, '-', start);
+        int month = digits(text, bytes, pos, end, 2, start);
+        pos = expect(text, bytes, pos + 2, end, '-', start);
+        int day = digits(text, bytes, pos, end, 2, start);
+        pos = expect(text, bytes, pos + 2, end, 'T', start);
+        int hour = digits(text, bytes, pos, end, 2, start);
+        pos = expect(text, bytes, pos + 2, end, ':', start);
+        int minute = digits(text, bytes, pos, end, 2, start);
+        pos = expect(text, bytes, pos + 2, end, ':', start);
+        int second = digits(text, bytes, pos, end, 2, start);
+        pos += 2;
+
+        int nano = 0;
+        if (pos < end && charAt(text, bytes, pos) == '.') {
+            int fractionStart = ++pos;
+            while (pos < end && pos - fractionStart < 9 && isDigit(charAt(text, bytes, pos))) {
+                nano = nano * 10 + charAt(text, bytes, pos++) - '0';
+            }
+            nano *= NANO_SCALE[pos - fractionStart];   // Instant.parse 처럼 소수점 뒤 숫자가 없어도 된다.
+        }
+
+        int offsetSeconds = 0;
+        if (pos >= end) {
+            throw error(text, bytes, start, end, pos, "오프셋(Z 또는 ±HH:mm)이 없습니다.");
+        }
+        char sign = charAt(text, bytes, pos);
+        if (sign == 'Z' || sign == 'z') {
+            pos++;
+        } else if (sign == '+' || sign == '-') {
+            int offsetHour = digits(text, bytes, pos + 1, end, 2, start);
+            pos = expect(text, bytes, pos + 3, end, ':', start);
+            int offsetMinute = digits(text, bytes, pos, end, 2, start);
+            pos += 2;
+            int offsetSecond = 0;
+            if (pos < end && charAt(text, bytes, pos) == ':') {
+                offsetSecond = digits(text, bytes, pos + 1, end, 2, start);
+                pos += 3;
+            }
+            offsetSeconds = offsetHour * 3600 + offsetMinute * 60 + offsetSecond;
+            // ZoneOffset 과 같이 전체 오프셋이 ±18:00 을 넘으면 안 된다. (+18:30 도 오류)
+            if (offsetMinute > 59 || offsetSecond > 59 || offsetSeconds > MAX_OFFSET_SECONDS) {
+                throw error(text, bytes, start, end, pos, "오프셋 범위가 잘못되었습니다.");
+            }
+            if (sign == '-') {
+                offsetSeconds = -offsetSeconds;
+            }
+        } else {
+            throw error(text, bytes, start, end, pos, "오프셋(Z 또는 ±HH:mm)이 없습니다.");
+        }
+        if (pos != end) {
+            throw error(text, bytes, start, end, pos, "시각 뒤에 남은 문자가 있습니다.");
+        }
+
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            throw error(text, bytes, start, end, start, "날짜 범위가 잘못되었습니다.");
+        }
+        boolean endOfDay = hour == 24 && minute == 0 && second == 0 && nano == 0;
+        boolean leapSecond = hour == 23 && minute == 59 && second == 60;
+        if ((hour > 23 && !endOfDay) || minute > 59 || (second > 59 && !leapSecond)) {
+            throw error(text, bytes, start, end, start, "시각 범위가 잘못되었습니다.");
+        }
+        if (leapSecond) {
+            second = 59;    // 윤초(23:59:60)는 그 분의 마지막 초로 본다.
+        }
+
+        long epochSecond = epochDay(year, month, day) * SECONDS_PER_DAY
+                + hour * 3600L + minute * 60L + second - offsetSeconds;
+        return seconds ? epochSecond : epochSecond * 1000 + nano / 1_000_000;
+    }
+
+    /**
+     * 그레고리력 날짜 -> 1970-01-01 부터의 일 수 (3월을 한 해의 시작으로 놓고 계산한다)
+     */
+    static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static int digits(CharSequence text, byte[] bytes, int pos, int end, int count, int start) {
+        if (pos + count > end) {
+            throw error(text, bytes, start, end, Math.min(pos, end), "입력이 예상보다 짧습니다.");
+        }
+        int value = 0;
+        for (int i = pos; i < pos + count; i++) {
+            char c = charAt(text, bytes, i);
+            if (!isDigit(c)) {
+                throw error(text, bytes, start, end, i, "숫자가 와야 합니다.");
+            }
+            value = value * 10 + c - '0';
+        }
+        return value;
+    }
+
+    private static int expect(CharSequence text, byte[] bytes, int pos, int end, char expected, int start) {
+        if (pos >= end || Character.toUpperCase(charAt(text, bytes, pos)) != expected) {
+            throw error(text, bytes, start, end, Math.min(pos, end), "'" + expected + "' 가 와야 합니다.");
+        }
+        return pos + 1;
+    }
+
+    private static char charAt(CharSequence text, byte[] bytes, int i) {
+        return text != null ? text.charAt(i) : (char) (bytes[i] & 0xFF);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static DateTimeParseException error(CharSequence text, byte[] bytes, int start, int end, int pos,
+                                                String reason) {
+        String input = text != null
+                ? text.subSequence(start, end).toString()
+                : new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+        return new DateTimeParseException("ISO-8601 시각을 읽을 수 없습니다. " + reason + " : " + input, input,
+                pos - start);
+    }
+}
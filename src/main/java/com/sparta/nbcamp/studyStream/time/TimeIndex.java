@@ -0,0 +1,236 @@
+package com.sparta.nbcamp.studyStream.time;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * 타임스탬프(epoch milli) 순으로 정렬한 레코드 번호 인덱스. 만든 뒤에는 바뀌지 않는다.
+ * <p>
+ * 시각 배열과 레코드 번호 배열을 함께 정렬해 두고, 조회할 때는 이분 탐색으로 경계만 찾는다.
+ * <ul>
+ *     <li>개수 : O(log N)</li>
+ *     <li>범위 조회 : O(log N + 결과 개수). 결과는 시각 오름차순, 같은 시각은 레코드 번호 오름차순(stable)</li>
+ * </ul>
+ * 조회 기준 시각은 한 번만 파싱하거나({@link IsoInstantParser}) Instant 에서 변환해 넘긴다.
+ * 레코드마다 Instant.parse 를 호출하지 않는다.
+ */
+public class TimeIndex {
+    private final long[] times;
+    private final int[] rows;
+
+    private TimeIndex(long[] times, int[] rows) {
+        this.times = times;
+        this.rows = rows;
+    }
+
+    /**
+     * records 의 i번 레코드 시각을 epochMilli 로 꺼내 인덱스를 만든다. 조회 결과는 records 의 인덱스다.
+     */
+    public static <T> TimeIndex of(List<T> records, ToLongFunction<? super T> epochMilli) {
+        long[] times = new long[records.size()];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = epochMilli.applyAsLong(records.get(i));
+        }
+        return of(times);
+    }
+
+    /**
+     * epochMillis[i] 를 i번 레코드의 시각으로 보고 인덱스를 만든다. 배열은 복사하므로 이후 수정해도 영향이 없다.
+     */
+    public static TimeIndex of(long[] epochMillis) {
+        int n = epochMillis.length;
+        int[] rows = new int[n];
+        for (int i = 0; i < n; i++) {
+            rows[i] = i;
+        }
+        if (!isSorted(epochMillis)) {
+            mergeSort(epochMillis, rows, new int[n], 0, n);
+        }
+        long[] times = new long[n];
+        for (int i = 0; i < n; i++) {
+            times[i] = epochMillis[rows[i]];
+        }
+        return new TimeIndex(times, rows);
+    }
+
+    public int size() {
+        return rows.length;
+    }
+
+    /**
+     * epochMilli 보다 늦은(isAfter) 레코드 수
+     */
+    public int countAfter(long epochMilli) {
+        return rows.length - upperBound(epochMilli);
+    }
+
+    /**
+     * epochMilli 보다 이른(isBefore) 레코드 수
+     */
+    public int countBefore(long epochMilli) {
+        return lowerBound(epochMilli);
+    }
+
+    /**
+     * from <= 시각 < to 인 레코드 수
+     */
+    public int countBetween(long from, long to) {
+        return Math.max(0, lowerBound(to) - lowerBound(from));
+    }
+
+    public int[] after(long epochMilli) {
+        return slice(upperBound(epochMilli), rows.length);
+    }
+
+    public int[] after(Instant instant) {
+        return after(instant.toEpochMilli());
+    }
+
+    public int[] before(long epochMilli) {
+        return slice(0, lowerBound(epochMilli));
+    }
+
+    /**
+     * instant 보다 이른(isBefore) 레코드 번호. 밀리초 아래 자리가 있으면 경계를 올려서 같은 밀리초의 레코드도 포함한다.
+     */
+    public int[] before(Instant instant) {
+        return before(ceilMilli(instant));
+    }
+
+    /**
+     * from <= 시각 < to 인 레코드 번호
+     */
+    public int[] between(long from, long to) {
+        return slice(lowerBound(from), lowerBound(to));
+    }
+
+    /**
+     * from <= 시각 < to 인 레코드 번호. 레코드 시각은 밀리초 단위이므로 두 경계 모두 밀리초로 올림해 비교한다.
+     * (…50.000Z 는 …50.000500Z 보다 이르고, …50.000500Z 이상인 첫 레코드는 …50.001Z 부터다)
+     */
+    public int[] between(Instant from, Instant to) {
+        return between(ceilMilli(from), ceilMilli(to));
+    }
+
+    /**
+     * between(from, to) 와 같은 순서로 action 에 전달한다. 결과 배열을 만들지 않는다.
+     */
+    public void forEachBetween(long from, long to, IntConsumer action) {
+        int upper = lowerBound(to);
+        for (int i = lowerBound(from); i < upper; i++) {
+            action.accept(rows[i]);
+        }
+    }
+
+    /**
+     * 밀리초로 올림한 epoch milli. toEpochMilli 는 버림이라 경계가 밀리초 아래 자리를 가지면 한 칸 모자란다.
+     */
+    private static long ceilMilli(Instant instant) {
+        long epochMilli = instant.toEpochMilli();
+        return instant.getNano() % 1_000_000 == 0 ? epochMilli : epochMilli + 1;
+    }
+
+    /**
+     * 가장 이른 / 늦은 시각. 비어 있으면 예외
+     */
+    public long first() {
+        return times[0];
+    }
+
+    public long last() {
+        return times[times.length - 1];
+    }
+
+    private int[] slice(int from, int to) {
+        if (from >= to) {
+            return new int[0];
+        }
+        int[] result = new int[to - from];
+        System.arraycopy(rows, from, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * times[i] >= epochMilli 인 첫 위치
+     */
+    private int lowerBound(long epochMilli) {
+        int low = 0;
+        int high = times.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times[mid] < epochMilli) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * times[i] > epochMilli 인 첫 위치
+     */
+    private int upperBound(long epochMilli) {
+        int low = 0;
+        int high = times.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times[mid] <= epochMilli) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 로그처럼 이미 시간순으로 들어오는 경우가 많아서 정렬 전에 확인한다.
+     */
+    private static boolean isSorted(long[] times) {
+        for (int i = 1; i < times.length; i++) {
+            if (times[i - 1] > times[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * rows[from, to) 를 times 기준으로 정렬한다. 병합 정렬이라 같은 시각의 순서가 유지된다.
+     */
+    private static void mergeSort(long[] times, int[] rows, int[] buffer, int from, int to) {
+        if (to - from <= 16) {
+            for (int i = from + 1; i < to; i++) {
+                int row = rows[i];
+                int j = i - 1;
+                while (j >= from && times[rows[j]] > times[row]) {
+                    rows[j + 1] = rows[j];
+                    j--;
+                }
+                rows[j + 1] = row;
+            }
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        mergeSort(times, rows, buffer, from, mid);
+        mergeSort(times, rows, buffer, mid, to);
+        if (times[rows[mid - 1]] <= times[rows[mid]]) {
+            return;
+        }
+
+        System.arraycopy(rows, from, buffer, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && times[buffer[left]] <= times[buffer[right]])) {
+                rows[i] = buffer[left++];
+            } else {
+                rows[i] = buffer[right++];
+            }
+        }
+    }
+}
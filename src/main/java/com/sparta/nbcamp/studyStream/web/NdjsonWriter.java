@@ -0,0 +1,66 @@
+package com.sparta.nbcamp.studyStream.web;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 한 줄에 JSON 객체 하나씩(NDJSON) 기록한다.
+ * <p>
+ * 행을 Person 객체나 List로 모으지 않고 열 값을 바로 JsonGenerator에 쓰기 때문에
+ * 요청당 메모리는 결과 크기와 상관없이 생성기 버퍼 크기로 일정하다.
+ * 첫 줄은 바로 flush 해서 전체 스캔이 끝나기 전에 첫 바이트가 나가게 하고,
+ * 이후에는 FLUSH_INTERVAL 줄마다 flush 해서 chunk 단위로 내보낸다.
+ */
+class NdjsonWriter implements Closeable {
+    static final int FLUSH_INTERVAL = 1024;
+
+    private final JsonGenerator generator;
+    private long lines;
+
+    NdjsonWriter(JsonFactory factory, OutputStream out) throws IOException {
+        this.generator = factory.createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setRootValueSeparator(null);     // 루트 값 사이의 기본 구분자(공백) 대신 줄바꿈을 직접 쓴다.
+    }
+
+    void writePerson(PersonTable table, int row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", table.id(row));
+        generator.writeStringField("name", table.name(row));
+        generator.writeNumberField("age", table.age(row));
+        generator.writeStringField("mbti", table.mbti(row).name());
+        generator.writeStringField("gender", table.gender(row).name());
+        generator.writeEndObject();
+        endLine();
+    }
+
+    void writeGroup(String key, long count) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("key", key);
+        generator.writeNumberField("count", count);
+        generator.writeEndObject();
+        endLine();
+    }
+
+    long lines() {
+        return lines;
+    }
+
+    private void endLine() throws IOException {
+        generator.writeRaw('\n');
+        lines++;
+        if (lines == 1 || lines % FLUSH_INTERVAL == 0) {
+            generator.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
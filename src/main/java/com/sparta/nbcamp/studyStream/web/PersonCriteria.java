@@ -0,0 +1,76 @@
+package com.sparta.nbcamp.studyStream.web;
+
+import com.sparta.nbcamp.studyStream.person.Gender;
+import com.sparta.nbcamp.studyStream.person.Mbti;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+
+import java.util.function.IntPredicate;
+
+/**
+ * 요청 파라미터로 받은 조회 조건. fromAge <= age < toAge, MBTI 글자(예: "EN", "INFJ"), 성별을 모두 만족하는 행을 고른다.
+ * MBTI 글자는 4비트 코드의 mask / bits 로 바꿔 두고 행마다 비트 연산 한 번으로 비교한다.
+ */
+final class PersonCriteria {
+    private final int fromAge;
+    private final int toAge;
+    private final int mbtiMask;
+    private final int mbtiBits;
+    private final Gender gender;
+
+    private PersonCriteria(int fromAge, int toAge, int mbtiMask, int mbtiBits, Gender gender) {
+        this.fromAge = fromAge;
+        this.toAge = toAge;
+        this.mbtiMask = mbtiMask;
+        this.mbtiBits = mbtiBits;
+        this.gender = gender;
+    }
+
+    /**
+     * mbti, gender 는 null 이나 빈 문자열이면 조건에서 뺀다.
+     */
+    static PersonCriteria of(int fromAge, int toAge, String mbti, String gender) {
+        if (fromAge > toAge) {
+            throw new IllegalArgumentException("fromAge(" + fromAge + ")가 toAge(" + toAge + ")보다 큽니다.");
+        }
+        int mask = 0;
+        int bits = 0;
+        if (mbti != null) {
+            for (int i = 0; i < mbti.length(); i++) {
+                char letter = mbti.charAt(i);
+                int shift = 3 - Mbti.axisOf(letter);
+                int bit = Mbti.bitOf(letter) << shift;
+                if ((mask & (1 << shift)) != 0 && (bits & (1 << shift)) != bit) {
+                    throw new IllegalArgumentException("같은 축의 MBTI 글자가 함께 있습니다: " + mbti);
+                }
+                mask |= 1 << shift;
+                bits |= bit;
+            }
+        }
+        Gender genderType = gender == null || gender.isBlank() ? null : Gender.valueOf(gender.trim().toUpperCase());
+        return new PersonCriteria(fromAge, toAge, mask, bits, genderType);
+    }
+
+    int fromAge() {
+        return fromAge;
+    }
+
+    int toAge() {
+        return toAge;
+    }
+
+    IntPredicate toPredicate(PersonTable table) {
+        IntPredicate others = toPredicateIgnoringAge(table);
+        return row -> {
+            int age = table.age(row);
+            return age >= fromAge && age < toAge && others.test(row);
+        };
+    }
+
+    /**
+     * 나이 범위는 AgeIndex 로 이미 좁힌 경우에 쓴다.
+     */
+    IntPredicate toPredicateIgnoringAge(PersonTable table) {
+        return row -> (table.mbti(row).code() & mbtiMask) == mbtiBits
+                && (gender == null || table.gender(row) == gender);
+    }
+}
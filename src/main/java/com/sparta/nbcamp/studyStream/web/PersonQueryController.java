@@ -0,0 +1,252 @@
+package com.sparta.nbcamp.studyStream.web;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.nbcamp.studyStream.person.Gender;
+import com.sparta.nbcamp.studyStream.person.Mbti;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import com.sparta.nbcamp.studyStream.person.aggregate.Aggregate;
+import com.sparta.nbcamp.studyStream.person.aggregate.PersonStatistics;
+import com.sparta.nbcamp.studyStream.person.index.AgeIndex;
+import com.sparta.nbcamp.studyStream.pipeline.PipelineMetrics;
+import com.sparta.nbcamp.studyStream.pipeline.PipelineProbe;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * PersonTable 조회 API. 행 목록과 그룹 결과는 NDJSON(application/x-ndjson)으로 스트리밍한다.
+ * <p>
+ * 결과를 List&lt;Person&gt;으로 모아 JSON 배열로 직렬화하지 않고 스캔하면서 바로 한 줄씩 쓰기 때문에
+ * Content-Length 없이 chunked 로 전송되고, 요청당 메모리는 결과 크기와 상관없이 일정하다.
+ * <pre>
+ * GET /people?fromAge=20&toAge=30&mbti=EN&gender=MALE&sort=age   행 목록 (filter / sort)
+ * GET /people/groups?by=mbti|gender|decade&...                     그룹별 인원 (group-by)
+ * GET /people/stats?aggregates=COUNT,MEAN&...                      집계 결과 (aggregate)
+ * </pre>
+ * 조건 단계는 {@link PipelineMetrics}의 people / people.groups / people.stats 파이프라인으로 측정된다.
+ */
+@RestController
+@RequestMapping("/people")
+public class PersonQueryController {
+    private static final Set<Aggregate> DEFAULT_AGGREGATES =
+            Collections.unmodifiableSet(EnumSet.of(Aggregate.COUNT, Aggregate.SUM, Aggregate.MIN, Aggregate.MAX,
+                    Aggregate.MEAN));
+
+    private final PersonTable table;
+    private final AgeIndex ageIndex;
+    private final PersonScanner scanner;
+    private final JsonFactory jsonFactory;
+    private final PipelineProbe peopleProbe;
+    private final PipelineProbe groupsProbe;
+    private final PipelineProbe statsProbe;
+
+    public PersonQueryController(PersonTable table, AgeIndex ageIndex, PersonScanner scanner,
+                                 ObjectMapper objectMapper, PipelineMetrics metrics) {
+        this.table = table;
+        this.ageIndex = ageIndex;
+        this.scanner = scanner;
+        this.jsonFactory = objectMapper.getFactory();
+        this.peopleProbe = metrics.pipeline("people");
+        this.groupsProbe = metrics.pipeline("people.groups");
+        this.statsProbe = metrics.pipeline("people.stats");
+    }
+
+    /**
+     * sort=age 이면 AgeIndex 버킷 순서(나이 오름차순, 같은 나이는 행 순서)로, 아니면 행 순서대로 내보낸다.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> people(
+            @RequestParam(defaultValue = "0") int fromAge,
+            @RequestParam(defaultValue = "2147483647") int toAge,
+            @RequestParam(required = false) String mbti,
+            @RequestParam(required = false) String gender,
+            @RequestParam(defaultValue = "none") String sort) {
+        PersonCriteria criteria = PersonCriteria.of(fromAge, toAge, mbti, gender);
+        boolean sortByAge = parseSort(sort);
+
+        return ndjson(writer -> {
+            if (sortByAge) {
+                IntPredicate predicate = peopleProbe.filterRows("criteria", criteria.toPredicateIgnoringAge(table));
+                ageIndex.forEachRow(criteria.fromAge(), criteria.toAge(), unchecked(row -> {
+                    if (predicate.test(row)) {
+                        writer.writePerson(table, row);
+                    }
+                }));
+            } else {
+                table.forEachRow(peopleProbe.filterRows("criteria", criteria.toPredicate(table)),
+                        unchecked(row -> writer.writePerson(table, row)));
+            }
+        });
+    }
+
+    /**
+     * 그룹 키와 인원을 한 줄씩 내보낸다. 인원이 0인 그룹은 생략한다. decade 키는 나이대의 시작 나이(예: "20")다.
+     */
+    @GetMapping("/groups")
+    public ResponseEntity<StreamingResponseBody> groups(
+            @RequestParam String by,
+            @RequestParam(defaultValue = "0") int fromAge,
+            @RequestParam(defaultValue = "2147483647") int toAge,
+            @RequestParam(required = false) String mbti,
+            @RequestParam(required = false) String gender) {
+        PersonCriteria criteria = PersonCriteria.of(fromAge, toAge, mbti, gender);
+        Aggregate aggregate = parseGroupBy(by);
+
+        return ndjson(writer -> {
+            PersonStatistics statistics = scan(groupsProbe, criteria, EnumSet.of(aggregate));
+            switch (aggregate) {
+                case MBTI_COUNTS:
+                    for (Mbti type : Mbti.values()) {
+                        writeGroup(writer, type.name(), statistics.getCount(type));
+                    }
+                    break;
+                case GENDER_COUNTS:
+                    for (Gender type : Gender.values()) {
+                        writeGroup(writer, type.name(), statistics.getCount(type));
+                    }
+                    break;
+                default:
+                    long[] histogram = statistics.getAgeHistogram();
+                    for (int decade = 0; decade < histogram.length; decade++) {
+                        writeGroup(writer, String.valueOf(decade * 10), histogram[decade]);
+                    }
+            }
+        });
+    }
+
+    /**
+     * 결과가 객체 하나이므로 스트리밍하지 않고 JSON으로 응답한다. 대상 행이 없으면 min / max 는 null 이다.
+     */
+    @GetMapping("/stats")
+    public Map<String, Object> stats(
+            @RequestParam(required = false) List<String> aggregates,
+            @RequestParam(defaultValue = "0") int fromAge,
+            @RequestParam(defaultValue = "2147483647") int toAge,
+            @RequestParam(required = false) String mbti,
+            @RequestParam(required = false) String gender) {
+        PersonCriteria criteria = PersonCriteria.of(fromAge, toAge, mbti, gender);
+        Set<Aggregate> requested = parseAggregates(aggregates);
+        PersonStatistics statistics = scan(statsProbe, criteria, requested);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("count", statistics.getCount());
+        boolean empty = statistics.getCount() == 0;
+        for (Aggregate aggregate : requested) {
+            switch (aggregate) {
+                case SUM: body.put("sum", statistics.getSum()); break;
+                case MIN: body.put("min", empty ? null : statistics.getMin()); break;
+                case MAX: body.put("max", empty ? null : statistics.getMax()); break;
+                case MEAN: body.put("average", statistics.getAverage()); break;
+                case VARIANCE: body.put("variance", statistics.getVariance()); break;
+                case AGE_HISTOGRAM: body.put("ageHistogram", statistics.getAgeHistogram()); break;
+                case MBTI_COUNTS: body.put("mbtiCounts", statistics.getMbtiCounts()); break;
+                case GENDER_COUNTS:
+                    Map<Gender, Long> genderCounts = new LinkedHashMap<>();
+                    for (Gender type : Gender.values()) {
+                        genderCounts.put(type, statistics.getCount(type));
+                    }
+                    body.put("genderCounts", genderCounts);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return body;
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("message", String.valueOf(e.getMessage())));
+    }
+
+    private PersonStatistics scan(PipelineProbe probe, PersonCriteria criteria, Set<Aggregate> aggregates) {
+        return scanner.statistics(probe.filterRows("criteria", criteria.toPredicate(table)), aggregates);
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(NdjsonBody body) {
+        StreamingResponseBody stream = out -> {
+            try (NdjsonWriter writer = new NdjsonWriter(jsonFactory, out)) {
+                body.write(writer);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(stream);
+    }
+
+    private static void writeGroup(NdjsonWriter writer, String key, long count) throws IOException {
+        if (count > 0) {
+            writer.writeGroup(key, count);
+        }
+    }
+
+    private static boolean parseSort(String sort) {
+        switch (sort.toLowerCase()) {
+            case "none": return false;
+            case "age": return true;
+            default: throw new IllegalArgumentException("지원하지 않는 정렬입니다: " + sort + " (none, age)");
+        }
+    }
+
+    private static Aggregate parseGroupBy(String by) {
+        switch (by.toLowerCase()) {
+            case "mbti": return Aggregate.MBTI_COUNTS;
+            case "gender": return Aggregate.GENDER_COUNTS;
+            case "decade": return Aggregate.AGE_HISTOGRAM;
+            default: throw new IllegalArgumentException("지원하지 않는 그룹 기준입니다: " + by + " (mbti, gender, decade)");
+        }
+    }
+
+    private static Set<Aggregate> parseAggregates(List<String> aggregates) {
+        if (aggregates == null || aggregates.isEmpty()) {
+            return DEFAULT_AGGREGATES;
+        }
+        Set<Aggregate> parsed = EnumSet.of(Aggregate.COUNT);
+        for (String aggregate : aggregates) {
+            parsed.add(Aggregate.valueOf(aggregate.trim().toUpperCase()));
+        }
+        return parsed;
+    }
+
+    /**
+     * IntConsumer 안에서 IOException 을 던질 수 있게 UncheckedIOException 으로 감싼다. ndjson() 에서 다시 꺼낸다.
+     */
+    private static IntConsumer unchecked(RowWriter action) {
+        return row -> {
+            try {
+                action.write(row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(int row) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface NdjsonBody {
+        void write(NdjsonWriter writer) throws IOException;
+    }
+}
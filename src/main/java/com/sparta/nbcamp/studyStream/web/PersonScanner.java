@@ -0,0 +1,88 @@
+package com.sparta.nbcamp.studyStream.web;
+
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import com.sparta.nbcamp.studyStream.person.aggregate.Aggregate;
+import com.sparta.nbcamp.studyStream.person.aggregate.PersonStatistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.IntPredicate;
+
+/**
+ * PersonTable 집계 스캔을 행 구간(partition)으로 나눠 {@link QueryExecutors}의 실행기에서 동시에 돌리고
+ * 부분 집계를 {@link PersonStatistics#combine}으로 합친다.
+ * <p>
+ * 구간 하나는 최소 MIN_PARTITION_ROWS 행이라 작은 테이블은 호출한 스레드에서 바로 스캔한다.
+ * 테이블은 읽기만 하므로 구간 사이에 공유 상태가 없다.
+ */
+public class PersonScanner implements AutoCloseable {
+    static final int MIN_PARTITION_ROWS = 1 << 16;
+
+    private final PersonTable table;
+    private final ExecutorService executor;
+    private final int partitions;
+
+    /**
+     * partitions 가 0 이하이면 CPU 코어 수만큼 나눈다.
+     */
+    public PersonScanner(PersonTable table, ExecutorService executor, int partitions) {
+        this.table = table;
+        this.executor = executor;
+        this.partitions = partitions > 0 ? partitions : Runtime.getRuntime().availableProcessors();
+    }
+
+    public PersonStatistics statistics(IntPredicate predicate, Set<Aggregate> aggregates) {
+        int rowCount = table.rowCount();
+        int count = Math.max(1, Math.min(partitions, rowCount / MIN_PARTITION_ROWS));
+        if (count == 1) {
+            return scan(0, rowCount, predicate, aggregates);
+        }
+
+        List<Future<PersonStatistics>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int from = (int) ((long) rowCount * i / count);
+            int to = (int) ((long) rowCount * (i + 1) / count);
+            futures.add(executor.submit(() -> scan(from, to, predicate, aggregates)));
+        }
+
+        PersonStatistics result = null;
+        for (Future<PersonStatistics> future : futures) {
+            PersonStatistics partial = join(future);
+            result = result == null ? partial : result.combine(partial);
+        }
+        return result;
+    }
+
+    private PersonStatistics scan(int from, int to, IntPredicate predicate, Set<Aggregate> aggregates) {
+        PersonStatistics statistics = new PersonStatistics(aggregates);
+        for (int row = from; row < to; row++) {
+            if (!table.isDeleted(row) && predicate.test(row)) {
+                statistics.accept(table, row);
+            }
+        }
+        return statistics;
+    }
+
+    private static PersonStatistics join(Future<PersonStatistics> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("집계 스캔이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
@@ -0,0 +1,53 @@
+package com.sparta.nbcamp.studyStream.web;
+
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import com.sparta.nbcamp.studyStream.person.index.AgeIndex;
+import com.sparta.nbcamp.studyStream.person.store.MappedPersonFile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 웹 조회에 사용할 PersonTable과 인덱스를 등록한다.
+ * <p>
+ * study-stream.people.file 에 {@link MappedPersonFile} 경로를 지정하면 시작할 때 테이블로 읽어 들이고,
+ * 지정하지 않으면 빈 테이블로 시작한다. 웹 계층은 테이블을 읽기만 한다.
+ */
+@Configuration
+public class PersonTableConfig {
+
+    @Bean
+    public PersonTable personTable(@Value("${study-stream.people.file:}") String file) throws IOException {
+        PersonTable table = new PersonTable();
+        if (file.isBlank()) {
+            return table;
+        }
+        try (MappedPersonFile mapped = MappedPersonFile.open(Path.of(file))) {
+            for (int row = 0; row < mapped.size(); row++) {
+                table.add(mapped.id(row), mapped.name(row), mapped.age(row), mapped.mbti(row).name(),
+                        mapped.gender(row));
+            }
+        }
+        return table;
+    }
+
+    @Bean
+    public AgeIndex ageIndex(PersonTable personTable) {
+        return AgeIndex.of(personTable);
+    }
+
+    /**
+     * spring.threads.virtual.enabled 가 켜져 있으면 요청 처리(Tomcat)와 같이 집계 fan-out 도 가상 스레드에서 실행한다.
+     * ExecutorService를 빈으로 등록하면 Spring의 기본 applicationTaskExecutor가 빠지므로 스캐너가 직접 갖고 닫는다.
+     */
+    @Bean
+    public PersonScanner personScanner(PersonTable personTable,
+                                       @Value("${spring.threads.virtual.enabled:false}") boolean virtual,
+                                       @Value("${study-stream.query.platform-threads:0}") int platformThreads,
+                                       @Value("${study-stream.query.partitions:0}") int partitions) {
+        return new PersonScanner(personTable, QueryExecutors.create(virtual, platformThreads), partitions);
+    }
+}
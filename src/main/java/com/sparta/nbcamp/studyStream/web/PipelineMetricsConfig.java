@@ -0,0 +1,19 @@
+package com.sparta.nbcamp.studyStream.web;
+
+import com.sparta.nbcamp.studyStream.pipeline.PipelineMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 조회 파이프라인 측정기를 등록한다. 기본값은 꺼짐(study-stream.metrics.sampling-interval=0)이고
+ * 실행 중에 /metrics/pipelines/sampling 으로 켤 수 있다.
+ */
+@Configuration
+public class PipelineMetricsConfig {
+
+    @Bean
+    public PipelineMetrics pipelineMetrics(@Value("${study-stream.metrics.sampling-interval:0}") int samplingInterval) {
+        return new PipelineMetrics(samplingInterval);
+    }
+}
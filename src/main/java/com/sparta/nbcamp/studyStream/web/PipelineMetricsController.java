@@ -0,0 +1,55 @@
+package com.sparta.nbcamp.studyStream.web;
+
+import com.sparta.nbcamp.studyStream.pipeline.PipelineMetrics;
+import com.sparta.nbcamp.studyStream.pipeline.PipelineSnapshot;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파이프라인 단계별 측정값 조회 / 샘플링 설정 API.
+ * <pre>
+ * GET    /metrics/pipelines                       단계별 개수, 통과 비율, 처리 시간
+ * PUT    /metrics/pipelines/sampling?interval=64  샘플링 간격 변경 (0 이면 끔)
+ * DELETE /metrics/pipelines                       측정값 초기화
+ * </pre>
+ */
+@RestController
+@RequestMapping("/metrics/pipelines")
+public class PipelineMetricsController {
+    private final PipelineMetrics metrics;
+
+    public PipelineMetricsController(PipelineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @GetMapping
+    public List<PipelineSnapshot> pipelines() {
+        return metrics.snapshot();
+    }
+
+    @PutMapping("/sampling")
+    public Map<String, Integer> sampling(@RequestParam int interval) {
+        metrics.setSamplingInterval(interval);
+        return Map.of("samplingInterval", metrics.getSamplingInterval());
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> reset() {
+        metrics.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("message", String.valueOf(e.getMessage())));
+    }
+}
@@ -0,0 +1,29 @@
+package com.sparta.nbcamp.studyStream.web;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 조회 작업(fan-out)을 실행할 ExecutorService를 만든다.
+ * <p>
+ * virtual 이면 작업마다 가상 스레드를 하나씩 만든다. 파일 읽기처럼 블로킹되는 작업이 많아도
+ * 스레드 풀이 고갈되지 않는다. platform 이면 크기가 고정된 플랫폼 스레드 풀을 쓴다.
+ */
+public final class QueryExecutors {
+
+    private QueryExecutors() {
+    }
+
+    /**
+     * platformThreads 가 0 이하이면 CPU 코어 수를 쓴다. virtual 이면 platformThreads 는 무시한다.
+     */
+    public static ExecutorService create(boolean virtual, int platformThreads) {
+        if (virtual) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("query-vt-", 0).factory());
+        }
+        int threads = platformThreads > 0 ? platformThreads : Runtime.getRuntime().availableProcessors();
+        ThreadFactory factory = Thread.ofPlatform().name("query-", 0).daemon(true).factory();
+        return Executors.newFixedThreadPool(threads, factory);
+    }
+}
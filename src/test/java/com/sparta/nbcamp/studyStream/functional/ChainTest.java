@@ -0,0 +1,100 @@
+package com.sparta.nbcamp.studyStream.functional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChainTest {
+
+    @DisplayName("IntChain - 연속된 덧셈 / 곱셈은 a * x + b 한 단계로 합쳐지고 Function.compose 와 같은 결과를 낸다.")
+    @Test
+    void fuseAffine() {
+        // given
+        Function<Integer, Integer> multiply3 = number -> number * 3;
+        Function<Integer, Integer> composed = multiply3.compose(number -> number + 10);
+
+        // when
+        IntChain chain = IntChain.identity().add(10).multiply(3);
+
+        // then
+        assertThat(chain.stageCount()).isEqualTo(1);
+        assertThat(chain.applyAsInt(5)).isEqualTo(composed.apply(5)).isEqualTo(45);
+    }
+
+    @DisplayName("IntChain - int 범위를 넘는 중간값도 단계별 실행과 같은 결과를 낸다.")
+    @Test
+    void overflow() {
+        // given
+        IntUnaryOperator stepByStep = x -> ((((x * 1_000_003) + 7) << 3) - 11) * -5;
+
+        // when
+        IntChain chain = IntChain.identity().multiply(1_000_003).add(7).shiftLeft(3).subtract(11).multiply(-5);
+
+        // then
+        assertThat(chain.stageCount()).isEqualTo(1);
+        for (int x : new int[]{0, 1, -1, 12345, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            assertThat(chain.applyAsInt(x)).isEqualTo(stepByStep.applyAsInt(x));
+        }
+    }
+
+    @DisplayName("IntChain - 비트 연산은 같은 연산끼리 합쳐지고, 일반 IntUnaryOperator 는 단계로 남는다.")
+    @Test
+    void fuseBitwise() {
+        // given
+        IntUnaryOperator abs = Math::abs;
+
+        // when
+        IntChain chain = IntChain.identity()
+                .and(0xFF00).and(0x0FF0)
+                .shiftRight(2).shiftRight(3)
+                .andThen(abs)
+                .xor(0x55).xor(0x55)
+                .add(1).subtract(1);
+
+        // then
+        assertThat(chain.stageCount()).isEqualTo(3);
+        assertThat(chain.applyAsInt(0xABCD)).isEqualTo(Math.abs((0xABCD & 0xFF00 & 0x0FF0) >> 5));
+    }
+
+    @DisplayName("boxed - boxed 함수끼리 andThen / compose 하면 박싱 없이 하나의 체인으로 합쳐진다.")
+    @Test
+    void boxedAndThen() {
+        // given
+        Function<Integer, Integer> multiply3 = IntChain.identity().multiply(3).boxed();
+        Function<Integer, Integer> plus10 = IntChain.identity().add(10).boxed();
+
+        // when
+        Function<Integer, Integer> andThen = multiply3.andThen(plus10);
+        Function<Integer, Integer> compose = multiply3.compose(plus10);
+        Function<Integer, String> toText = multiply3.andThen(String::valueOf);
+
+        // then
+        assertThat(andThen.apply(5)).isEqualTo(25);
+        assertThat(compose.apply(5)).isEqualTo(45);
+        assertThat(toText.apply(5)).isEqualTo("15");
+        assertThat(andThen.getClass()).isEqualTo(multiply3.getClass());
+    }
+
+    @DisplayName("LongChain - long 체인도 합쳐지고 applyAll 로 배열 전체에 적용한다.")
+    @Test
+    void longChain() {
+        // given
+        LongChain chain = LongChain.identity().add(10).multiply(3).unsignedShiftRight(1).or(1L << 40);
+        long[] values = {5L, 1L << 33, -1L};
+        long[] result = new long[values.length];
+
+        // when
+        chain.applyAll(values, result);
+
+        // then
+        assertThat(chain.stageCount()).isEqualTo(3);
+        assertThat(result).containsExactly(
+                ((5L + 10) * 3 >>> 1) | 1L << 40,
+                (((1L << 33) + 10) * 3 >>> 1) | 1L << 40,
+                ((-1L + 10) * 3 >>> 1) | 1L << 40);
+    }
+}
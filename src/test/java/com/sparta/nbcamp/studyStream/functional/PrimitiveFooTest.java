@@ -0,0 +1,107 @@
+package com.sparta.nbcamp.studyStream.functional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.sparta.nbcamp.studyStream.support.AllocationAssertions.assertNoAllocationPerOp;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrimitiveFooTest {
+
+    @DisplayName("IntFoo - 기본 타입 int로 연산한다.")
+    @Test
+    void intFoo() {
+        // given
+        IntFoo plus = (number1, number2) -> number1 + number2;
+
+        // when
+        int result = plus.operate(1000, 2000);
+
+        // then
+        assertThat(result).isEqualTo(3000);
+    }
+
+    @DisplayName("Foo <-> IntFoo 어댑터 - 서로 변환해도 같은 결과를 리턴한다.")
+    @Test
+    void adaptFoo() {
+        // given
+        Foo foo = (number1, number2) -> number1 * number2;
+
+        // when
+        IntFoo intFoo = IntFoo.from(foo);
+        Foo backToFoo = intFoo.toFoo();
+
+        // then
+        assertThat(intFoo.operate(300, 4)).isEqualTo(1200);
+        assertThat(backToFoo.operate(300, 4)).isEqualTo(1200);
+    }
+
+    @DisplayName("LongFoo, DoubleFoo -> Foo 변환 시 int로 표현할 수 없는 값은 예외를 던진다.")
+    @Test
+    void adaptFooOverflow() {
+        // given
+        Foo longFoo = ((LongFoo) (number1, number2) -> number1 + number2).toFoo();
+        Foo doubleFoo = ((DoubleFoo) (number1, number2) -> number1 / number2).toFoo();
+
+        // when & then
+        assertThat(longFoo.operate(1, 2)).isEqualTo(3);
+        assertThat(doubleFoo.operate(4, 2)).isEqualTo(2);
+        assertThatThrownBy(() -> longFoo.operate(Integer.MAX_VALUE, 1))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> doubleFoo.operate(1, 2))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @DisplayName("operateAll - 두 배열의 같은 위치 요소끼리 연산해 결과 배열에 담는다.")
+    @Test
+    void operateAll() {
+        // given
+        IntFoo intPlus = (number1, number2) -> number1 + number2;
+        LongFoo longMultiply = (number1, number2) -> number1 * number2;
+        int[] intResult = new int[3];
+        long[] longResult = new long[3];
+
+        // when
+        intPlus.operateAll(new int[]{1, 2, 3}, new int[]{10, 20, 30}, intResult);
+        longMultiply.operateAll(new long[]{1L, 2L, 3L}, new long[]{1_000_000_000L, 1_000_000_000L, 1_000_000_000L}, longResult);
+
+        // then
+        assertThat(intResult).containsExactly(11, 22, 33);
+        assertThat(longResult).containsExactly(1_000_000_000L, 2_000_000_000L, 3_000_000_000L);
+    }
+
+    @DisplayName("operateAll - 배열 길이가 맞지 않으면 예외를 던진다.")
+    @Test
+    void operateAllLengthMismatch() {
+        // given
+        IntFoo plus = (number1, number2) -> number1 + number2;
+
+        // when & then
+        assertThatThrownBy(() -> plus.operateAll(new int[3], new int[2], new int[3]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 할당 프로파일 - 스레드별 할당 바이트(com.sun.management.ThreadMXBean)로 측정한다.
+     * Integer 캐시 범위를 벗어나는 값(1000 ~)을 사용해도 요소당 할당이 0이어야 한다.
+     */
+    @DisplayName("operateAll - 요소 개수와 상관없이 루프 안에서 할당이 발생하지 않는다.")
+    @Test
+    void operateAllDoesNotAllocate() {
+        // given
+        int size = 1_000_000;
+        int[] numbers1 = new int[size];
+        int[] numbers2 = new int[size];
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            numbers1[i] = 1000 + i;
+            numbers2[i] = 2000 + i;
+        }
+        IntFoo plus = (number1, number2) -> number1 + number2;
+
+        // when & then
+        assertNoAllocationPerOp(size, () -> plus.operateAll(numbers1, numbers2, result));
+        assertThat(result[size - 1]).isEqualTo(1000 + 2000 + 2 * (size - 1));
+    }
+}
@@ -1,5 +1,6 @@
 package com.sparta.nbcamp.studyStream.lambda;
 
+import com.sparta.nbcamp.studyStream.subject.Subject;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -119,24 +120,6 @@ public class MethodReferenceTest {
         Assertions.assertThat(result2.getLevel()).isEqualTo(8);
     }
 
-    public class Subject {
-        private String title;
-        private Integer level;
-
-        Subject(String title, Integer level) {
-            this.title = title;
-            this.level = level;
-        }
-
-        public String getTitle() {
-            return title;
-        }
-
-        public Integer getLevel() {
-            return level;
-        }
-    }
-
     /**
      * 람다 : (x) -> new Array[x]
      * 메서드 참조 : Array[]::new
@@ -0,0 +1,252 @@
+package com.sparta.nbcamp.studyStream.person;
+
+import com.sparta.nbcamp.studyStream.person.index.AgeIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+class PersonTableTest {
+
+    private final List<Person> people = List.of(
+            new Person(1L, "Kim", 28, "ENFP", MALE),
+            new Person(2L, "Lee", 31, "INFJ", MALE),
+            new Person(3L, "Hong", 20, "ESTJ", FEMALE),
+            new Person(4L, "Park", 24, "INFP", MALE),
+            new Person(5L, "Kang", 33, "ISTJ", FEMALE)
+    );
+
+    @DisplayName("PersonTable에 저장한 Person을 행 번호로 다시 꺼낼 수 있다.")
+    @Test
+    void toPerson() {
+        // given
+        PersonTable table = PersonTable.from(people);
+
+        // when
+        Person person = table.toPerson(2);
+
+        // then
+        assertThat(table.size()).isEqualTo(5);
+        assertThat(person).extracting("id", "name", "age", "mbti", "gender")
+                .containsExactly(3L, "Hong", 20, "ESTJ", FEMALE);
+    }
+
+    @DisplayName("30대 사람들만 필터링한다.")
+    @Test
+    void filterByAge() {
+        // given
+        PersonTable table = PersonTable.from(people);
+
+        // when
+        List<Person> people30s = table.toPeople(table.filterByAge(30, 40));
+
+        // then
+        assertThat(people30s).extracting("id", "name", "age", "mbti", "gender")
+                .containsExactly(
+                        tuple(2L, "Lee", 31, "INFJ", MALE),
+                        tuple(5L, "Kang", 33, "ISTJ", FEMALE)
+                );
+    }
+
+    @DisplayName("MBTI가 E인 사람들의 MBTI 리스트를 생성한다.")
+    @Test
+    void filterByMbtiAndMap() {
+        // given
+        PersonTable table = PersonTable.from(people);
+
+        // when
+        List<String> mbtiList = table.map(table.filterByMbti('E'), row -> table.mbti(row).name());
+
+        // then
+        assertThat(mbtiList).containsExactly("ENFP", "ESTJ");
+    }
+
+    @DisplayName("나이 오름차순으로 정렬한다.")
+    @Test
+    void sortedByAge() {
+        // given
+        PersonTable table = PersonTable.from(people);
+
+        // when
+        List<Person> sortedPeople = table.toPeople(table.sortedByAge());
+
+        // then
+        assertThat(sortedPeople).extracting("id")
+                .containsExactly(3L, 4L, 1L, 2L, 5L);
+    }
+
+    @DisplayName("id 기준으로 중복을 제거한다. (127을 넘는 id 포함)")
+    @Test
+    void distinctById() {
+        // given
+        PersonTable table = PersonTable.from(List.of(
+                new Person(1000L, "Kim", 28, "ENFP", MALE),
+                new Person(1000L, "Kim", 28, "ENFP", MALE),
+                new Person(2L, "Lee", 31, "INFJ", MALE),
+                new Person(3L, "Hong", 20, "ESTJ", FEMALE),
+                new Person(3L, "Hong", 20, "ESTJ", FEMALE)
+        ));
+
+        // when
+        List<Person> distinctPeople = table.toPeople(table.distinctById());
+
+        // then
+        assertThat(distinctPeople).extracting("id")
+                .containsExactly(1000L, 2L, 3L);
+    }
+
+    @DisplayName("남성인 사람들의 평균 나이를 계산한다.")
+    @Test
+    void averageAge() {
+        // given
+        PersonTable table = PersonTable.from(people);
+
+        // when
+        double average = table.averageAge(table.filterByGender(MALE)).orElse(0.0);
+
+        // then
+        assertThat(average).isEqualTo(27.666666666666668);
+    }
+
+    @DisplayName("행 번호 배열 없이 열 전체에서 성별 평균 나이와 나이 구간 인원을 계산하고, 삭제된 행은 제외한다.")
+    @Test
+    void columnAggregates() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        table.remove(0);
+
+        // when
+        double average = table.averageAge().orElse(0.0);
+        double maleAverage = table.averageAge(MALE).orElse(0.0);
+        double femaleAverage = table.averageAge(FEMALE).orElse(0.0);
+        long twenties = table.countByAge(20, 30);
+
+        // then
+        assertThat(average).isEqualTo((31 + 20 + 24 + 33) / 4.0);
+        assertThat(maleAverage).isEqualTo((31 + 24) / 2.0);
+        assertThat(femaleAverage).isEqualTo((20 + 33) / 2.0);
+        assertThat(twenties).isEqualTo(2L);
+        assertThat(new PersonTable().averageAge(MALE)).isEmpty();
+    }
+
+    @DisplayName("20대인 사람들이 몇 명인지 카운트 한다.")
+    @Test
+    void count() {
+        // given
+        PersonTable table = PersonTable.from(people);
+
+        // when
+        long count = table.count(row -> table.age(row) >= 20 && table.age(row) < 30);
+
+        // then
+        assertThat(count).isEqualTo(3L);
+    }
+
+    @DisplayName("삭제된 행은 조회 결과에서 제외되고 리스너에 통지된다.")
+    @Test
+    void remove() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        List<Long> deletedIds = new ArrayList<>();
+        table.addListener(new PersonTableListener() {
+            @Override
+            public void onInsert(PersonTable table, int row) {
+            }
+
+            @Override
+            public void onDelete(PersonTable table, int row) {
+                deletedIds.add(table.id(row));
+            }
+        });
+
+        // when
+        boolean removed = table.remove(1);
+        boolean removedAgain = table.remove(1);
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(removedAgain).isFalse();
+        assertThat(deletedIds).containsExactly(2L);
+        assertThat(table.size()).isEqualTo(4);
+        assertThat(table.rowCount()).isEqualTo(5);
+        assertThat(table.toPeople(table.filterByAge(30, 40))).extracting("id")
+                .containsExactly(5L);
+    }
+
+    @DisplayName("잘못된 값으로 행을 추가하면 예외를 던지고 테이블과 리스너는 바뀌지 않는다.")
+    @Test
+    void addInvalid() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        AgeIndex index = AgeIndex.of(table);
+        long version = table.version();
+
+        // when & then
+        assertThatThrownBy(() -> table.add(6L, "Choi", 35, "XXXX", MALE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> table.add(7L, "Choi", -1, "ENTJ", MALE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(table.size()).isEqualTo(5);
+        assertThat(table.rowCount()).isEqualTo(5);
+        assertThat(table.allRows()).hasSize(5);
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(table.version()).isEqualTo(version);
+    }
+
+    @DisplayName("행의 값을 수정한다.")
+    @Test
+    void update() {
+        // given
+        PersonTable table = PersonTable.from(people);
+
+        // when
+        table.update(0, "Kim", 35, "ISTJ", FEMALE);
+
+        // then
+        assertThat(table.toPerson(0)).extracting("id", "name", "age", "mbti", "gender")
+                .containsExactly(1L, "Kim", 35, "ISTJ", FEMALE);
+        assertThat(table.toPeople(table.filterByAge(30, 40))).extracting("id")
+                .containsExactly(1L, 2L, 5L);
+    }
+
+    @DisplayName("추가 / 삭제 / 수정할 때마다 버전이 증가한다.")
+    @Test
+    void version() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        long version = table.version();
+
+        // when
+        table.add(new Person(6L, "Choi", 35, "ENTJ", MALE));
+        table.remove(0);
+        table.remove(0);
+        table.update(1, "Lee", 32, "INFJ", MALE);
+
+        // then
+        assertThat(table.version()).isEqualTo(version + 3);
+    }
+
+    @DisplayName("같은 이름은 이름 풀에 한 번만 저장된다.")
+    @Test
+    void sharedNamePool() {
+        // given
+        PersonTable table = new PersonTable();
+
+        // when
+        for (long id = 0; id < 1_000_000; id++) {
+            table.add(id, id % 2 == 0 ? "Kim" : "Lee", (int) (id % 100), "ENFP", MALE);
+        }
+
+        // then
+        assertThat(table.size()).isEqualTo(1_000_000);
+        assertThat(table.namePool().size()).isEqualTo(2);
+        assertThat(table.name(999_999)).isEqualTo("Lee");
+    }
+}
@@ -0,0 +1,88 @@
+package com.sparta.nbcamp.studyStream.person.aggregate;
+
+import com.sparta.nbcamp.studyStream.person.Gender;
+import com.sparta.nbcamp.studyStream.person.Mbti;
+import com.sparta.nbcamp.studyStream.person.Person;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class DenseGroupingTest {
+
+    private final List<Person> people = List.of(
+            new Person(1L, "Kim", 28, "ENFP", MALE),
+            new Person(2L, "Lee", 31, "INFJ", MALE),
+            new Person(3L, "Hong", 20, "ESTJ", FEMALE),
+            new Person(4L, "Park", 24, "INFP", MALE),
+            new Person(5L, "Kang", 33, "ISTJ", FEMALE)
+    );
+
+    @DisplayName("성별 / MBTI / 나이대별 인원을 센다. 원소가 있는 키만 키 순서대로 담긴다.")
+    @Test
+    void counting() {
+        // when
+        Map<Gender, Long> byGender = people.stream().collect(DenseGrouping.counting(DenseKey.gender()));
+        Map<Mbti, Long> byMbti = people.stream().collect(DenseGrouping.counting(DenseKey.mbti()));
+        Map<Integer, Long> byDecade = people.stream().collect(DenseGrouping.counting(DenseKey.decade()));
+
+        // then
+        assertThat(byGender).containsExactly(entry(MALE, 3L), entry(FEMALE, 2L));
+        assertThat(byMbti).containsOnlyKeys(Mbti.ESTJ, Mbti.ENFP, Mbti.ISTJ, Mbti.INFJ, Mbti.INFP);
+        assertThat(byDecade).containsExactly(entry(20, 3L), entry(30, 2L));
+    }
+
+    @DisplayName("성별 나이 합계 / 평균을 계산한다.")
+    @Test
+    void summingAndAveraging() {
+        // when
+        Map<Gender, Long> sum = people.stream()
+                .collect(DenseGrouping.summingLong(DenseKey.gender(), Person::getAge));
+        Map<Gender, Double> average = people.stream()
+                .collect(DenseGrouping.averaging(DenseKey.gender(), Person::getAge));
+
+        // then
+        assertThat(sum).containsExactly(entry(MALE, 83L), entry(FEMALE, 53L));
+        assertThat(average).containsExactly(entry(MALE, 83 / 3.0), entry(FEMALE, 53 / 2.0));
+    }
+
+    @DisplayName("병렬 Stream 에서도 (CONCURRENT 포함) Collectors.groupingBy 와 같은 결과를 낸다.")
+    @Test
+    void parallelMatchesGroupingBy() {
+        // given
+        SplittableRandom random = new SplittableRandom(5);
+        Mbti[] types = Mbti.values();
+        List<Person> many = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            many.add(new Person((long) i, "P" + (i % 100), random.nextInt(0, 200),
+                    types[random.nextInt(types.length)].name(), random.nextBoolean() ? MALE : FEMALE));
+        }
+        DenseKey<Person, Integer> ageBucket = DenseKey.ageBucket(10, 100);
+
+        // when
+        Map<Mbti, Long> mbti = many.parallelStream().collect(DenseGrouping.counting(DenseKey.mbti()));
+        Map<Mbti, Long> mbtiConcurrent = many.parallelStream()
+                .collect(DenseGrouping.countingConcurrent(DenseKey.mbti()));
+        Map<Integer, Long> ageSum = many.parallelStream()
+                .collect(DenseGrouping.summingLongConcurrent(ageBucket, Person::getAge));
+
+        // then
+        Map<Mbti, Long> expectedMbti = many.stream()
+                .collect(Collectors.groupingBy(person -> Mbti.of(person.getMbti()), Collectors.counting()));
+        Map<Integer, Long> expectedAgeSum = many.stream()
+                .collect(Collectors.groupingBy(person -> Math.min(person.getAge(), 100) / 10 * 10,
+                        Collectors.summingLong(Person::getAge)));
+        assertThat(mbti).isEqualTo(expectedMbti);
+        assertThat(mbtiConcurrent).isEqualTo(expectedMbti);
+        assertThat(ageSum).isEqualTo(expectedAgeSum);
+    }
+}
@@ -0,0 +1,95 @@
+package com.sparta.nbcamp.studyStream.person.aggregate;
+
+import com.sparta.nbcamp.studyStream.person.Mbti;
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PersonAggregateViewTest {
+
+    private final List<Person> people = List.of(
+            new Person(1L, "Kim", 28, "ENFP", MALE),
+            new Person(2L, "Lee", 31, "INFJ", MALE),
+            new Person(3L, "Hong", 20, "ESTJ", FEMALE),
+            new Person(4L, "Park", 24, "INFP", MALE),
+            new Person(5L, "Kang", 33, "ISTJ", FEMALE)
+    );
+
+    @DisplayName("남성 평균 나이와 20대 인원을 스캔 없이 읽는다.")
+    @Test
+    void read() {
+        // given
+        PersonTable table = PersonTable.from(people);
+
+        // when
+        PersonAggregateView view = PersonAggregateView.of(table);
+
+        // then
+        assertThat(view.averageAge(MALE).orElse(0.0)).isEqualTo(27.666666666666668);
+        assertThat(view.countDecade(2)).isEqualTo(3L);
+        assertThat(view.count(FEMALE)).isEqualTo(2L);
+        assertThat(view.count(Mbti.INFP)).isEqualTo(1L);
+        assertThat(view.averageAge().orElse(0.0)).isEqualTo(27.2);
+    }
+
+    @DisplayName("행 추가, 수정, 삭제 시 집계가 함께 갱신된다.")
+    @Test
+    void insertUpdateDelete() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        PersonAggregateView view = PersonAggregateView.of(table);
+
+        // when
+        table.add(6L, "Han", 29, "INTP", MALE);          // 남성 28, 31, 24, 29
+        table.update(0, "Kim", 38, "ENFP", MALE);         // 남성 38, 31, 24, 29
+        table.remove(1);                                  // 남성 38, 24, 29
+
+        // then
+        assertThat(view.count()).isEqualTo(5L);
+        assertThat(view.count(MALE)).isEqualTo(3L);
+        assertThat(view.averageAge(MALE).orElse(0.0)).isEqualTo((38 + 24 + 29) / 3.0);
+        assertThat(view.countDecade(2)).isEqualTo(3L);
+        assertThat(view.countDecade(3)).isEqualTo(2L);
+        assertThat(view.count(Mbti.INFJ)).isZero();
+        assertThat(view.count(Mbti.INTP)).isEqualTo(1L);
+    }
+
+    @DisplayName("잘못된 값으로 수정하면 예외를 던지고 행과 집계는 이전 값 그대로 남는다.")
+    @Test
+    void updateInvalid() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        PersonAggregateView view = PersonAggregateView.of(table);
+
+        // when & then
+        assertThatThrownBy(() -> table.update(0, "Choi", 45, "XXXX", FEMALE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(table.toPerson(0)).extracting("name", "age", "mbti", "gender")
+                .containsExactly("Kim", 28, "ENFP", MALE);
+        assertThat(view.count()).isEqualTo(5L);
+        assertThat(view.averageAge(MALE).orElse(0.0)).isEqualTo(27.666666666666668);
+        assertThat(view.count(Mbti.ENFP)).isEqualTo(1L);
+    }
+
+    @DisplayName("해당 Gender가 없으면 평균 나이는 비어 있다.")
+    @Test
+    void empty() {
+        // given
+        PersonTable table = new PersonTable();
+
+        // when
+        PersonAggregateView view = PersonAggregateView.of(table);
+
+        // then
+        assertThat(view.averageAge(MALE)).isEmpty();
+        assertThat(view.countDecade(20)).isZero();
+    }
+}
@@ -0,0 +1,136 @@
+package com.sparta.nbcamp.studyStream.person.aggregate;
+
+import com.sparta.nbcamp.studyStream.person.Mbti;
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static com.sparta.nbcamp.studyStream.person.aggregate.Aggregate.COUNT;
+import static com.sparta.nbcamp.studyStream.person.aggregate.Aggregate.MAX;
+import static com.sparta.nbcamp.studyStream.person.aggregate.Aggregate.MEAN;
+import static com.sparta.nbcamp.studyStream.person.aggregate.Aggregate.MIN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.offset;
+
+class PersonStatisticsTest {
+
+    private final List<Person> people = List.of(
+            new Person(1L, "Kim", 28, "ENFP", MALE),
+            new Person(2L, "Lee", 31, "INFJ", MALE),
+            new Person(3L, "Hong", 20, "ESTJ", FEMALE),
+            new Person(4L, "Park", 24, "INFP", MALE),
+            new Person(5L, "Kang", 33, "ISTJ", FEMALE)
+    );
+
+    @DisplayName("한 번의 순회로 개수, 합계, 최소, 최대, 평균, 분산을 계산한다.")
+    @Test
+    void summarizing() {
+        // when
+        PersonStatistics statistics = people.stream()
+                .collect(PersonStatistics.summarizing());
+
+        // then
+        assertThat(statistics.getCount()).isEqualTo(5L);
+        assertThat(statistics.getSum()).isEqualTo(136L);
+        assertThat(statistics.getMin()).isEqualTo(20);
+        assertThat(statistics.getMax()).isEqualTo(33);
+        assertThat(statistics.getAverage()).isEqualTo(27.2);
+        assertThat(statistics.getVariance()).isCloseTo(22.16, offset(1e-9));
+    }
+
+    @DisplayName("나이대 히스토그램과 MBTI/Gender별 인원을 함께 계산한다.")
+    @Test
+    void histogramAndCounts() {
+        // when
+        PersonStatistics statistics = people.stream()
+                .collect(PersonStatistics.summarizing(Aggregate.AGE_HISTOGRAM, Aggregate.MBTI_COUNTS, Aggregate.GENDER_COUNTS));
+
+        // then
+        assertThat(statistics.getAgeHistogram(2)).isEqualTo(3L);
+        assertThat(statistics.getAgeHistogram(3)).isEqualTo(2L);
+        assertThat(statistics.getAgeHistogram(9)).isZero();
+        assertThat(statistics.getCount(Mbti.INFJ)).isEqualTo(1L);
+        assertThat(statistics.getMbtiCounts()).hasSize(5).contains(entry(Mbti.ENFP, 1L));
+        assertThat(statistics.getCount(MALE)).isEqualTo(3L);
+        assertThat(statistics.getCount(FEMALE)).isEqualTo(2L);
+    }
+
+    @DisplayName("MAX_AGE 이상의 나이는 히스토그램 마지막 칸에 모아 배열이 나이에 비례해 커지지 않는다.")
+    @Test
+    void histogramOutlier() {
+        // given
+        PersonStatistics statistics = new PersonStatistics(EnumSet.of(Aggregate.AGE_HISTOGRAM));
+
+        // when
+        statistics.accept(new Person(1L, "Kim", 25, "ENFP", MALE));
+        statistics.accept(new Person(2L, "Old", PersonTable.MAX_AGE, "INTJ", MALE));
+        statistics.accept(new Person(3L, "Typo", Integer.MAX_VALUE, "INTJ", FEMALE));
+
+        // then
+        long[] histogram = statistics.getAgeHistogram();
+        assertThat(histogram).hasSize(PersonTable.MAX_AGE / 10 + 1);
+        assertThat(histogram[2]).isEqualTo(1L);
+        assertThat(histogram[histogram.length - 1]).isEqualTo(2L);
+    }
+
+    @DisplayName("요청하지 않은 집계를 조회하면 예외를 던진다.")
+    @Test
+    void notRequested() {
+        // when
+        PersonStatistics statistics = people.stream()
+                .collect(PersonStatistics.summarizing(COUNT, MIN));
+
+        // then
+        assertThat(statistics.getMin()).isEqualTo(20);
+        assertThatThrownBy(statistics::getAverage)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("병렬 Stream에서 부분 결과를 합쳐도 순차 결과와 같다.")
+    @Test
+    void parallel() {
+        // given
+        List<Person> largePeople = new ArrayList<>();
+        for (long id = 0; id < 100_000; id++) {
+            largePeople.add(new Person(id, "Kim", (int) (id % 80), id % 3 == 0 ? "ENFP" : "ISTJ", id % 2 == 0 ? MALE : FEMALE));
+        }
+        IntSummaryStatistics expected = largePeople.stream()
+                .mapToInt(Person::getAge)
+                .summaryStatistics();
+
+        // when
+        PersonStatistics statistics = largePeople.parallelStream()
+                .collect(PersonStatistics.summarizing(MIN, MAX, MEAN, Aggregate.MBTI_COUNTS));
+
+        // then
+        assertThat(statistics.getCount()).isEqualTo(expected.getCount());
+        assertThat(statistics.getMin()).isEqualTo(expected.getMin());
+        assertThat(statistics.getMax()).isEqualTo(expected.getMax());
+        assertThat(statistics.getAverage()).isEqualTo(expected.getAverage());
+        assertThat(statistics.getCount(Mbti.ENFP)).isEqualTo(33_334L);
+    }
+
+    @DisplayName("PersonTable의 행을 객체 생성 없이 집계한다.")
+    @Test
+    void table() {
+        // given
+        PersonTable table = PersonTable.from(people);
+
+        // when
+        PersonStatistics statistics = PersonStatistics.of(table, table.filterByGender(MALE), EnumSet.of(MEAN, COUNT));
+
+        // then
+        assertThat(statistics.getCount()).isEqualTo(3L);
+        assertThat(statistics.getAverage()).isEqualTo(27.666666666666668);
+    }
+}
@@ -0,0 +1,99 @@
+package com.sparta.nbcamp.studyStream.person.aggregate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedCountersTest {
+
+    @DisplayName("여러 스레드가 동시에 더해도 칸별 합이 정확하다.")
+    @Test
+    void concurrentAdd() throws InterruptedException {
+        // given
+        StripedCounters counters = new StripedCounters(3, 8);
+        int threads = 8;
+        int perThread = 100_000;
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        counters.increment(i % 3);
+                        counters.add(2, 2);
+                    }
+                });
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // then
+        assertThat(counters.sum(0)).isEqualTo(threads * 33_334L);
+        assertThat(counters.sum(1)).isEqualTo(threads * 33_333L);
+        assertThat(counters.sum(2)).isEqualTo(threads * (33_333L + 2L * perThread));
+    }
+
+    @DisplayName("ForkJoinPool 워커는 풀 안의 번호로 서로 다른 스트라이프에서 시작한다.")
+    @Test
+    void forkJoinWorkersUseDistinctStripes() throws Exception {
+        // given
+        StripedCounters counters = new StripedCounters(1, 4);
+        Set<Integer> stripes = ConcurrentHashMap.newKeySet();
+        CountDownLatch allStarted = new CountDownLatch(4);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        // when
+        try {
+            for (int t = 0; t < 4; t++) {
+                pool.submit(() -> {
+                    stripes.add(counters.currentStripe());
+                    allStarted.countDown();
+                    allStarted.await();    // 워커 4개가 모두 하나씩 맡도록 붙잡아 둔다.
+                    return null;
+                });
+            }
+            assertThat(allStarted.await(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            pool.shutdown();
+        }
+
+        // then
+        assertThat(stripes).hasSize(4);
+    }
+
+    @DisplayName("스트라이프가 하나뿐이라 CAS가 계속 실패해도 합은 정확하다.")
+    @Test
+    void singleStripe() {
+        // given
+        StripedCounters counters = new StripedCounters(1, 1);
+
+        // when
+        IntStream.range(0, 1_000_000).parallel().forEach(i -> counters.increment(0));
+
+        // then
+        assertThat(counters.sum(0)).isEqualTo(1_000_000L);
+    }
+
+    @DisplayName("범위를 벗어난 칸은 IndexOutOfBoundsException")
+    @Test
+    void outOfBounds() {
+        // given
+        StripedCounters counters = new StripedCounters(2);
+
+        // when & then
+        assertThatThrownBy(() -> counters.increment(2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> counters.sum(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package com.sparta.nbcamp.studyStream.person.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrequencySketchTest {
+
+    @DisplayName("증가시킨 횟수만큼 빈도가 늘고 15에서 멈춘다.")
+    @Test
+    void increment() {
+        // given
+        FrequencySketch sketch = new FrequencySketch(1_000);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            sketch.increment("30s");
+        }
+        for (int i = 0; i < 20; i++) {
+            sketch.increment("male");
+        }
+
+        // then
+        assertThat(sketch.frequency("30s")).isEqualTo(3);
+        assertThat(sketch.frequency("male")).isEqualTo(15);
+        assertThat(sketch.frequency("unknown")).isZero();
+    }
+
+    @DisplayName("증가 횟수가 sampleSize에 도달하면 모든 빈도를 절반으로 줄인다.")
+    @Test
+    void reset() {
+        // given
+        FrequencySketch sketch = new FrequencySketch(16);   // 16 * 10 = 160번마다 reset
+        for (int i = 0; i < 15; i++) {
+            sketch.increment("hot");
+        }
+
+        // when
+        for (int i = 0; i < 145; i++) {
+            sketch.increment(i);
+        }
+
+        // then
+        assertThat(sketch.frequency("hot")).isLessThanOrEqualTo(7);
+    }
+}
@@ -0,0 +1,94 @@
+package com.sparta.nbcamp.studyStream.person.cache;
+
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import com.sparta.nbcamp.studyStream.person.query.Query;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersonQueryCacheTest {
+
+    private final Query<Person, List<String>> thirties = Query.<Person>builder()
+            .filter(person -> person.getAge() >= 30 && person.getAge() < 40)
+            .map(Person::getName)
+            .toList();
+
+    private PersonTable table() {
+        return PersonTable.from(List.of(
+                new Person(1L, "Kim", 28, "ENFP", MALE),
+                new Person(2L, "Lee", 31, "INFJ", MALE),
+                new Person(3L, "Hong", 20, "ESTJ", FEMALE),
+                new Person(4L, "Park", 24, "INFP", MALE),
+                new Person(5L, "Kang", 33, "ISTJ", FEMALE)
+        ));
+    }
+
+    @DisplayName("같은 Query를 다시 실행하면 캐시된 결과를 리턴한다.")
+    @Test
+    void hit() {
+        // given
+        PersonQueryCache cache = PersonQueryCache.of(table(), 100, 1_000);
+
+        // when
+        List<String> first = cache.execute(thirties);
+        List<String> second = cache.execute(thirties);
+
+        // then
+        assertThat(first).containsExactly("Lee", "Kang");
+        assertThat(second).isSameAs(first);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.weight()).isEqualTo(3);     // 원소 2개 + 1
+    }
+
+    @DisplayName("테이블이 바뀌면 캐시를 비우고 새 버전으로 다시 계산한다.")
+    @Test
+    void invalidateOnMutation() {
+        // given
+        PersonTable table = table();
+        PersonQueryCache cache = PersonQueryCache.of(table, 100, 1_000);
+        Query<Person, Long> count = Query.<Person>builder().count();
+        cache.execute(thirties);
+        cache.execute(count);
+
+        // when
+        table.add(new Person(6L, "Choi", 35, "ENTJ", MALE));
+
+        // then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.execute(thirties)).containsExactly("Lee", "Kang", "Choi");
+
+        // when
+        table.remove(1);
+        table.update(4, "Kang", 29, "ISTJ", FEMALE);
+
+        // then
+        assertThat(cache.execute(thirties)).containsExactly("Choi");
+        assertThat(cache.execute(count)).isEqualTo(5L);
+        assertThat(cache.stats().hitCount()).isZero();
+    }
+
+    @DisplayName("detach 이후에는 테이블 변경을 통지받지 않는다.")
+    @Test
+    void detach() {
+        // given
+        PersonTable table = table();
+        PersonQueryCache cache = PersonQueryCache.of(table, 100, 1_000);
+        long version = table.version();
+
+        // when
+        cache.detach();
+        cache.execute(thirties);
+        table.add(new Person(6L, "Choi", 35, "ENTJ", MALE));
+
+        // then
+        assertThat(table.version()).isEqualTo(version + 1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
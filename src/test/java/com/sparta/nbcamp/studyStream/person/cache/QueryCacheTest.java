@@ -0,0 +1,156 @@
+package com.sparta.nbcamp.studyStream.person.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCacheTest {
+
+    @DisplayName("처음 한 번만 loader를 실행하고 이후에는 저장된 값을 리턴한다.")
+    @Test
+    void loadOnce() {
+        // given
+        QueryCache<String, Integer> cache = QueryCache.<String, Integer>builder().build();
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        Integer first = cache.get("30s", key -> loads.incrementAndGet());
+        Integer second = cache.get("30s", key -> loads.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(1);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.stats().hitRate()).isEqualTo(0.5);
+    }
+
+    @DisplayName("개수가 가득 차면 가장 오래 전에 조회된 값을 내보낸다.")
+    @Test
+    void evictLeastRecentlyUsed() {
+        // given
+        QueryCache<Integer, String> cache = QueryCache.<Integer, String>builder().maximumSize(3).build();
+        for (int key = 1; key <= 3; key++) {
+            cache.get(key, String::valueOf);
+        }
+        cache.getIfPresent(1);
+        cache.getIfPresent(2);
+
+        // when
+        cache.get(4, String::valueOf);
+
+        // then
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.getIfPresent(3)).isNull();
+        assertThat(cache.getIfPresent(1)).isEqualTo("1");
+        assertThat(cache.getIfPresent(2)).isEqualTo("2");
+        assertThat(cache.getIfPresent(4)).isEqualTo("4");
+        assertThat(cache.stats().evictionCount()).isEqualTo(1);
+    }
+
+    @DisplayName("무게 합이 maximumWeight를 넘지 않게 내보내고, 혼자서 넘는 값은 저장하지 않는다.")
+    @Test
+    void weightBounded() {
+        // given
+        QueryCache<String, List<Integer>> cache = QueryCache.<String, List<Integer>>builder()
+                .maximumWeight(10)
+                .weigher(List::size)
+                .build();
+
+        // when
+        cache.put("a", Collections.nCopies(4, 0));
+        cache.put("b", Collections.nCopies(4, 0));
+        cache.put("c", Collections.nCopies(5, 0));
+        cache.put("huge", Collections.nCopies(11, 0));
+
+        // then
+        assertThat(cache.weight()).isLessThanOrEqualTo(10);
+        assertThat(cache.getIfPresent("c")).hasSize(5);
+        assertThat(cache.getIfPresent("huge")).isNull();
+        assertThat(cache.stats().evictionCount()).isEqualTo(1);
+        assertThat(cache.stats().rejectionCount()).isEqualTo(1);
+    }
+
+    @DisplayName("가득 찼을 때 한 번 쓰이고 마는 값은 자주 쓰이는 값을 밀어내지 못한다.")
+    @Test
+    void admitByFrequency() {
+        // given
+        QueryCache<String, String> cache = QueryCache.<String, String>builder().maximumSize(2).build();
+        for (int i = 0; i < 5; i++) {
+            cache.get("30s", key -> key);
+            cache.get("male", key -> key);
+        }
+
+        // when
+        String oneOff = cache.get("once", key -> key);
+
+        // then
+        assertThat(oneOff).isEqualTo("once");
+        assertThat(cache.getIfPresent("once")).isNull();
+        assertThat(cache.getIfPresent("30s")).isNotNull();
+        assertThat(cache.getIfPresent("male")).isNotNull();
+        assertThat(cache.stats().rejectionCount()).isEqualTo(1);
+    }
+
+    @DisplayName("invalidate는 값 하나를, invalidateAll은 전체를 지운다.")
+    @Test
+    void invalidate() {
+        // given
+        QueryCache<String, String> cache = QueryCache.<String, String>builder().build();
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("c", "3");
+
+        // when
+        cache.invalidate("a");
+
+        // then
+        assertThat(cache.getIfPresent("a")).isNull();
+        assertThat(cache.size()).isEqualTo(2);
+
+        // when
+        cache.invalidateAll();
+
+        // then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.weight()).isZero();
+    }
+
+    @DisplayName("여러 스레드에서 동시에 조회 / 저장해도 크기 제한을 지킨다.")
+    @Test
+    void concurrentAccess() throws Exception {
+        // given
+        QueryCache<Integer, Integer> cache = QueryCache.<Integer, Integer>builder().maximumSize(64).build();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int seed = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    int key = (i * 31 + seed) % 200;
+                    assertThat(cache.get(key, k -> k * 2)).isEqualTo(key * 2);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(cache.size()).isLessThanOrEqualTo(64);
+        assertThat(cache.stats().requestCount()).isEqualTo(8 * 20_000);
+    }
+}
@@ -0,0 +1,83 @@
+package com.sparta.nbcamp.studyStream.person.distinct;
+
+import com.sparta.nbcamp.studyStream.person.Person;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DistinctByIdTest {
+
+    @DisplayName("id 기준으로 처음 나온 Person만 남긴다. (127을 넘는 id 포함)")
+    @Test
+    void distinct() {
+        // given
+        List<Person> people = List.of(
+                new Person(1000L, "Kim", 28, "ENFP", MALE),
+                new Person(1000L, "Kim", 28, "ENFP", MALE),
+                new Person(2L, "Lee", 31, "INFJ", MALE),
+                new Person(3000L, "Hong", 20, "ESTJ", FEMALE),
+                new Person(3000L, "Hong", 20, "ESTJ", FEMALE)
+        );
+
+        // when
+        List<Person> streamResult = people.stream()
+                .filter(DistinctById.of(Person::getId))
+                .collect(Collectors.toList());
+        List<Person> listResult = DistinctById.distinct(people, Person::getId);
+
+        // then
+        assertThat(streamResult).extracting("id").containsExactly(1000L, 2L, 3000L);
+        assertThat(listResult).extracting("id").containsExactly(1000L, 2L, 3000L);
+    }
+
+    @DisplayName("window 모드는 최근 windowSize개의 id만 기억해 메모리가 일정하다.")
+    @Test
+    void window() {
+        // given
+        DistinctById<Long> distinct = DistinctById.window(id -> id, 3);
+
+        // when
+        List<Long> result = LongStream.of(1, 2, 1, 3, 4, 1, 5, 5)
+                .boxed()
+                .filter(distinct)
+                .collect(Collectors.toList());
+
+        // then
+        assertThat(result).containsExactly(1L, 2L, 3L, 4L, 1L, 5L);   // 두 번째 1은 window(2, 3, 4)를 벗어난 뒤라 통과
+        assertThat(distinct.size()).isEqualTo(3);
+    }
+
+    @DisplayName("끝없는 입력에서도 기억하는 id 개수는 windowSize를 넘지 않는다.")
+    @Test
+    void unboundedFeed() {
+        // given
+        DistinctById<Long> distinct = DistinctById.window(id -> id, 1_000);
+
+        // when
+        long count = LongStream.range(0, 1_000_000)
+                .map(i -> i % 500 == 0 ? i - 1 : i)    // 바로 앞 id 중복
+                .boxed()
+                .filter(distinct)
+                .count();
+
+        // then
+        assertThat(count).isEqualTo(1_000_000 - 1_999);
+        assertThat(distinct.size()).isEqualTo(1_000);
+    }
+
+    @DisplayName("windowSize는 1 이상이어야 한다.")
+    @Test
+    void invalidWindow() {
+        // when & then
+        assertThatThrownBy(() -> DistinctById.<Long>window(id -> id, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,78 @@
+package com.sparta.nbcamp.studyStream.person.distinct;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongHashSetTest {
+
+    @DisplayName("추가, 포함 여부, 삭제를 확인한다. (0과 음수 포함)")
+    @Test
+    void addContainsRemove() {
+        // given
+        LongHashSet set = new LongHashSet();
+
+        // when
+        boolean added = set.add(1000L);
+        boolean addedAgain = set.add(1000L);
+        set.add(0L);
+        set.add(-5L);
+        boolean removed = set.remove(-5L);
+
+        // then
+        assertThat(added).isTrue();
+        assertThat(addedAgain).isFalse();
+        assertThat(removed).isTrue();
+        assertThat(set.contains(1000L)).isTrue();
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.contains(-5L)).isFalse();
+        assertThat(set.size()).isEqualTo(2);
+    }
+
+    @DisplayName("추가/삭제를 반복해도 HashSet<Long>과 같은 결과를 리턴한다.")
+    @Test
+    void sameAsHashSet() {
+        // given
+        Random random = new Random(42);
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+
+        // when & then
+        for (int i = 0; i < 200_000; i++) {
+            long value = random.nextInt(10_000) - 3_000;
+            if (random.nextBoolean()) {
+                assertThat(set.add(value)).isEqualTo(expected.add(value));
+            } else {
+                assertThat(set.remove(value)).isEqualTo(expected.remove(value));
+            }
+        }
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (long value = -3_000; value < 7_000; value++) {
+            assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+        }
+    }
+
+    @DisplayName("expectedSize가 커도 테이블 크기가 오버플로하지 않고, 음수는 거부한다.")
+    @Test
+    void tableSize() {
+        // when
+        int small = LongHashSet.tableSizeFor(0);
+        int exact = LongHashSet.tableSizeFor(8);
+        int large = LongHashSet.tableSizeFor(Integer.MAX_VALUE);
+        int boundary = LongHashSet.tableSizeFor((1 << 30) / 2 + 1);
+
+        // then
+        assertThat(small).isEqualTo(4);
+        assertThat(exact).isEqualTo(16);
+        assertThat(large).isEqualTo(LongHashSet.MAX_CAPACITY);
+        assertThat(boundary).isEqualTo(LongHashSet.MAX_CAPACITY);
+        assertThatThrownBy(() -> new LongHashSet(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,120 @@
+package com.sparta.nbcamp.studyStream.person.index;
+
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+class AgeIndexTest {
+
+    private final List<Person> people = List.of(
+            new Person(1L, "Kim", 28, "ENFP", MALE),
+            new Person(2L, "Lee", 31, "INFJ", MALE),
+            new Person(3L, "Hong", 20, "ESTJ", FEMALE),
+            new Person(4L, "Park", 24, "INFP", MALE),
+            new Person(5L, "Kang", 33, "ISTJ", FEMALE)
+    );
+
+    @DisplayName("30대 사람들만 조회한다.")
+    @Test
+    void rows() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        AgeIndex index = AgeIndex.of(table);
+
+        // when
+        List<Person> people30s = table.toPeople(index.rows(30, 40));
+
+        // then
+        assertThat(people30s).extracting("id", "name", "age", "mbti", "gender")
+                .containsExactly(
+                        tuple(2L, "Lee", 31, "INFJ", MALE),
+                        tuple(5L, "Kang", 33, "ISTJ", FEMALE)
+                );
+    }
+
+    @DisplayName("20대인 사람들이 몇 명인지 카운트 한다.")
+    @Test
+    void count() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        AgeIndex index = AgeIndex.of(table);
+
+        // when
+        long count = index.count(20, 30);
+
+        // then
+        assertThat(count).isEqualTo(3L);
+        assertThat(index.count(0, 1000)).isEqualTo(5L);
+        assertThat(index.count(40, 30)).isZero();
+    }
+
+    @DisplayName("나이 오름차순으로 정렬된 행을 다시 정렬하지 않고 리턴한다.")
+    @Test
+    void sortedRows() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        AgeIndex index = AgeIndex.of(table);
+
+        // when
+        List<Person> sortedPeople = table.toPeople(index.sortedRows());
+
+        // then
+        assertThat(sortedPeople).extracting("id")
+                .containsExactly(3L, 4L, 1L, 2L, 5L);
+    }
+
+    @DisplayName("행 추가/삭제 시 인덱스도 함께 갱신된다. (기존 범위를 넘는 나이 포함)")
+    @Test
+    void insertAndDelete() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        AgeIndex index = AgeIndex.of(table);
+
+        // when
+        table.add(6L, "Han", 25, "ENTP", FEMALE);
+        table.add(7L, "Ko", 200, "ESTP", MALE);
+        table.remove(0);
+
+        // then
+        assertThat(index.count(20, 30)).isEqualTo(3L);
+        assertThat(table.toPeople(index.rows(20, 30))).extracting("id")
+                .containsExactly(3L, 4L, 6L);
+        assertThat(table.toPeople(index.rows(150, 250))).extracting("id")
+                .containsExactly(7L);
+        assertThat(index.size()).isEqualTo(table.size());
+    }
+
+    @DisplayName("MAX_AGE를 넘는 나이는 테이블이 리스너 호출 전에 거절하므로 인덱스와 테이블이 어긋나지 않는다.")
+    @Test
+    void rejectsAgeAboveMax() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        AgeIndex index = AgeIndex.of(table);
+        long version = table.version();
+
+        // when
+        table.add(6L, "Oldest", PersonTable.MAX_AGE, "INTJ", MALE);
+        assertThatThrownBy(() -> table.add(7L, "Ko", PersonTable.MAX_AGE + 1, "ESTP", MALE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> table.add(8L, "Ko", Integer.MAX_VALUE, "ESTP", MALE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> table.update(0, "Kim", Integer.MAX_VALUE, "ENFP", MALE))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // then
+        assertThat(table.size()).isEqualTo(6);
+        assertThat(table.version()).isEqualTo(version + 1);
+        assertThat(index.size()).isEqualTo(table.size());
+        assertThat(index.count(PersonTable.MAX_AGE, Integer.MAX_VALUE)).isEqualTo(1L);
+        assertThat(index.rows(20, 30)).hasSize(3);
+    }
+}
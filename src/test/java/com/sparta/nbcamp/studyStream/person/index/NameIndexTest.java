@@ -0,0 +1,123 @@
+package com.sparta.nbcamp.studyStream.person.index;
+
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static com.sparta.nbcamp.studyStream.support.AllocationAssertions.assertNoAllocationPerOp;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameIndexTest {
+
+    private final List<Person> people = List.of(
+            new Person(1L, "Kim", 28, "ENFP", MALE),
+            new Person(2L, "Lee", 31, "INFJ", MALE),
+            new Person(3L, "KIM", 20, "ESTJ", FEMALE),
+            new Person(4L, "Kang", 24, "INFP", MALE),
+            new Person(5L, "김철수", 33, "ISTJ", FEMALE),
+            new Person(6L, "김영희", 29, "ENTP", FEMALE),
+            new Person(7L, "kim", 41, "INTJ", MALE)
+    );
+
+    @DisplayName("대소문자를 구분하지 않고 이름이 같은 행을 찾는다.")
+    @Test
+    void rows() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        NameIndex index = NameIndex.of(table);
+
+        // when
+        int[] rows = index.rows("kIM");
+
+        // then
+        assertThat(table.toPeople(rows)).extracting("id").containsExactly(1L, 3L, 7L);
+        assertThat(index.count("LEE")).isEqualTo(1L);
+        assertThat(index.rows("김철수")).containsExactly(4);
+        assertThat(index.rows("Ki")).isEmpty();
+    }
+
+    @DisplayName("접두어로 찾으면 이름순(대소문자 무시), 같은 이름은 행 번호순으로 리턴한다. 한글 접두어도 찾는다.")
+    @Test
+    void rowsByPrefix() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        NameIndex index = NameIndex.of(table);
+        List<Integer> visited = new ArrayList<>();
+
+        // when
+        int[] rows = index.rowsByPrefix("k");
+        index.forEachRowByPrefix("김", visited::add);
+
+        // then
+        assertThat(table.toPeople(rows)).extracting("name").containsExactly("Kang", "Kim", "KIM", "kim");
+        assertThat(visited).containsExactly(5, 4);
+        assertThat(index.countByPrefix("")).isEqualTo(people.size());
+        assertThat(index.countByPrefix("Kim")).isEqualTo(3L);
+        assertThat(index.rowsByPrefix("x")).isEmpty();
+    }
+
+    @DisplayName("표기만 다른 같은 이름은 접두어 검색에서도 행 번호순으로 합쳐서 리턴한다.")
+    @Test
+    void rowsByPrefixMergesSpellings() {
+        // given
+        PersonTable table = PersonTable.from(List.of(
+                new Person(1L, "KIM", 28, "ENFP", MALE),
+                new Person(2L, "Kim", 31, "INFJ", MALE),
+                new Person(3L, "KIM", 20, "ESTJ", FEMALE),
+                new Person(4L, "Kang", 24, "INFP", MALE)
+        ));
+        NameIndex index = NameIndex.of(table);
+        List<Integer> visited = new ArrayList<>();
+
+        // when
+        int[] rows = index.rowsByPrefix("k");
+        index.forEachRowByPrefix("k", visited::add);
+
+        // then
+        assertThat(rows).containsExactly(3, 0, 1, 2);
+        assertThat(visited).containsExactly(3, 0, 1, 2);
+    }
+
+    @DisplayName("행이 삭제 / 수정되면 인덱스도 함께 갱신된다.")
+    @Test
+    void followsTable() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        NameIndex index = NameIndex.of(table);
+
+        // when
+        table.remove(0);
+        table.update(1, "Kimberly", 31, "INFJ", MALE);
+        table.add(8L, "KANG", 22, "ESFP", FEMALE);
+
+        // then
+        assertThat(index.rows("kim")).containsExactly(2, 6);
+        assertThat(table.toPeople(index.rowsByPrefix("kim"))).extracting("id").containsExactly(3L, 7L, 2L);
+        assertThat(index.rows("kang")).containsExactly(3, 7);
+        assertThat(index.size()).isEqualTo(table.size());
+    }
+
+    @DisplayName("검색할 때 문자열을 새로 만들지 않는다. (toLowerCase 없음)")
+    @Test
+    void noAllocation() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        NameIndex index = NameIndex.of(table);
+        int queries = 10_000;
+        long[] total = new long[1];
+
+        // when & then
+        assertNoAllocationPerOp(queries, () -> {    // 검색당 할당 없음
+            for (int i = 0; i < queries; i++) {
+                total[0] += index.count("KIM") + index.countByPrefix("김");
+            }
+        });
+        assertThat(total[0]).isEqualTo(2L * queries * (3 + 2));
+    }
+}
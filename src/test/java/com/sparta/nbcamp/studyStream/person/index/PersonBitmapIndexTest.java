@@ -0,0 +1,76 @@
+package com.sparta.nbcamp.studyStream.person.index;
+
+import com.sparta.nbcamp.studyStream.person.Mbti;
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersonBitmapIndexTest {
+
+    private final List<Person> people = List.of(
+            new Person(1L, "Kim", 28, "ENFP", MALE),
+            new Person(2L, "Lee", 31, "INFJ", MALE),
+            new Person(3L, "Hong", 20, "ESTJ", FEMALE),
+            new Person(4L, "Park", 24, "INFP", MALE),
+            new Person(5L, "Kang", 33, "ISTJ", FEMALE)
+    );
+
+    @DisplayName("MBTI가 E인 사람들의 MBTI 리스트를 생성한다.")
+    @Test
+    void mbtiLetter() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        PersonBitmapIndex index = PersonBitmapIndex.of(table);
+
+        // when
+        List<String> mbtiList = table.map(index.mbti('E').toArray(), row -> table.mbti(row).name());
+
+        // then
+        assertThat(mbtiList).containsExactly("ENFP", "ESTJ");
+    }
+
+    @DisplayName("E 이면서 FEMALE, I 이거나 FEMALE 인 사람을 비트맵 연산으로 찾는다.")
+    @Test
+    void compoundPredicate() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        PersonBitmapIndex index = PersonBitmapIndex.of(table);
+
+        // when
+        RoaringBitmap extravertFemale = index.mbti('E').and(index.gender(FEMALE));
+        RoaringBitmap introvertOrFemale = index.mbti('I').or(index.gender(FEMALE));
+
+        // then
+        assertThat(table.toPeople(extravertFemale.toArray())).extracting("id")
+                .containsExactly(3L);
+        assertThat(table.toPeople(introvertOrFemale.toArray())).extracting("id")
+                .containsExactly(2L, 3L, 4L, 5L);
+        assertThat(index.count('E', FEMALE)).isEqualTo(1);
+        assertThat(index.count(MALE)).isEqualTo(3);
+        assertThat(index.mbti(Mbti.INFP).toArray()).containsExactly(3);
+    }
+
+    @DisplayName("행 추가/삭제 시 인덱스도 함께 갱신된다.")
+    @Test
+    void insertAndDelete() {
+        // given
+        PersonTable table = PersonTable.from(people);
+        PersonBitmapIndex index = PersonBitmapIndex.of(table);
+
+        // when
+        int row = table.add(6L, "Han", 28, "ENTP", FEMALE);
+        table.remove(2);
+
+        // then
+        assertThat(index.mbti('E').toArray()).containsExactly(0, row);
+        assertThat(index.gender(FEMALE).toArray()).containsExactly(4, row);
+        assertThat(index.count('E', FEMALE)).isEqualTo(1);
+    }
+}
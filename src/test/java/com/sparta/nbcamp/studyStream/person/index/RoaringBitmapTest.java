@@ -0,0 +1,102 @@
+package com.sparta.nbcamp.studyStream.person.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoaringBitmapTest {
+
+    @DisplayName("추가, 삭제, 포함 여부를 확인한다.")
+    @Test
+    void addRemoveContains() {
+        // given
+        RoaringBitmap bitmap = RoaringBitmap.of(1, 3, 70_000);
+
+        // when
+        bitmap.remove(3);
+        bitmap.add(5);
+
+        // then
+        assertThat(bitmap.contains(1)).isTrue();
+        assertThat(bitmap.contains(3)).isFalse();
+        assertThat(bitmap.toArray()).containsExactly(1, 5, 70_000);
+        assertThat(bitmap.cardinality()).isEqualTo(3);
+    }
+
+    @DisplayName("and, or, andNot 은 새 비트맵을 리턴하고 원본은 변경하지 않는다.")
+    @Test
+    void setOperations() {
+        // given
+        RoaringBitmap bitmap1 = RoaringBitmap.of(1, 2, 3, 100_000);
+        RoaringBitmap bitmap2 = RoaringBitmap.of(2, 3, 4, 200_000);
+
+        // when
+        RoaringBitmap and = bitmap1.and(bitmap2);
+        RoaringBitmap or = bitmap1.or(bitmap2);
+        RoaringBitmap andNot = bitmap1.andNot(bitmap2);
+
+        // then
+        assertThat(and.toArray()).containsExactly(2, 3);
+        assertThat(or.toArray()).containsExactly(1, 2, 3, 4, 100_000, 200_000);
+        assertThat(andNot.toArray()).containsExactly(1, 100_000);
+        assertThat(bitmap1.andCardinality(bitmap2)).isEqualTo(2);
+        assertThat(bitmap1.toArray()).containsExactly(1, 2, 3, 100_000);
+    }
+
+    @DisplayName("배열/비트맵 컨테이너가 섞여 있어도 BitSet과 같은 결과를 리턴한다.")
+    @Test
+    void sameAsBitSet() {
+        // given
+        Random random = new Random(42);
+        RoaringBitmap dense = new RoaringBitmap();
+        RoaringBitmap sparse = new RoaringBitmap();
+        BitSet denseBitSet = new BitSet();
+        BitSet sparseBitSet = new BitSet();
+        for (int i = 0; i < 50_000; i++) {
+            int value = random.nextInt(100_000);    // 밀집 -> 비트맵 컨테이너
+            dense.add(value);
+            denseBitSet.set(value);
+        }
+        for (int i = 0; i < 3_000; i++) {
+            int value = random.nextInt(300_000);    // 희소 -> 배열 컨테이너
+            sparse.add(value);
+            sparseBitSet.set(value);
+        }
+        for (int i = 0; i < 40_000; i++) {
+            int value = random.nextInt(100_000);    // 삭제로 비트맵 -> 배열 전환
+            dense.remove(value);
+            denseBitSet.clear(value);
+        }
+
+        // when
+        BitSet and = (BitSet) denseBitSet.clone();
+        and.and(sparseBitSet);
+        BitSet or = (BitSet) denseBitSet.clone();
+        or.or(sparseBitSet);
+        BitSet andNot = (BitSet) denseBitSet.clone();
+        andNot.andNot(sparseBitSet);
+
+        // then
+        assertThat(dense.toArray()).isEqualTo(denseBitSet.stream().toArray());
+        assertThat(dense.and(sparse).toArray()).isEqualTo(and.stream().toArray());
+        assertThat(dense.andCardinality(sparse)).isEqualTo(and.cardinality());
+        assertThat(dense.or(sparse).toArray()).isEqualTo(or.stream().toArray());
+        assertThat(dense.andNot(sparse).toArray()).isEqualTo(andNot.stream().toArray());
+    }
+
+    @DisplayName("음수는 저장할 수 없다.")
+    @Test
+    void negative() {
+        // given
+        RoaringBitmap bitmap = new RoaringBitmap();
+
+        // when & then
+        assertThatThrownBy(() -> bitmap.add(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
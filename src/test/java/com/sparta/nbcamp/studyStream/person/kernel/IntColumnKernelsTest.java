@@ -0,0 +1,80 @@
+package com.sparta.nbcamp.studyStream.person.kernel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntColumnKernelsTest {
+
+    @DisplayName("테스트 JVM은 jdk.incubator.vector 모듈과 함께 실행되므로 벡터 커널이 선택된다.")
+    @Test
+    void best() {
+        // when
+        IntColumnKernel kernel = IntColumnKernels.best();
+
+        // then
+        assertThat(IntColumnKernels.isVectorAvailable()).isTrue();
+        assertThat(kernel).isInstanceOf(VectorIntColumnKernel.class);
+        assertThat(kernel.lanes()).isGreaterThanOrEqualTo(2);
+    }
+
+    @DisplayName("벡터 커널은 길이가 레인 수의 배수가 아니어도(꼬리 포함) 스칼라 커널과 같은 결과를 낸다.")
+    @Test
+    void vectorMatchesScalar() {
+        // given
+        IntColumnKernel scalar = IntColumnKernels.scalar();
+        IntColumnKernel vector = IntColumnKernels.vector();
+        SplittableRandom random = new SplittableRandom(42);
+        int[] ages = random.ints(1_003, 0, 100).toArray();
+        BitSet females = new BitSet();
+        for (int i = 0; i < ages.length; i++) {
+            females.set(i, random.nextBoolean());
+        }
+        long[] mask = females.toLongArray();
+
+        for (int length : new int[]{0, 1, 7, 64, 65, 1_000, 1_003}) {
+            // when / then
+            assertThat(vector.sum(ages, length)).isEqualTo(scalar.sum(ages, length));
+            assertThat(vector.min(ages, length)).isEqualTo(scalar.min(ages, length));
+            assertThat(vector.max(ages, length)).isEqualTo(scalar.max(ages, length));
+            assertThat(vector.countInRange(ages, length, 20, 30)).isEqualTo(scalar.countInRange(ages, length, 20, 30));
+            assertThat(vector.maskedSum(ages, length, mask, false)).isEqualTo(scalar.maskedSum(ages, length, mask, false));
+            assertThat(vector.maskedSum(ages, length, mask, true)).isEqualTo(scalar.maskedSum(ages, length, mask, true));
+            assertThat(vector.maskedCount(mask, length, true)).isEqualTo(scalar.maskedCount(mask, length, true));
+        }
+    }
+
+    @DisplayName("int 범위를 넘는 합계도 음수 / 극단값까지 long으로 정확하게 계산한다.")
+    @Test
+    void sumOverflow() {
+        // given
+        int[] values = new int[300_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 3 == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE - i;
+        }
+
+        // when
+        long vectorSum = IntColumnKernels.vector().sum(values, values.length);
+        long vectorMaskedSum = IntColumnKernels.vector().maskedSum(values, values.length, new long[0], true);
+
+        // then
+        long expected = IntColumnKernels.scalar().sum(values, values.length);
+        assertThat(vectorSum).isEqualTo(expected);
+        assertThat(vectorMaskedSum).isEqualTo(expected);
+    }
+
+    @DisplayName("빈 열의 min / max 는 항등원(Integer.MAX_VALUE / MIN_VALUE)을 리턴한다.")
+    @Test
+    void emptyMinMax() {
+        // given
+        IntColumnKernel vector = IntColumnKernels.vector();
+
+        // when / then
+        assertThat(vector.min(new int[0], 0)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(vector.max(new int[0], 0)).isEqualTo(Integer.MIN_VALUE);
+    }
+}
@@ -0,0 +1,120 @@
+package com.sparta.nbcamp.studyStream.person.parallel;
+
+import com.sparta.nbcamp.studyStream.person.Gender;
+import com.sparta.nbcamp.studyStream.person.People;
+import com.sparta.nbcamp.studyStream.person.Person;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class ParallelPersonQueryTest {
+
+    private final List<People> peopleList = List.of(
+            new People(List.of(
+                    new Person(1L, "Kim", 28, "ENFP", MALE),
+                    new Person(2L, "Lee", 31, "ENFJ", MALE),
+                    new Person(3L, "Hong", 20, "ESTJ", FEMALE),
+                    new Person(4L, "Park", 24, "ESTP", MALE),
+                    new Person(5L, "Kang", 33, "ENFJ", FEMALE)
+            )),
+            new People(List.of(
+                    new Person(6L, "Han", 28, "INTP", MALE),
+                    new Person(7L, "Ko", 31, "ESTP", MALE),
+                    new Person(8L, "Koo", 20, "ENTJ", FEMALE),
+                    new Person(9L, "Jeong", 24, "ESTJ", MALE),
+                    new Person(10L, "Hwang", 33, "ISTJ", FEMALE)
+            )),
+            new People(List.of(
+                    new Person(11L, "Son", 28, "INFP", MALE),
+                    new Person(12L, "Kim", 31, "INTP", MALE),
+                    new Person(13L, "Na", 20, "ISTP", FEMALE),
+                    new Person(14L, "Jang", 24, "INFP", MALE),
+                    new Person(15L, "Min", 33, "ISTJ", FEMALE)
+            ))
+    );
+
+    private final ParallelPersonQuery query = new ParallelPersonQuery();
+
+    @DisplayName("MBTI E, T, I그룹의 People 리스트를 하나의 Person 리스트로 만든다. (flatMap과 같은 순서)")
+    @Test
+    void stream() {
+        // given
+        List<Person> expected = peopleList.stream()
+                .flatMap(people -> people.getPeople().stream())
+                .collect(Collectors.toList());
+
+        // when
+        List<Person> sequential = ParallelPersonQuery.stream(peopleList, false).collect(Collectors.toList());
+        List<Person> parallel = ParallelPersonQuery.stream(peopleList, true).collect(Collectors.toList());
+
+        // then
+        assertThat(sequential).containsExactlyElementsOf(expected);
+        assertThat(parallel).containsExactlyElementsOf(expected);
+    }
+
+    @DisplayName("30대 사람들만 순서를 유지하며 필터링한다.")
+    @Test
+    void filter() {
+        // when
+        List<Person> people30s = query.filter(peopleList, person -> person.getAge() >= 30 && person.getAge() < 40);
+
+        // then
+        assertThat(people30s).extracting("id")
+                .containsExactly(2L, 5L, 7L, 10L, 12L, 15L);
+    }
+
+    @DisplayName("20대인 사람들의 수와 남성인 사람들의 평균 나이를 계산한다.")
+    @Test
+    void countAndAverage() {
+        // when
+        long count = query.count(peopleList, person -> person.getAge() >= 20 && person.getAge() < 30);
+        double average = query.average(peopleList, person -> person.getGender() == MALE, Person::getAge).orElse(0.0);
+
+        // then
+        assertThat(count).isEqualTo(9L);
+        assertThat(average).isEqualTo((28 + 31 + 24 + 28 + 31 + 24 + 28 + 31 + 24) / 9.0);
+    }
+
+    @DisplayName("Gender별 인원 수를 계산한다.")
+    @Test
+    void groupingCount() {
+        // when
+        Map<Gender, Long> counts = query.groupingCount(peopleList, Person::getGender);
+
+        // then
+        assertThat(counts).containsOnly(entry(MALE, 9L), entry(FEMALE, 6L));
+    }
+
+    @DisplayName("리프 크기보다 큰 데이터도 여러 작업으로 나누어 같은 결과를 리턴한다.")
+    @Test
+    void largeInput() {
+        // given
+        List<People> largeList = new ArrayList<>();
+        long id = 1;
+        for (int group = 0; group < 3; group++) {
+            List<Person> people = new ArrayList<>();
+            for (int i = 0; i < (group + 1) * 10_000; i++) {
+                people.add(new Person(id++, "Kim", (int) (id % 60), "ENFP", id % 2 == 0 ? MALE : FEMALE));
+            }
+            largeList.add(new People(people));
+        }
+
+        // when
+        long count = query.count(largeList, person -> person.getAge() >= 30 && person.getAge() < 40);
+
+        // then
+        assertThat(count).isEqualTo(ParallelPersonQuery.stream(largeList, false)
+                .filter(person -> person.getAge() >= 30 && person.getAge() < 40)
+                .count());
+        assertThat(query.filter(largeList, person -> true)).hasSize(60_000);
+    }
+}
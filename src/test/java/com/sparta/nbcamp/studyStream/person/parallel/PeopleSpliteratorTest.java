@@ -0,0 +1,83 @@
+package com.sparta.nbcamp.studyStream.person.parallel;
+
+import com.sparta.nbcamp.studyStream.person.People;
+import com.sparta.nbcamp.studyStream.person.Person;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PeopleSpliteratorTest {
+
+    private final List<People> peopleList = List.of(
+            new People(List.of(
+                    new Person(1L, "Kim", 28, "ENFP", MALE),
+                    new Person(2L, "Lee", 31, "ENFJ", MALE),
+                    new Person(3L, "Hong", 20, "ESTJ", FEMALE),
+                    new Person(4L, "Park", 24, "ESTP", MALE),
+                    new Person(5L, "Kang", 33, "ENFJ", FEMALE)
+            )),
+            new People(List.of()),
+            new People(List.of(
+                    new Person(6L, "Han", 28, "INTP", MALE)
+            ))
+    );
+
+    @DisplayName("그룹 경계와 상관없이 전체 크기의 절반으로 분할된다.")
+    @Test
+    void trySplit() {
+        // given
+        Spliterator<Person> suffix = new PeopleSpliterator(peopleList);
+
+        // when
+        Spliterator<Person> prefix = suffix.trySplit();
+
+        // then
+        assertThat(prefix.estimateSize()).isEqualTo(3);
+        assertThat(suffix.estimateSize()).isEqualTo(3);
+        assertThat(ids(prefix)).containsExactly(1L, 2L, 3L);
+        assertThat(ids(suffix)).containsExactly(4L, 5L, 6L);
+    }
+
+    @DisplayName("빈 그룹을 건너뛰며 그룹 순서대로 순회한다.")
+    @Test
+    void tryAdvance() {
+        // given
+        Spliterator<Person> spliterator = new PeopleSpliterator(peopleList);
+        spliterator.tryAdvance(person -> {
+        });
+        List<Long> ids = new ArrayList<>();
+
+        // when
+        while (spliterator.tryAdvance(person -> ids.add(person.getId()))) {
+        }
+
+        // then
+        assertThat(ids).containsExactly(2L, 3L, 4L, 5L, 6L);
+    }
+
+    @DisplayName("더 이상 나눌 수 없으면 null을 리턴한다.")
+    @Test
+    void trySplitSingleElement() {
+        // given
+        Spliterator<Person> spliterator = new PeopleSpliterator(List.of(peopleList.get(2)));
+
+        // when
+        Spliterator<Person> prefix = spliterator.trySplit();
+
+        // then
+        assertThat(prefix).isNull();
+    }
+
+    private List<Long> ids(Spliterator<Person> spliterator) {
+        List<Long> ids = new ArrayList<>();
+        spliterator.forEachRemaining(person -> ids.add(person.getId()));
+        return ids;
+    }
+}
@@ -0,0 +1,133 @@
+package com.sparta.nbcamp.studyStream.person.query;
+
+import com.sparta.nbcamp.studyStream.person.Gender;
+import com.sparta.nbcamp.studyStream.person.Person;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryTest {
+
+    private final List<Person> people = List.of(
+            new Person(1L, "Kim", 28, "ENFP", MALE),
+            new Person(2L, "Lee", 31, "INFJ", MALE),
+            new Person(3L, "Hong", 20, "ESTJ", FEMALE),
+            new Person(4L, "Park", 24, "INFP", MALE),
+            new Person(5L, "Kang", 33, "ISTJ", FEMALE)
+    );
+
+    @DisplayName("Stream과 달리 Query는 여러 번, 다른 데이터에 재사용할 수 있다.")
+    @Test
+    void reuse() {
+        // given
+        Query<Person, List<String>> extravertMbti = Query.<Person>builder()
+                .filter(person -> person.getMbti().startsWith("E"))
+                .map(Person::getMbti)
+                .toList();
+
+        // when
+        List<String> result1 = extravertMbti.execute(people);
+        List<String> result2 = extravertMbti.execute(people);
+        List<String> result3 = extravertMbti.execute(List.of(new Person(6L, "Han", 28, "ENTP", MALE)));
+
+        // then
+        assertThat(result1).containsExactly("ENFP", "ESTJ");
+        assertThat(result2).containsExactly("ENFP", "ESTJ");
+        assertThat(result3).containsExactly("ENTP");
+    }
+
+    @DisplayName("나이 오름차순 정렬, 중복 제거, limit을 조합한다.")
+    @Test
+    void sortedDistinctLimit() {
+        // given
+        Query<Person, List<Integer>> youngestAges = Query.<Person>builder()
+                .sorted(Comparator.comparing(Person::getAge))
+                .map(person -> person.getAge() / 10 * 10)
+                .distinct()
+                .limit(1)
+                .toList();
+        Query<Person, List<Long>> sortedIds = Query.<Person>builder()
+                .sorted(Comparator.comparing(Person::getAge))
+                .map(Person::getId)
+                .toList();
+
+        // when & then
+        assertThat(youngestAges.execute(people)).containsExactly(20);
+        assertThat(sortedIds.execute(people)).containsExactly(3L, 4L, 1L, 2L, 5L);
+    }
+
+    @DisplayName("남성 평균 나이와 20대 인원을 계산한다.")
+    @Test
+    void aggregate() {
+        // given
+        Query<Person, Long> count20s = Query.<Person>builder()
+                .filter(person -> person.getAge() >= 20 && person.getAge() < 30)
+                .count();
+        Query<Person, OptionalDouble> maleAverageAge = Query.<Person>builder()
+                .filter(person -> person.getGender() == Gender.MALE)
+                .average(Person::getAge);
+
+        // when & then
+        assertThat(count20s.execute(people)).isEqualTo(3L);
+        assertThat(maleAverageAge.execute(people)).hasValue(27.666666666666668);
+        assertThat(maleAverageAge.execute(List.of())).isEmpty();
+    }
+
+    @DisplayName("중간 빌더를 공유해 여러 질의로 나눌 수 있다.")
+    @Test
+    void branch() {
+        // given
+        QueryBuilder<Person, Person> males = Query.<Person>builder()
+                .filter(person -> person.getGender() == MALE);
+
+        // when
+        Query<Person, Long> maleCount = males.count();
+        Query<Person, List<String>> maleNames = males.map(Person::getName).toList();
+
+        // then
+        assertThat(maleCount.execute(people)).isEqualTo(3L);
+        assertThat(maleNames.execute(people)).containsExactly("Kim", "Lee", "Park");
+    }
+
+    @DisplayName("여러 스레드에서 같은 Query를 동시에 실행해도 결과가 같다.")
+    @Test
+    void threadSafe() throws Exception {
+        // given
+        Query<Person, Long> count30s = Query.<Person>builder()
+                .filter(person -> person.getAge() >= 30 && person.getAge() < 40)
+                .count();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(executor.submit(() -> count30s.execute(people)));
+        }
+
+        // then
+        for (Future<Long> future : futures) {
+            assertThat(future.get()).isEqualTo(2L);
+        }
+        executor.shutdown();
+    }
+
+    @DisplayName("limit은 0 이상이어야 한다.")
+    @Test
+    void negativeLimit() {
+        // when & then
+        assertThatThrownBy(() -> Query.<Person>builder().limit(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.sparta.nbcamp.studyStream.person.query;
+
+import com.sparta.nbcamp.studyStream.person.Person;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SharedScanTest {
+
+    private final List<Person> people = List.of(
+            new Person(1L, "Kim", 28, "ENFP", MALE),
+            new Person(2L, "Lee", 31, "INFJ", MALE),
+            new Person(3L, "Hong", 20, "ESTJ", FEMALE),
+            new Person(4L, "Park", 24, "INFP", MALE),
+            new Person(5L, "Kang", 33, "ISTJ", FEMALE)
+    );
+
+    @DisplayName("20대 인원 수와 20대 목록을 한 번의 순회로 구한다.")
+    @Test
+    void count20sPeople() {
+        // given
+        Predicate<Person> is20s = person -> person.getAge() >= 20 && person.getAge() < 30;
+        SharedScan.Builder<Person> builder = SharedScan.builder();
+        SharedScan.Slot<Long> count = builder.add(Collectors.counting(), is20s);
+        SharedScan.Slot<List<Long>> ids = builder.add(Collectors.mapping(Person::getId, Collectors.toList()), is20s);
+        SharedScan<Person> scan = builder.build();
+
+        // when
+        SharedScan.Results results = scan.execute(people);
+
+        // then
+        assertThat(results.get(count)).isEqualTo(3L);
+        assertThat(results.get(ids)).containsExactly(1L, 3L, 4L);
+        assertThat(scan.predicateCount()).isEqualTo(1);
+    }
+
+    @DisplayName("여러 질의가 공유하는 조건은 요소마다 한 번만 평가한다.")
+    @Test
+    void sharedPredicate() {
+        // given
+        AtomicInteger maleEvaluations = new AtomicInteger();
+        Predicate<Person> isMale = person -> {
+            maleEvaluations.incrementAndGet();
+            return person.getGender() == MALE;
+        };
+        Predicate<Person> is20s = person -> person.getAge() >= 20 && person.getAge() < 30;
+        Predicate<Person> isExtravert = person -> person.getMbti().startsWith("E");
+
+        SharedScan.Builder<Person> builder = SharedScan.builder();
+        SharedScan.Slot<Double> maleAverageAge = builder.add(Collectors.averagingInt(Person::getAge), isMale);
+        SharedScan.Slot<Long> male20s = builder.add(Collectors.counting(), isMale, is20s);
+        SharedScan.Slot<Long> maleExtravert = builder.add(Collectors.counting(), isMale, isExtravert);
+        SharedScan.Slot<Long> total = builder.add(Collectors.counting());
+        SharedScan<Person> scan = builder.build();
+
+        // when
+        SharedScan.Results results = scan.execute(people);
+
+        // then
+        assertThat(results.get(maleAverageAge)).isEqualTo(27.666666666666668);
+        assertThat(results.get(male20s)).isEqualTo(2L);
+        assertThat(results.get(maleExtravert)).isEqualTo(1L);
+        assertThat(results.get(total)).isEqualTo(5L);
+        assertThat(maleEvaluations.get()).isEqualTo(people.size());
+        assertThat(scan.queryCount()).isEqualTo(4);
+        assertThat(scan.predicateCount()).isEqualTo(3);
+    }
+
+    @DisplayName("같은 SharedScan을 다른 데이터에 다시 실행할 수 있다.")
+    @Test
+    void reuse() {
+        // given
+        Predicate<Person> isFemale = person -> person.getGender() == FEMALE;
+        SharedScan.Builder<Person> builder = SharedScan.builder();
+        SharedScan.Slot<Long> females = builder.add(Collectors.counting(), isFemale);
+        SharedScan<Person> scan = builder.build();
+
+        // when
+        long result1 = scan.execute(people).get(females);
+        long result2 = scan.execute(people.subList(0, 2)).get(females);
+
+        // then
+        assertThat(result1).isEqualTo(2L);
+        assertThat(result2).isZero();
+    }
+}
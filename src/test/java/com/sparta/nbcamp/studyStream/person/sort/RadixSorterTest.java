@@ -0,0 +1,89 @@
+package com.sparta.nbcamp.studyStream.person.sort;
+
+import com.sparta.nbcamp.studyStream.person.Person;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RadixSorterTest {
+
+    private final List<Person> people = List.of(
+            new Person(1L, "Kim", 28, "ENFP", MALE),
+            new Person(2L, "Lee", 31, "INFJ", MALE),
+            new Person(3L, "Hong", 20, "ESTJ", FEMALE),
+            new Person(4L, "Park", 28, "INFP", MALE),
+            new Person(5L, "Kang", 20, "ISTJ", FEMALE)
+    );
+
+    @DisplayName("나이 오름차순 / 내림차순으로 정렬하고, 나이가 같으면 원래 순서를 유지한다.")
+    @Test
+    void sortByAge() {
+        // given
+        RadixSorter sorter = RadixSorter.sequential();
+
+        // when
+        List<Person> ascending = sorter.sortByAge(people, SortOrder.ASCENDING);
+        List<Person> descending = sorter.sortByAge(people, SortOrder.DESCENDING);
+
+        // then
+        assertThat(ascending).extracting("id").containsExactly(3L, 5L, 1L, 4L, 2L);
+        assertThat(descending).extracting("id").containsExactly(2L, 1L, 4L, 3L, 5L);
+    }
+
+    @DisplayName("음수와 극단값이 섞인 int / long 키도 Comparator 정렬과 같은 순서가 된다.")
+    @Test
+    void extremes() {
+        // given
+        RadixSorter sorter = RadixSorter.sequential();
+        int[] intKeys = {0, -1, Integer.MAX_VALUE, Integer.MIN_VALUE, 42, -42, 0};
+        long[] longKeys = {0L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, 1L << 40, -(1L << 40), 7L};
+
+        // when
+        int[] intOrder = sorter.order(intKeys, SortOrder.ASCENDING);
+        int[] longOrder = sorter.order(longKeys, SortOrder.DESCENDING);
+
+        // then
+        assertThat(intOrder).containsExactly(3, 5, 1, 0, 6, 4, 2);
+        assertThat(longOrder).containsExactly(2, 4, 6, 0, 1, 5, 3);
+    }
+
+    @DisplayName("병렬 모드도 Stream.sorted (안정 정렬)와 같은 순서를 만든다.")
+    @Test
+    void parallelMatchesSorted() {
+        // given
+        SplittableRandom random = new SplittableRandom(9);
+        List<Person> many = new ArrayList<>();
+        for (int i = 0; i < 300_000; i++) {
+            many.add(new Person(random.nextLong(-1_000_000, 1_000_000), "P", random.nextInt(0, 100), "ENFP",
+                    MALE));
+        }
+        List<Person> byAge;
+        List<Person> byId;
+
+        // when
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            RadixSorter sorter = RadixSorter.parallel(pool);
+            byAge = sorter.sortByAge(many, SortOrder.DESCENDING);
+            byId = sorter.sortById(many, SortOrder.ASCENDING);
+        }
+
+        // then
+        assertThat(byAge).containsExactlyElementsOf(many.stream()
+                .sorted(Comparator.comparing(Person::getAge).reversed())
+                .toList());
+        assertThat(byId).containsExactlyElementsOf(many.stream()
+                .sorted(Comparator.comparing(Person::getId))
+                .toList());
+        assertThat(byId).extracting("id").containsExactlyElementsOf(RadixSorter.sequential()
+                .sortById(many, SortOrder.ASCENDING).stream().map(Person::getId).toList());
+    }
+}
@@ -0,0 +1,173 @@
+package com.sparta.nbcamp.studyStream.person.store;
+
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+class MappedPersonFileTest {
+
+    private final List<Person> people = List.of(
+            new Person(1L, "Kim", 28, "ENFP", MALE),
+            new Person(2L, "Lee", 31, "INFJ", MALE),
+            new Person(3L, "홍길동", 20, "ESTJ", FEMALE),
+            new Person(4L, "Park", 24, "INFP", MALE),
+            new Person(5L, "Kang", 33, "ISTJ", FEMALE)
+    );
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("파일에 기록한 Person을 매핑해서 다시 읽는다.")
+    @Test
+    void writeAndOpen() throws IOException {
+        // given
+        Path path = tempDir.resolve("people.bin");
+        MappedPersonFile.write(path, people);
+
+        // when
+        try (MappedPersonFile file = MappedPersonFile.open(path)) {
+
+            // then
+            assertThat(file.size()).isEqualTo(5);
+            assertThat(file.toPeople(new int[]{0, 1, 2, 3, 4}))
+                    .extracting("id", "name", "age", "mbti", "gender")
+                    .containsExactly(
+                            tuple(1L, "Kim", 28, "ENFP", MALE),
+                            tuple(2L, "Lee", 31, "INFJ", MALE),
+                            tuple(3L, "홍길동", 20, "ESTJ", FEMALE),
+                            tuple(4L, "Park", 24, "INFP", MALE),
+                            tuple(5L, "Kang", 33, "ISTJ", FEMALE)
+                    );
+        }
+    }
+
+    @DisplayName("매핑된 파일 위에서 나이/MBTI/Gender 조건으로 바로 조회한다.")
+    @Test
+    void query() throws IOException {
+        // given
+        Path path = tempDir.resolve("people.bin");
+        MappedPersonFile.write(path, people);
+
+        // when
+        try (MappedPersonFile file = MappedPersonFile.open(path)) {
+
+            // then
+            assertThat(file.toPeople(file.filterByAge(30, 40))).extracting("id").containsExactly(2L, 5L);
+            assertThat(file.toPeople(file.filterByMbti('E'))).extracting("mbti").containsExactly("ENFP", "ESTJ");
+            assertThat(file.averageAge(file.filterByGender(MALE))).hasValue(27.666666666666668);
+            assertThat(file.count(row -> file.age(row) >= 20 && file.age(row) < 30)).isEqualTo(3L);
+        }
+    }
+
+    @DisplayName("삭제된 행은 기록하지 않고, 이름은 사전에 한 번씩만 저장한다.")
+    @Test
+    void writeTable() throws IOException {
+        // given
+        PersonTable table = new PersonTable();
+        for (long id = 0; id < 10_000; id++) {
+            table.add(id, id % 2 == 0 ? "Kim" : "Lee", (int) (id % 100), "ENFP", MALE);
+        }
+        table.remove(0);
+        Path path = tempDir.resolve("table.bin");
+
+        // when
+        MappedPersonFile.write(path, table);
+
+        // then
+        try (MappedPersonFile file = MappedPersonFile.open(path)) {
+            assertThat(file.size()).isEqualTo(9_999);
+            assertThat(file.id(0)).isEqualTo(1L);
+            assertThat(file.name(9_998)).isEqualTo("Lee");
+        }
+        assertThat(Files.size(path)).isEqualTo(MappedPersonFile.HEADER_SIZE + 9_999L * PersonRowFormat.ROW_SIZE
+                + (2 + 3) * 2);
+    }
+
+    @DisplayName("기록할 수 없는 이름이 있으면 파일을 열기 전에 실패해 기존 파일을 지우지 않는다.")
+    @Test
+    void rejectedWriteKeepsExistingFile() throws IOException {
+        // given
+        Path path = tempDir.resolve("people.bin");
+        MappedPersonFile.write(path, people);
+        long size = Files.size(path);
+        List<Person> tooLong = List.of(new Person(9L, "a".repeat(0x10000), 20, "INTP", MALE));
+
+        // when
+        assertThatThrownBy(() -> MappedPersonFile.write(path, tooLong))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // then
+        assertThat(Files.size(path)).isEqualTo(size);
+        try (MappedPersonFile file = MappedPersonFile.open(path)) {
+            assertThat(file.size()).isEqualTo(5);
+        }
+    }
+
+    @DisplayName("최대 길이(65535바이트) 이름도 기록하고 다시 읽는다.")
+    @Test
+    void longestName() throws IOException {
+        // given
+        Path path = tempDir.resolve("long.bin");
+        String name = "a".repeat(0xFFFF);
+
+        // when
+        MappedPersonFile.write(path, List.of(new Person(1L, name, 20, "INTP", MALE)));
+
+        // then
+        try (MappedPersonFile file = MappedPersonFile.open(path)) {
+            assertThat(file.name(0)).isEqualTo(name);
+        }
+    }
+
+    @DisplayName("Person 파일이 아니거나 헤더와 파일 크기가 맞지 않으면(잘린 파일) 예외를 던진다.")
+    @Test
+    void invalidFile() throws IOException {
+        // given
+        Path text = tempDir.resolve("text.txt");
+        Files.writeString(text, "id,name,age,mbti,gender");
+
+        Path truncatedRows = tempDir.resolve("truncated-rows.bin");
+        MappedPersonFile.write(truncatedRows, people);
+        truncate(truncatedRows, MappedPersonFile.HEADER_SIZE + 2L * PersonRowFormat.ROW_SIZE);
+
+        Path truncatedNames = tempDir.resolve("truncated-names.bin");
+        MappedPersonFile.write(truncatedNames, people);
+        truncate(truncatedNames, Files.size(truncatedNames) - 1);
+
+        Path negativeSize = tempDir.resolve("negative-size.bin");
+        MappedPersonFile.write(negativeSize, people);
+        try (FileChannel channel = FileChannel.open(negativeSize, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(0, -1), 8);
+        }
+
+        // when & then
+        for (Path path : List.of(text, truncatedRows, truncatedNames, negativeSize)) {
+            assertThatThrownBy(() -> MappedPersonFile.open(path))
+                    .as(path.getFileName().toString())
+                    .isInstanceOf(IOException.class);
+        }
+    }
+
+    private static void truncate(Path path, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+}
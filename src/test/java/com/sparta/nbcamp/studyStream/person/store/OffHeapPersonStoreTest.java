@@ -0,0 +1,176 @@
+package com.sparta.nbcamp.studyStream.person.store;
+
+import com.sparta.nbcamp.studyStream.person.Person;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static com.sparta.nbcamp.studyStream.support.AllocationAssertions.allocatedBytes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+class OffHeapPersonStoreTest {
+
+    private final List<Person> people = List.of(
+            new Person(1L, "Kim", 28, "ENFP", MALE),
+            new Person(2L, "Lee", 31, "INFJ", MALE),
+            new Person(3L, "홍길동", 20, "ESTJ", FEMALE),
+            new Person(4L, "Park", 24, "INFP", MALE),
+            new Person(5L, "Kang", 33, "ISTJ", FEMALE)
+    );
+
+    @DisplayName("off-heap에 저장한 Person을 다시 읽는다.")
+    @Test
+    void addAndRead() {
+        // given
+        try (OffHeapPersonStore store = OffHeapPersonStore.from(people)) {
+
+            // when
+            List<Person> result = store.toPeople(new int[]{0, 2, 4});
+
+            // then
+            assertThat(result).extracting("id", "name", "age", "mbti", "gender")
+                    .containsExactly(
+                            tuple(1L, "Kim", 28, "ENFP", MALE),
+                            tuple(3L, "홍길동", 20, "ESTJ", FEMALE),
+                            tuple(5L, "Kang", 33, "ISTJ", FEMALE)
+                    );
+        }
+    }
+
+    @DisplayName("테스트와 같은 filter / map / average 연산을 제공한다.")
+    @Test
+    void query() {
+        // given
+        try (OffHeapPersonStore store = OffHeapPersonStore.from(people)) {
+
+            // when & then
+            assertThat(store.toPeople(store.filterByAge(30, 40))).extracting("id").containsExactly(2L, 5L);
+            assertThat(store.toPeople(store.filterByMbti('E'))).extracting("mbti").containsExactly("ENFP", "ESTJ");
+            assertThat(store.averageAge(store.filterByGender(MALE))).hasValue(27.666666666666668);
+            assertThat(store.count(row -> store.age(row) >= 20 && store.age(row) < 30)).isEqualTo(3L);
+        }
+    }
+
+    @DisplayName("세그먼트 크기를 넘는 행과 많은 이름도 저장한다.")
+    @Test
+    void manySegments() {
+        // given
+        try (OffHeapPersonStore store = new OffHeapPersonStore(4)) {    // 세그먼트당 16행
+
+            // when
+            for (long id = 0; id < 10_000; id++) {
+                store.add(id, "name-" + (id % 1_000), (int) (id % 100), "INTP", id % 2 == 0 ? MALE : FEMALE);
+            }
+
+            // then
+            assertThat(store.size()).isEqualTo(10_000);
+            assertThat(store.id(9_999)).isEqualTo(9_999L);
+            assertThat(store.name(9_999)).isEqualTo("name-999");
+            assertThat(store.gender(9_999)).isEqualTo(FEMALE);
+            assertThat(store.offHeapBytes()).isGreaterThanOrEqualTo(10_000L * PersonRowFormat.ROW_SIZE);
+        }
+    }
+
+    @DisplayName("같은 이름은 한 번만 저장하고, 한글과 보조 문자도 String.getBytes와 같은 UTF-8로 저장한다.")
+    @Test
+    void names() {
+        // given
+        List<String> names = List.of("Kim", "홍길동", "😀smile", "broken\uD800", "Kim", "홍길동");
+        try (OffHeapPersonStore store = new OffHeapPersonStore(4)) {
+
+            // when
+            for (int i = 0; i < names.size(); i++) {
+                store.add(i, names.get(i), 20, "INTP", MALE);
+            }
+
+            // then
+            assertThat(store.name(2)).isEqualTo("😀smile");
+            assertThat(store.name(3)).isEqualTo("broken?");
+            assertThat(store.name(4)).isEqualTo("Kim");
+            assertThat(store.name(5)).isEqualTo("홍길동");
+        }
+    }
+
+    @DisplayName("거절된 행은 이름을 저장하지 않고 off-heap 메모리도 늘리지 않는다.")
+    @Test
+    void rejectedRowLeavesNoTrace() {
+        // given
+        try (OffHeapPersonStore store = new OffHeapPersonStore(0)) {    // 세그먼트당 1행
+            store.add(1L, "Kim", 28, "ENFP", MALE);
+            long offHeapBytes = store.offHeapBytes();
+
+            // when & then
+            assertThatThrownBy(() -> store.add(2L, "Orphan-1", 30, "XXXX", MALE))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> store.add(3L, "Orphan-2", 30, "INTP", null))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatThrownBy(() -> store.add(4L, "Orphan-3", -1, "INTP", FEMALE))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(store.size()).isEqualTo(1);
+            assertThat(store.nameCount()).isEqualTo(1);
+            assertThat(store.offHeapBytes()).isEqualTo(offHeapBytes);
+        }
+    }
+
+    @DisplayName("행과 서로 다른 이름이 늘어도 힙 할당은 늘지 않는다. (이름 사전도 off-heap)")
+    @Test
+    void heapDoesNotGrow() {
+        // given
+        String[] names = new String[100_000];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "name-" + i;
+        }
+
+        try (OffHeapPersonStore store = new OffHeapPersonStore()) {
+            for (int i = 0; i < 10_000; i++) {    // JIT 워밍업
+                store.add(i, names[i % 100], 20, "INTP", MALE);
+            }
+
+            // when
+            long allocated = allocatedBytes(() -> {
+                for (int i = 0; i < 200_000; i++) {
+                    store.add(i, names[i % names.length], i % 100, "INTP", i % 2 == 0 ? MALE : FEMALE);
+                }
+            });
+
+            // then
+            // 버퍼를 키울 때 만드는 ByteBuffer 객체 몇 개뿐이다. 이름마다 힙 객체를 만들면 수 MB가 된다.
+            assertThat(store.size()).isEqualTo(210_000);
+            assertThat(allocated).isLessThan(64 * 1024L);
+        }
+    }
+
+    @DisplayName("닫은 뒤에 접근하면 예외를 던진다.")
+    @Test
+    void close() {
+        // given
+        OffHeapPersonStore store = OffHeapPersonStore.from(people);
+
+        // when
+        store.close();
+
+        // then
+        assertThat(store.isClosed()).isTrue();
+        assertThatThrownBy(() -> store.age(0))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> store.add(people.get(0)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("범위를 벗어난 행 번호는 예외를 던진다.")
+    @Test
+    void outOfBounds() {
+        // given
+        try (OffHeapPersonStore store = OffHeapPersonStore.from(people)) {
+
+            // when & then
+            assertThatThrownBy(() -> store.age(5))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+}
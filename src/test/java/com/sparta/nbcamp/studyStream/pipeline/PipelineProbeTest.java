@@ -0,0 +1,130 @@
+package com.sparta.nbcamp.studyStream.pipeline;
+
+import com.sparta.nbcamp.studyStream.person.Person;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+class PipelineProbeTest {
+
+    private final List<Person> people = List.of(
+            new Person(1L, "Kim", 28, "ENFP", MALE),
+            new Person(2L, "Lee", 31, "INFJ", MALE),
+            new Person(3L, "Hong", 20, "ESTJ", FEMALE),
+            new Person(4L, "Park", 24, "INFP", MALE),
+            new Person(5L, "Kang", 33, "ISTJ", FEMALE)
+    );
+
+    @DisplayName("peek(System.out::println) 대신 단계별 개수와 통과 비율을 기록한다.")
+    @Test
+    void recordStages() {
+        // given
+        PipelineMetrics metrics = new PipelineMetrics(1);
+        PipelineProbe probe = metrics.pipeline("averageMaleAge");
+
+        // when
+        double average = people.stream()
+                .peek(probe.peek("source"))
+                .filter(probe.filter("male", (Person p) -> p.getGender() == MALE))
+                .map(probe.map("age", Person::getAge))
+                .mapToInt(Integer::intValue)
+                .average()
+                .orElse(0.0);
+
+        // then
+        assertThat(average).isEqualTo(27.666666666666668);
+        PipelineSnapshot snapshot = metrics.snapshot().get(0);
+        assertThat(snapshot.pipeline()).isEqualTo("averageMaleAge");
+        assertThat(snapshot.stages())
+                .extracting(StageSnapshot::stage, StageSnapshot::sampledIn, StageSnapshot::sampledOut,
+                        StageSnapshot::selectivity)
+                .containsExactly(
+                        tuple("source", 5L, 5L, 1.0),
+                        tuple("male", 5L, 3L, 0.6),
+                        tuple("age", 3L, 3L, 1.0)
+                );
+    }
+
+    @DisplayName("샘플링이 꺼져 있으면 아무것도 기록하지 않는다.")
+    @Test
+    void disabled() {
+        // given
+        PipelineMetrics metrics = new PipelineMetrics();
+        PipelineProbe probe = metrics.pipeline("count20sPeople");
+        List<Person> printed = new ArrayList<>();
+
+        // when
+        people.stream()
+                .filter(probe.filter("20s", (Person p) -> p.getAge() >= 20 && p.getAge() < 30))
+                .forEach(probe.sink("print", printed::add));
+
+        // then
+        assertThat(printed).hasSize(3);
+        assertThat(metrics.isEnabled()).isFalse();
+        assertThat(metrics.snapshot().get(0).stages())
+                .extracting(StageSnapshot::sampledIn)
+                .containsExactly(0L, 0L);
+    }
+
+    @DisplayName("샘플링 간격이 N이면 대략 N개 중 1개를 측정하고 전체 개수를 추정한다.")
+    @Test
+    void sampling() {
+        // given
+        PipelineMetrics metrics = new PipelineMetrics(16);
+        PipelineProbe probe = metrics.pipeline("even");
+
+        // when
+        long count = IntStream.range(0, 1_000_000)
+                .parallel()
+                .filter(probe.filterRows("even", value -> value % 2 == 0))
+                .count();
+
+        // then
+        StageSnapshot stage = metrics.snapshot().get(0).stages().get(0);
+        assertThat(count).isEqualTo(500_000);
+        assertThat(stage.estimatedIn()).isBetween(900_000L, 1_100_000L);
+        assertThat(stage.selectivity()).isBetween(0.45, 0.55);
+    }
+
+    @DisplayName("샘플링 간격을 바꿔도 이전 샘플의 전체 개수 추정은 그때의 간격으로 남는다.")
+    @Test
+    void intervalChange() {
+        // given
+        PipelineMetrics metrics = new PipelineMetrics(1);
+        PipelineProbe probe = metrics.pipeline("source");
+        IntStream.range(0, 1_000).forEach(value -> probe.peek("source").accept(value));
+
+        // when
+        metrics.setSamplingInterval(1024);
+
+        // then
+        StageSnapshot stage = metrics.snapshot().get(0).stages().get(0);
+        assertThat(stage.sampledIn()).isEqualTo(1_000L);
+        assertThat(stage.estimatedIn()).isEqualTo(1_000L);
+    }
+
+    @DisplayName("reset은 측정값만 지우고, 샘플링 간격은 0 또는 2의 거듭제곱만 허용한다.")
+    @Test
+    void resetAndInterval() {
+        // given
+        PipelineMetrics metrics = new PipelineMetrics(1);
+        metrics.pipeline("p").peek("source").accept("x");
+
+        // when
+        metrics.reset();
+
+        // then
+        assertThat(metrics.snapshot().get(0).stages().get(0).sampledIn()).isZero();
+        assertThatThrownBy(() -> metrics.setSamplingInterval(3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
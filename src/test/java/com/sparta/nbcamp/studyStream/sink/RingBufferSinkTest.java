@@ -0,0 +1,279 @@
+package com.sparta.nbcamp.studyStream.sink;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.sparta.nbcamp.studyStream.support.AllocationAssertions.assertNoAllocationPerOp;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RingBufferSinkTest {
+
+    @DisplayName("System.out::println 자리에 Consumer<String>으로 그대로 쓸 수 있다.")
+    @Test
+    void dropInConsumer() throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+        RingBufferSink sink = RingBufferSink.builder(out).build();
+        Consumer<String> consumer = sink;
+
+        // when
+        Stream.of("Kim", "Lee", "Hong").forEach(consumer);
+        consumer.accept(null);
+        sink.close();
+
+        // then
+        assertThat(out.toString()).isEqualTo("Kim\nLee\nHong\nnull\n");
+        assertThat(sink.writtenCount()).isEqualTo(4);
+    }
+
+    @DisplayName("Line은 숫자를 String으로 바꾸지 않고 슬롯에 바로 기록한다.")
+    @Test
+    void formatPrimitives() throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+        RingBufferSink sink = RingBufferSink.builder(out).build();
+
+        // when
+        sink.line().append("age=").append(28).append(", avg=").append(27.666666, 2).commit();
+        sink.line().append(Long.MIN_VALUE).append(' ').append(-0.5, 2).append(' ').append(-0.001, 2)
+                .append(' ').append(3.0, 0).append(' ').append(1.05, 3).append(' ').append(true).commit();
+        sink.close();
+
+        // then
+        assertThat(out.toString().split("\n")).containsExactly(
+                "age=28, avg=27.67",
+                "-9223372036854775808 -0.50 0.00 3 1.050 true"
+        );
+    }
+
+    @DisplayName("slotSize보다 긴 메시지는 잘린다.")
+    @Test
+    void truncate() throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+        RingBufferSink sink = RingBufferSink.builder(out).slotSize(5).build();
+
+        // when
+        sink.accept("Hello, world");
+        sink.line().append("abc").append(123_456).commit();
+        sink.close();
+
+        // then
+        assertThat(out.toString()).isEqualTo("Hello\nabc12\n");
+    }
+
+    @DisplayName("BLOCK - 여러 스레드가 동시에 써도 메시지를 잃지 않는다.")
+    @Test
+    void blockPolicyKeepsEverything() throws Exception {
+        // given
+        StringWriter out = new StringWriter();
+        RingBufferSink sink = RingBufferSink.builder(out).capacity(64).policy(OverflowPolicy.BLOCK).build();
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int producer = t;
+            producers.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    sink.line().append(producer).append(':').append(i).commit();
+                }
+            }));
+        }
+
+        // when
+        producers.forEach(Thread::start);
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        sink.close();
+
+        // then
+        String[] lines = out.toString().split("\n");
+        assertThat(lines).hasSize(40_000);
+        assertThat(lines).contains("0:0", "1:9999", "3:5000");
+        assertThat(sink.droppedCount()).isZero();
+    }
+
+    @DisplayName("DROP - 가득 차면 기다리지 않고 버린다.")
+    @Test
+    void dropPolicy() throws IOException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        RingBufferSink sink = RingBufferSink.builder(new SlowWriter(release, 0))
+                .capacity(4)
+                .batchSize(1)
+                .policy(OverflowPolicy.DROP)
+                .build();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            sink.accept("message " + i);
+        }
+        release.countDown();
+        sink.close();
+
+        // then
+        assertThat(sink.droppedCount()).isPositive();
+        assertThat(sink.writtenCount() + sink.droppedCount()).isEqualTo(100);
+    }
+
+    @DisplayName("SAMPLE - 넘친 메시지 sampleRate개 중 1개는 기다려서 남긴다.")
+    @Test
+    void samplePolicy() throws IOException {
+        // given
+        RingBufferSink sink = RingBufferSink.builder(new SlowWriter(new CountDownLatch(0), 1))
+                .capacity(4)
+                .batchSize(1)
+                .policy(OverflowPolicy.SAMPLE)
+                .sampleRate(4)
+                .build();
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            sink.accept("message " + i);
+        }
+        sink.close();
+
+        // then
+        assertThat(sink.droppedCount()).isPositive();
+        assertThat(sink.writtenCount()).isGreaterThanOrEqualTo(200 / 4);
+        assertThat(sink.writtenCount() + sink.droppedCount()).isEqualTo(200);
+    }
+
+    @DisplayName("닫힌 뒤의 메시지는 버린다.")
+    @Test
+    void acceptAfterClose() throws IOException {
+        // given
+        RingBufferSink sink = RingBufferSink.builder(new StringWriter()).build();
+        sink.close();
+
+        // when
+        sink.accept("late");
+        sink.line().append("late").append(1).commit();
+
+        // then
+        assertThat(sink.droppedCount()).isEqualTo(2);
+        assertThat(sink.writtenCount()).isZero();
+    }
+
+    @DisplayName("commit하기 전에 같은 스레드에서 line()을 다시 호출할 수 없다.")
+    @Test
+    void nestedLine() throws IOException {
+        // given
+        RingBufferSink sink = RingBufferSink.builder(new StringWriter()).build();
+        RingBufferSink.Line line = sink.line().append("first");
+
+        // when, then
+        assertThatThrownBy(sink::line)
+                .isInstanceOf(IllegalStateException.class);
+        line.commit();
+        sink.close();
+    }
+
+    @DisplayName("line()과 commit() 사이에서 예외가 나도 Line을 닫으면 뒤의 메시지가 쓰이고 close()가 끝난다.")
+    @Test
+    void abortedLine() throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+        RingBufferSink sink = RingBufferSink.builder(out)
+                .capacity(4)
+                .policy(OverflowPolicy.BLOCK)
+                .build();
+
+        // when
+        assertThatThrownBy(() -> {
+            try (RingBufferSink.Line line = sink.line()) {
+                line.append("ratio=").append(1.0, 10).commit();
+            }
+        }).isInstanceOf(IllegalArgumentException.class);
+        for (int i = 0; i < 10; i++) {    // capacity보다 많이 써도 막히지 않는다.
+            sink.accept("message " + i);
+        }
+        sink.close();
+
+        // then
+        assertThat(out.toString().split("\n")).hasSize(10).startsWith("message 0").endsWith("message 9");
+        assertThat(sink.writtenCount()).isEqualTo(10);
+        assertThat(sink.droppedCount()).isEqualTo(1);
+    }
+
+    @DisplayName("commit되지 않은 Line이 남아 있으면 close()는 closeTimeout까지만 기다리고 예외를 던진다.")
+    @Test
+    void closeTimeout() {
+        // given
+        RingBufferSink sink = RingBufferSink.builder(new StringWriter())
+                .closeTimeout(Duration.ofMillis(100))
+                .build();
+        RingBufferSink.Line line = sink.line().append("never committed");
+
+        // when, then
+        assertThatThrownBy(sink::close)
+                .isInstanceOf(IOException.class);
+        line.close();
+    }
+
+    /**
+     * 호출한 스레드의 할당만 측정한다. (쓰기 스레드의 할당은 포함되지 않는다)
+     */
+    @DisplayName("Line으로 숫자를 기록할 때 호출한 스레드에서 할당이 발생하지 않는다.")
+    @Test
+    void lineDoesNotAllocate() throws IOException {
+        // given
+        int size = 10_000;
+        RingBufferSink sink = RingBufferSink.builder(Writer.nullWriter())
+                .capacity(1 << 14)
+                .policy(OverflowPolicy.BLOCK)
+                .build();
+        Runnable lines = () -> {
+            for (int i = 0; i < size; i++) {
+                sink.line().append("id=").append(1000L + i).append(", avg=").append(i / 3.0, 2).commit();
+            }
+        };
+
+        // when & then
+        assertNoAllocationPerOp(size, lines);    // 줄당 할당 없음
+        sink.close();
+        assertThat(sink.writtenCount()).isEqualTo(2L * size);
+    }
+
+    /**
+     * release 될 때까지 기다렸다가 쓰기마다 delayMillis 만큼 지연되는 Writer
+     */
+    private static class SlowWriter extends Writer {
+        private final CountDownLatch release;
+        private final long delayMillis;
+
+        SlowWriter(CountDownLatch release, long delayMillis) {
+            this.release = release;
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            try {
+                release.await();
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -150,6 +150,26 @@ public class OperationTest {
                 );
     }
 
+    @DisplayName("Stream의 Distinct는 equals/hashCode를 사용하므로 Long 캐시 범위를 넘는 id도 중복 제거되어야 한다.")
+    @Test
+    void useStreamDistinctLargeId() {
+        // given
+        List<Person> people = List.of(
+                new Person(1000L, "Kim", 28, "ENFP", MALE),
+                new Person(1000L, "Kim", 28, "ENFP", MALE),
+                new Person(2000L, "Lee", 31, "INFJ", MALE)
+        );
+
+        // when
+        List<Person> distinctPeople = people.stream()
+                .distinct()
+                .collect(Collectors.toList());
+
+        // then
+        assertThat(distinctPeople).extracting("id")
+                .containsExactly(1000L, 2000L);
+    }
+
     /**
      * Peak는 Stream에 영향을 주지 않고 특정 연산을 수행한다.
      * MapTo~ 는 기본 타입 Stream을
@@ -327,12 +347,12 @@ public class OperationTest {
                 return false;
 
             Person p = (Person) o;
-            return p.getId() == id;
+            return Objects.equals(p.getId(), id);   // Long을 == 로 비교하면 캐시 범위(-128 ~ 127)를 벗어난 id는 항상 false
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(id, name, age, mbti, gender);
+            return Objects.hashCode(id);    // equals와 같은 필드(id)만 사용
         }
 
         @Override
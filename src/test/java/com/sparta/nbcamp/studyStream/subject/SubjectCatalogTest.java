@@ -0,0 +1,137 @@
+package com.sparta.nbcamp.studyStream.subject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SubjectCatalogTest {
+
+    private final List<Subject> subjects = List.of(
+            new Subject("Java", 6),
+            new Subject("Spring Boot", 8),
+            new Subject("JavaScript", 4),
+            new Subject("JPA", 7),
+            new Subject("Spring", 7),
+            new Subject("java stream", 5),
+            new Subject("자바 입문", 1)
+    );
+
+    @DisplayName("제목 접두어로 과목을 찾는다. 대소문자를 구분하지 않고 제목순으로 리턴한다.")
+    @Test
+    void findByTitlePrefix() {
+        // given
+        SubjectCatalog catalog = SubjectCatalog.of(subjects);
+
+        // when
+        List<Subject> java = catalog.findByTitlePrefix("jAvA");
+        List<Subject> spring = catalog.findByTitlePrefix("spring ");
+
+        // then
+        assertThat(java).extracting("title").containsExactly("Java", "java stream", "JavaScript");
+        assertThat(spring).extracting("title").containsExactly("Spring Boot");
+        assertThat(catalog.findByTitlePrefix("자바")).extracting("level").containsExactly(1);
+        assertThat(catalog.findByTitlePrefix("Kotlin")).isEmpty();
+        assertThat(catalog.findByTitlePrefix("")).hasSize(subjects.size());
+        assertThat(catalog.countByTitlePrefix("j")).isEqualTo(4);
+    }
+
+    @DisplayName("자동완성 - 접두어로 시작하는 과목을 최대 limit 개 리턴한다.")
+    @Test
+    void autocomplete() {
+        // given
+        SubjectCatalog catalog = SubjectCatalog.of(subjects);
+
+        // when
+        List<Subject> result = catalog.autocomplete("j", 2);
+
+        // then
+        assertThat(result).extracting("title").containsExactly("Java", "java stream");
+        assertThat(catalog.autocomplete("j", 10)).hasSize(4);
+        assertThatThrownBy(() -> catalog.autocomplete("j", -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("from <= level < to 인 과목을 레벨순, 같은 레벨은 제목순으로 리턴한다.")
+    @Test
+    void findByLevel() {
+        // given
+        SubjectCatalog catalog = SubjectCatalog.of(subjects);
+
+        // when
+        List<Subject> result = catalog.findByLevel(5, 8);
+
+        // then
+        assertThat(result).extracting("title").containsExactly("java stream", "Java", "JPA", "Spring");
+        assertThat(catalog.countByLevel(5, 8)).isEqualTo(4);
+        assertThat(catalog.findByLevel(8, 100)).extracting("title").containsExactly("Spring Boot");
+        assertThat(catalog.findByLevel(9, 5)).isEmpty();
+        assertThatThrownBy(() -> result.add(new Subject("Kotlin", 5)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @DisplayName("레벨 값이 매우 커도 레벨 수만큼만 메모리를 쓰고 범위 검색 결과는 같다.")
+    @Test
+    void sparseLevels() {
+        // given
+        List<Subject> sparse = List.of(
+                new Subject("Java", 3),
+                new Subject("Kotlin", 1_000_000_000),
+                new Subject("Scala", Integer.MAX_VALUE),
+                new Subject("Spring", 3)
+        );
+
+        // when
+        SubjectCatalog catalog = SubjectCatalog.of(sparse);
+
+        // then
+        assertThat(catalog.findByLevel(0, 4)).extracting("title").containsExactly("Java", "Spring");
+        assertThat(catalog.findByLevel(4, Integer.MAX_VALUE)).extracting("title").containsExactly("Kotlin");
+        assertThat(catalog.findByLevel(1_000_000_000, Integer.MAX_VALUE)).extracting("title").containsExactly("Kotlin");
+        assertThat(catalog.countByLevel(Integer.MIN_VALUE, Integer.MAX_VALUE)).isEqualTo(3);
+        assertThat(catalog.countByLevel(Integer.MAX_VALUE, Integer.MAX_VALUE)).isZero();
+    }
+
+    @DisplayName("제목이나 레벨이 없는 과목은 IllegalArgumentException 으로 거절한다.")
+    @Test
+    void rejectsMissingFields() {
+        // when & then
+        assertThatThrownBy(() -> SubjectCatalog.of(List.of(new Subject(null, 1))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("제목");
+        assertThatThrownBy(() -> SubjectCatalog.of(List.of(new Subject("Java", null))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("레벨");
+        assertThatThrownBy(() -> SubjectCatalog.of(List.of(new Subject("Java", -1))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("무작위 제목에서도 스트림으로 훑어 거른 결과와 같다.")
+    @Test
+    void matchesStreamScan() {
+        // given
+        SplittableRandom random = new SplittableRandom(11);
+        List<Subject> randomSubjects = random.ints(2_000, 0, 1 << 16)
+                .mapToObj(i -> new Subject(Integer.toString(i, 4), i % 10))
+                .toList();
+        SubjectCatalog catalog = SubjectCatalog.of(randomSubjects);
+
+        for (String prefix : List.of("", "1", "12", "123", "3210", "99")) {
+            // when
+            List<Subject> result = catalog.findByTitlePrefix(prefix);
+
+            // then
+            assertThat(result).containsExactlyInAnyOrderElementsOf(randomSubjects.stream()
+                    .filter(subject -> subject.getTitle().startsWith(prefix))
+                    .collect(Collectors.toList()));
+        }
+        assertThat(catalog.findByLevel(3, 6)).containsExactlyInAnyOrderElementsOf(randomSubjects.stream()
+                .filter(subject -> subject.getLevel() >= 3 && subject.getLevel() < 6)
+                .toList());
+    }
+}
@@ -0,0 +1,42 @@
+package com.sparta.nbcamp.studyStream.support;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스레드별 할당 바이트(com.sun.management.ThreadMXBean)로 할당을 검사하는 테스트 도우미.
+ * 호출한 스레드의 할당만 측정하므로 다른 스레드(쓰기 스레드, 풀 워커)의 할당은 포함되지 않는다.
+ */
+public final class AllocationAssertions {
+    private static final ThreadMXBean THREAD_MX_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationAssertions() {
+    }
+
+    /**
+     * body 를 한 번 실행해 JIT를 데운 뒤 다시 실행하며 할당을 잰다.
+     * ops 번의 연산을 하는 body 가 ops 바이트 미만을 할당해야 한다. (연산당 1바이트 미만 = 연산당 할당 없음)
+     */
+    public static void assertNoAllocationPerOp(int ops, Runnable body) {
+        body.run();    // 워밍업
+
+        long allocated = allocatedBytes(body);
+
+        assertThat(allocated)
+                .as("%d번 연산에서 할당한 바이트", ops)
+                .isLessThan(ops);
+    }
+
+    /**
+     * 현재 스레드에서 body 를 한 번 실행하는 동안 할당한 바이트
+     */
+    public static long allocatedBytes(Runnable body) {
+        long threadId = Thread.currentThread().threadId();
+        long before = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        body.run();
+        return THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - before;
+    }
+}
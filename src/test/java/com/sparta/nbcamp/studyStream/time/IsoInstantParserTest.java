@@ -0,0 +1,128 @@
+package com.sparta.nbcamp.studyStream.time;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static com.sparta.nbcamp.studyStream.support.AllocationAssertions.assertNoAllocationPerOp;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IsoInstantParserTest {
+
+    @DisplayName("Instant.parse 와 같은 epoch milli 를 리턴한다.")
+    @Test
+    void parseEpochMilli() {
+        // given
+        String[] texts = {
+                "2024-05-27T14:26:50.000Z",
+                "1970-01-01T00:00:00Z",
+                "1969-12-31T23:59:59.999999999Z",
+                "0000-03-01T00:00:00Z",
+                "9999-12-31T23:59:59.123456789Z",
+                "2024-02-29t12:00:00.5z",
+                "2024-06-27T19:34:50+09:00",
+                "2024-06-27T19:34:50.25-03:30:15",
+                "2016-12-31T23:59:60Z",
+                "2024-05-27T24:00:00Z",
+                "2024-05-27T14:26:50.Z",
+                "2024-01-01T00:00:00+18:00",
+                "2024-01-01T00:00:00-18:00"
+        };
+
+        for (String text : texts) {
+            // when
+            long epochMilli = IsoInstantParser.parseEpochMilli(text);
+
+            // then
+            assertThat(epochMilli).as(text).isEqualTo(Instant.parse(text).toEpochMilli());
+        }
+    }
+
+    @DisplayName("무작위 시각을 문자열로 바꿨다가 다시 읽어도 같은 값이 나온다.")
+    @Test
+    void roundTrip() {
+        // given
+        SplittableRandom random = new SplittableRandom(7);
+        long min = Instant.parse("0000-01-01T00:00:00Z").toEpochMilli();
+        long max = Instant.parse("9999-12-31T23:59:59.999Z").toEpochMilli();
+
+        for (int i = 0; i < 10_000; i++) {
+            Instant instant = Instant.ofEpochMilli(random.nextLong(min, max));
+
+            // when
+            long epochMilli = IsoInstantParser.parseEpochMilli(instant.toString());
+            long epochSecond = IsoInstantParser.parseEpochSecond(instant.toString());
+
+            // then
+            assertThat(epochMilli).isEqualTo(instant.toEpochMilli());
+            assertThat(epochSecond).isEqualTo(instant.getEpochSecond());
+        }
+    }
+
+    @DisplayName("CharSequence / byte[] 의 일부 범위만 읽을 수 있다.")
+    @Test
+    void parseRange() {
+        // given
+        String line = "{\"at\":\"2024-05-27T14:26:50.000Z\",\"name\":\"Kim\"}";
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        int start = line.indexOf("2024");
+        int end = start + "2024-05-27T14:26:50.000Z".length();
+
+        // when
+        long fromText = IsoInstantParser.parseEpochMilli(line, start, end);
+        long fromBytes = IsoInstantParser.parseEpochMilli(bytes, start, end - start);
+
+        // then
+        long expected = Instant.parse("2024-05-27T14:26:50.000Z").toEpochMilli();
+        assertThat(fromText).isEqualTo(expected);
+        assertThat(fromBytes).isEqualTo(expected);
+    }
+
+    @DisplayName("형식이 잘못되면 Instant.parse 처럼 DateTimeParseException 을 던진다.")
+    @Test
+    void invalid() {
+        // given
+        String[] texts = {
+                "", "2024-05-27", "2024-05-27T14:26:50", "2024-05-27 14:26:50Z", "2024-13-01T00:00:00Z",
+                "2023-02-29T00:00:00Z", "2024-05-27T14:61:00Z", "2024-05-27T14:26:50ZZ",
+                "2024-05-27T24:00:01Z", "2024-05-27T14:26:50+19:00", "２０24-05-27T14:26:50Z",
+                "2024-05-27T12:30:60Z", "2024-01-01T00:00:00+18:30", "2024-01-01T00:00:00-18:00:01"
+        };
+
+        for (String text : texts) {
+            // when & then
+            assertThatThrownBy(() -> IsoInstantParser.parseEpochMilli(text))
+                    .as(text)
+                    .isInstanceOf(DateTimeParseException.class);
+            assertThatThrownBy(() -> Instant.parse(text))
+                    .as(text)
+                    .isInstanceOf(DateTimeParseException.class);
+        }
+    }
+
+    @DisplayName("파싱할 때 객체를 만들지 않는다.")
+    @Test
+    void noAllocation() {
+        // given
+        String[] texts = new String[10_000];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = Instant.ofEpochSecond(1_700_000_000L + i * 3_607L, i * 1_000_000L).toString();
+        }
+        long[] sum = new long[1];
+
+        // when & then
+        assertNoAllocationPerOp(texts.length, () -> {
+            for (String text : texts) {
+                sum[0] += IsoInstantParser.parseEpochMilli(text);
+            }
+        });
+        long expected = Arrays.stream(texts).mapToLong(text -> Instant.parse(text).toEpochMilli()).sum();
+        assertThat(sum[0]).isEqualTo(2 * expected);
+    }
+}
@@ -0,0 +1,108 @@
+package com.sparta.nbcamp.studyStream.time;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeIndexTest {
+
+    private final List<String> events = List.of(
+            "2024-05-27T14:26:50.000Z",
+            "2024-06-27T19:34:50.000Z",
+            "2024-05-24T19:34:50.000Z",
+            "2024-05-27T14:26:50.000Z",
+            "2024-05-30T00:00:00.000Z"
+    );
+
+    @DisplayName("기준 시각보다 늦은 / 이른 레코드를 시각 순서로 찾는다. 기준과 같은 시각은 둘 다에서 빠진다.")
+    @Test
+    void afterAndBefore() {
+        // given
+        TimeIndex index = TimeIndex.of(events, IsoInstantParser::parseEpochMilli);
+        Instant target = Instant.parse("2024-05-27T14:26:50.000Z");
+
+        // when
+        int[] after = index.after(target);
+        int[] before = index.before(target);
+
+        // then
+        assertThat(after).containsExactly(4, 1);
+        assertThat(before).containsExactly(2);
+        assertThat(index.countAfter(target.toEpochMilli())).isEqualTo(2);
+        assertThat(index.countBefore(target.toEpochMilli())).isEqualTo(1);
+    }
+
+    @DisplayName("from <= 시각 < to 범위를 찾고, 같은 시각은 레코드 번호 순서를 유지한다.")
+    @Test
+    void between() {
+        // given
+        TimeIndex index = TimeIndex.of(events, IsoInstantParser::parseEpochMilli);
+        long from = IsoInstantParser.parseEpochMilli("2024-05-27T00:00:00Z");
+        long to = IsoInstantParser.parseEpochMilli("2024-05-30T00:00:00Z");
+        List<Integer> visited = new ArrayList<>();
+
+        // when
+        int[] rows = index.between(from, to);
+        index.forEachBetween(from, to, visited::add);
+
+        // then
+        assertThat(rows).containsExactly(0, 3);
+        assertThat(visited).containsExactly(0, 3);
+        assertThat(index.countBetween(from, to)).isEqualTo(2);
+        assertThat(index.between(to, from)).isEmpty();
+        assertThat(index.first()).isEqualTo(Instant.parse("2024-05-24T19:34:50.000Z").toEpochMilli());
+    }
+
+    @DisplayName("Instant 기준 시각에 밀리초 아래 자리가 있어도 isBefore / isAfter 와 같은 결과를 리턴한다.")
+    @Test
+    void subMillisecondBounds() {
+        // given
+        TimeIndex index = TimeIndex.of(events, IsoInstantParser::parseEpochMilli);
+        Instant target = Instant.parse("2024-05-27T14:26:50.000500Z");
+        Instant from = Instant.parse("2024-05-27T14:26:50.000500Z");
+        Instant to = Instant.parse("2024-05-30T00:00:00.000001Z");
+
+        // when
+        int[] before = index.before(target);
+        int[] after = index.after(target);
+        int[] between = index.between(from, to);
+
+        // then
+        assertThat(before).containsExactly(2, 0, 3);
+        assertThat(after).containsExactly(4, 1);
+        assertThat(between).containsExactly(4);
+    }
+
+    @DisplayName("무작위 시각에서도 전체를 훑어 거른 결과와 같다.")
+    @Test
+    void matchesLinearScan() {
+        // given
+        SplittableRandom random = new SplittableRandom(3);
+        long[] times = random.longs(5_000, 0, 1_000).toArray();
+        TimeIndex index = TimeIndex.of(times);
+
+        for (int i = 0; i < 100; i++) {
+            long from = random.nextLong(0, 1_000);
+            long to = random.nextLong(0, 1_000);
+
+            // when
+            int[] rows = index.between(from, to);
+
+            // then
+            int[] expected = IntStream.range(0, times.length)
+                    .filter(row -> times[row] >= from && times[row] < to)
+                    .boxed()
+                    .sorted((a, b) -> Long.compare(times[a], times[b]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            assertThat(rows).containsExactly(expected);
+        }
+    }
+}
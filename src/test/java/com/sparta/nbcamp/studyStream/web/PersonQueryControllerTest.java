@@ -0,0 +1,131 @@
+package com.sparta.nbcamp.studyStream.web;
+
+import com.sparta.nbcamp.studyStream.person.Person;
+import com.sparta.nbcamp.studyStream.person.store.MappedPersonFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.sparta.nbcamp.studyStream.person.Gender.FEMALE;
+import static com.sparta.nbcamp.studyStream.person.Gender.MALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PersonQueryControllerTest {
+
+    private static final List<Person> PEOPLE = List.of(
+            new Person(1L, "Kim", 28, "ENFP", MALE),
+            new Person(2L, "Lee", 31, "INFJ", MALE),
+            new Person(3L, "Choi", 20, "ESTJ", FEMALE),
+            new Person(4L, "Park", 24, "INFP", MALE),
+            new Person(5L, "Kang", 33, "ISTJ", FEMALE),
+            new Person(6L, "Jung", 26, "ENTP", MALE)
+    );
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void peopleFile(DynamicPropertyRegistry registry) throws IOException {
+        Path path = Files.createTempFile("people", ".bin");
+        path.toFile().deleteOnExit();
+        MappedPersonFile.write(path, PEOPLE);
+        registry.add("study-stream.people.file", path::toString);
+    }
+
+    @DisplayName("조건에 맞는 Person을 한 줄에 하나씩 NDJSON으로 스트리밍한다.")
+    @Test
+    void streamPeople() throws Exception {
+        // when
+        List<String> lines = ndjson("/people?toAge=30&mbti=EN&gender=male");
+
+        // then
+        assertThat(lines).containsExactly(
+                "{\"id\":1,\"name\":\"Kim\",\"age\":28,\"mbti\":\"ENFP\",\"gender\":\"MALE\"}",
+                "{\"id\":6,\"name\":\"Jung\",\"age\":26,\"mbti\":\"ENTP\",\"gender\":\"MALE\"}"
+        );
+    }
+
+    @DisplayName("sort=age 이면 나이 오름차순으로 스트리밍한다.")
+    @Test
+    void streamPeopleSortedByAge() throws Exception {
+        // when
+        List<String> lines = ndjson("/people?sort=age&fromAge=21");
+
+        // then
+        assertThat(lines).extracting(line -> line.substring(0, line.indexOf(',')))
+                .containsExactly("{\"id\":4", "{\"id\":6", "{\"id\":1", "{\"id\":2", "{\"id\":5");
+    }
+
+    @DisplayName("그룹별 인원을 NDJSON으로 스트리밍한다.")
+    @Test
+    void streamGroups() throws Exception {
+        // when
+        List<String> byGender = ndjson("/people/groups?by=gender");
+        List<String> byDecade = ndjson("/people/groups?by=decade&mbti=I");
+
+        // then
+        assertThat(byGender).containsExactly(
+                "{\"key\":\"MALE\",\"count\":4}",
+                "{\"key\":\"FEMALE\",\"count\":2}"
+        );
+        assertThat(byDecade).containsExactly(
+                "{\"key\":\"20\",\"count\":1}",
+                "{\"key\":\"30\",\"count\":2}"
+        );
+    }
+
+    @DisplayName("요청한 집계를 JSON 객체 하나로 응답한다.")
+    @Test
+    void stats() throws Exception {
+        mockMvc.perform(get("/people/stats").param("aggregates", "MIN,MAX,MEAN").param("gender", "FEMALE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(2))
+                .andExpect(jsonPath("$.min").value(20))
+                .andExpect(jsonPath("$.max").value(33))
+                .andExpect(jsonPath("$.average").value(26.5));
+    }
+
+    @DisplayName("잘못된 조건은 400으로 응답한다.")
+    @Test
+    void badRequest() throws Exception {
+        mockMvc.perform(get("/people").param("mbti", "EI"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/people/groups").param("by", "name"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<String> ndjson(String uri) throws Exception {
+        MvcResult result = mockMvc.perform(get(uri))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+        return body.lines().toList();
+    }
+}
@@ -0,0 +1,90 @@
+package com.sparta.nbcamp.studyStream.web;
+
+import com.sparta.nbcamp.studyStream.person.Gender;
+import com.sparta.nbcamp.studyStream.person.Mbti;
+import com.sparta.nbcamp.studyStream.person.PersonTable;
+import com.sparta.nbcamp.studyStream.person.aggregate.Aggregate;
+import com.sparta.nbcamp.studyStream.person.aggregate.PersonStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersonScannerTest {
+
+    private final Set<Aggregate> aggregates = EnumSet.of(Aggregate.SUM, Aggregate.MIN, Aggregate.MAX,
+            Aggregate.AGE_HISTOGRAM, Aggregate.MBTI_COUNTS);
+
+    @DisplayName("구간을 나눠 집계한 결과는 한 번에 스캔한 결과와 같다.")
+    @Test
+    void partitionedStatistics() {
+        // given
+        PersonTable table = table(PersonScanner.MIN_PARTITION_ROWS * 3 + 123);
+        IntPredicate thirties = row -> table.age(row) >= 30 && table.age(row) < 40;
+        PersonStatistics expected = new PersonStatistics(aggregates);
+        table.forEachRow(thirties, row -> expected.accept(table, row));
+
+        // when
+        PersonStatistics platform;
+        PersonStatistics virtual;
+        try (PersonScanner scanner = new PersonScanner(table, QueryExecutors.create(false, 2), 4)) {
+            platform = scanner.statistics(thirties, aggregates);
+        }
+        try (PersonScanner scanner = new PersonScanner(table, QueryExecutors.create(true, 0), 4)) {
+            virtual = scanner.statistics(thirties, aggregates);
+        }
+
+        // then
+        for (PersonStatistics actual : new PersonStatistics[]{platform, virtual}) {
+            assertThat(actual.getCount()).isEqualTo(expected.getCount());
+            assertThat(actual.getSum()).isEqualTo(expected.getSum());
+            assertThat(actual.getMin()).isEqualTo(30);
+            assertThat(actual.getMax()).isEqualTo(39);
+            assertThat(actual.getAgeHistogram()).containsExactly(expected.getAgeHistogram());
+            assertThat(actual.getMbtiCounts()).isEqualTo(expected.getMbtiCounts());
+        }
+    }
+
+    @DisplayName("삭제된 행은 집계하지 않는다.")
+    @Test
+    void skipDeletedRows() {
+        // given
+        PersonTable table = table(PersonScanner.MIN_PARTITION_ROWS * 2);
+        long before = table.count(row -> true);
+        table.remove(0);
+        table.remove(table.rowCount() - 1);
+
+        // when
+        PersonStatistics statistics;
+        try (PersonScanner scanner = new PersonScanner(table, QueryExecutors.create(true, 0), 2)) {
+            statistics = scanner.statistics(row -> true, EnumSet.of(Aggregate.COUNT));
+        }
+
+        // then
+        assertThat(statistics.getCount()).isEqualTo(before - 2);
+    }
+
+    @DisplayName("실행 모드에 따라 가상 스레드 또는 플랫폼 스레드에서 실행한다.")
+    @Test
+    void executionMode() throws Exception {
+        try (var virtual = QueryExecutors.create(true, 0);
+             var platform = QueryExecutors.create(false, 1)) {
+            assertThat(virtual.submit(() -> Thread.currentThread().isVirtual()).get()).isTrue();
+            assertThat(platform.submit(() -> Thread.currentThread().isVirtual()).get()).isFalse();
+        }
+    }
+
+    private static PersonTable table(int size) {
+        PersonTable table = new PersonTable();
+        Mbti[] types = Mbti.values();
+        for (int i = 0; i < size; i++) {
+            table.add(i, "P" + (i % 100), 10 + (i * 7) % 60, types[i % types.length].name(),
+                    i % 3 == 0 ? Gender.FEMALE : Gender.MALE);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,60 @@
+package com.sparta.nbcamp.studyStream.web;
+
+import com.sparta.nbcamp.studyStream.pipeline.PipelineMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PipelineMetricsControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    PipelineMetrics metrics;
+
+    @AfterEach
+    void tearDown() {
+        metrics.setSamplingInterval(0);
+        metrics.reset();
+    }
+
+    @DisplayName("샘플링을 켜면 조회 조건 단계의 측정값이 기록된다.")
+    @Test
+    void recordQueryStages() throws Exception {
+        // given
+        mockMvc.perform(put("/metrics/pipelines/sampling").param("interval", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.samplingInterval").value(1));
+        metrics.pipeline("test").filter("all", value -> true).test("x");
+
+        // when, then
+        mockMvc.perform(get("/metrics/pipelines"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.pipeline == 'test')].stages[0].sampledIn").value(1));
+
+        mockMvc.perform(delete("/metrics/pipelines"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/metrics/pipelines"))
+                .andExpect(jsonPath("$[?(@.pipeline == 'test')].stages[0].sampledIn").value(0));
+    }
+
+    @DisplayName("샘플링 간격이 2의 거듭제곱이 아니면 400으로 응답한다.")
+    @Test
+    void invalidInterval() throws Exception {
+        mockMvc.perform(put("/metrics/pipelines/sampling").param("interval", "10"))
+                .andExpect(status().isBadRequest());
+    }
+}